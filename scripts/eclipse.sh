@@ -0,0 +1,19 @@
+#!/usr/bin/env bash
+
+# Launches the shadow jar with its AppCDS archive, made by ./gradlew shadowJar cdsArchive,
+# and with only the C1 compiler, which starts compiling sooner than the default tiered compilation.
+# Runs in the current directory, so that the task list is read from ./data, and passes every argument on.
+# Without an archive it launches the jar as usual. An archive made for an older jar is ignored with a warning,
+# so run ./gradlew cdsArchive again after rebuilding the jar.
+
+LIBS_DIR="$(cd "$(dirname "$0")/../build/libs" && pwd)"
+JAR="$LIBS_DIR/Eclipse.jar"
+ARCHIVE="$LIBS_DIR/Eclipse.jsa"
+
+JVM_FLAGS=(-XX:TieredStopAtLevel=1)
+if [ -f "$ARCHIVE" ]
+then
+    JVM_FLAGS+=("-XX:SharedArchiveFile=$ARCHIVE")
+fi
+
+exec java "${JVM_FLAGS[@]}" -jar "$JAR" "$@"
@@ -0,0 +1,138 @@
+package eclipse.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates load against a server started with <code>--server PORT</code>.
+ * First opens many idle sessions and keeps them connected, then runs active sessions concurrently,
+ * each sending a mix of adds, deletes, marks, finds and short listings followed by <code>bye</code>,
+ * and reports the command throughput while the idle sessions are still held.
+ * Commands are pipelined, so the throughput is that of the server rather than of network round trips.
+ * Run with <code>./gradlew bench -Pbenchmark=LoadClient -PbenchmarkArgs="PORT [IDLE [ACTIVE [COMMANDS]]]"</code>.
+ */
+public class LoadClient {
+    private static final int DEFAULT_IDLE_SESSIONS = 2_000;
+    private static final int DEFAULT_ACTIVE_SESSIONS = 50;
+    private static final int DEFAULT_COMMANDS_PER_SESSION = 2_000;
+
+    /**
+     * Runs the load and prints a summary.
+     *
+     * @param args The server port, then optionally the number of idle sessions, of active sessions,
+     *             and of commands each active session sends.
+     * @throws Exception If a session cannot connect or fails.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: LoadClient PORT [IDLE_SESSIONS [ACTIVE_SESSIONS [COMMANDS_PER_SESSION]]]");
+            return;
+        }
+        int port = Integer.parseInt(args[0]);
+        int idleSessionCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_IDLE_SESSIONS;
+        int activeSessionCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ACTIVE_SESSIONS;
+        int commandCount = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_COMMANDS_PER_SESSION;
+
+        long connectStartTime = System.nanoTime();
+        List<Socket> idleSessions = new ArrayList<>(idleSessionCount);
+        for (int sessionIdx = 0; sessionIdx < idleSessionCount; sessionIdx++) {
+            idleSessions.add(new Socket(InetAddress.getLoopbackAddress(), port));
+        }
+        System.out.printf(
+                "Opened %,d idle sessions in %,d ms%n",
+                idleSessionCount,
+                (System.nanoTime() - connectStartTime) / 1_000_000
+        );
+
+        AtomicLong receivedBytes = new AtomicLong();
+        List<Thread> activeSessions = new ArrayList<>(activeSessionCount);
+        long startTime = System.nanoTime();
+        for (int sessionIdx = 0; sessionIdx < activeSessionCount; sessionIdx++) {
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            int seed = sessionIdx;
+            Thread session = new Thread(() -> runActiveSession(socket, seed, commandCount, receivedBytes));
+            session.start();
+            activeSessions.add(session);
+        }
+        for (Thread session : activeSessions) {
+            session.join();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        long totalCommands = (long) activeSessionCount * commandCount;
+        System.out.printf(
+                "Ran %,d commands over %d active sessions in %,d ms: %,.0f commands/s, %,d bytes received%n",
+                totalCommands,
+                activeSessionCount,
+                elapsedNanos / 1_000_000,
+                totalCommands * 1e9 / elapsedNanos,
+                receivedBytes.get()
+        );
+
+        for (Socket socket : idleSessions) {
+            socket.close();
+        }
+    }
+
+    /**
+     * Sends the commands of one session on a separate thread while reading every response until the server
+     * closes the connection after <code>bye</code>, so neither side blocks on a full socket buffer.
+     */
+    private static void runActiveSession(Socket socket, int seed, int commandCount, AtomicLong receivedBytes) {
+        Thread writer = new Thread(() -> {
+            try {
+                OutputStream out = socket.getOutputStream();
+                Random random = new Random(seed);
+                StringBuilder commands = new StringBuilder();
+                for (int commandIdx = 0; commandIdx < commandCount; commandIdx++) {
+                    commands.append(nextCommand(random, seed, commandIdx)).append('\n');
+                }
+                commands.append("bye\n");
+                out.write(commands.toString().getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            } catch (IOException e) {
+                throw new IllegalStateException("Session " + seed + " failed to send", e);
+            }
+        });
+        writer.start();
+
+        try (socket) {
+            InputStream in = socket.getInputStream();
+            byte[] buffer = new byte[64 * 1024];
+            int readCount;
+            while ((readCount = in.read(buffer)) != -1) {
+                receivedBytes.addAndGet(readCount);
+            }
+            writer.join();
+        } catch (IOException | InterruptedException e) {
+            throw new IllegalStateException("Session " + seed + " failed to receive", e);
+        }
+    }
+
+    /**
+     * Returns a command of the mix: 40% todos, 20% deletes of the first task, 20% finds,
+     * 10% marks and 10% listings of a short page.
+     */
+    private static String nextCommand(Random random, int seed, int commandIdx) {
+        int choice = random.nextInt(10);
+        if (choice < 4) {
+            return "todo load task " + seed + "-" + commandIdx;
+        } else if (choice < 6) {
+            return "delete 1";
+        } else if (choice < 8) {
+            return "find -w task " + seed;
+        } else if (choice < 9) {
+            return "mark 1";
+        } else {
+            return "list --limit 10";
+        }
+    }
+}
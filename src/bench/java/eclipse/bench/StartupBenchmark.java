@@ -0,0 +1,169 @@
+package eclipse.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures how long the shadow jar takes from launch to its first prompt, and to the result of its first command,
+ * over task files of different sizes, launched as is, with the AppCDS archive made by
+ * <code>./gradlew cdsArchive</code>, and with the JVM flags of <code>scripts/eclipse.sh</code>.
+ * Each launch is a new JVM in a directory of its own, which runs <code>list 1</code> then <code>bye</code>,
+ * and the median of several launches is reported.
+ * Run with <code>./gradlew shadowJar cdsArchive bench -Pbenchmark=StartupBenchmark</code>,
+ * optionally with <code>-PbenchmarkArgs="JAR ARCHIVE"</code> to launch another jar and archive.
+ */
+public class StartupBenchmark {
+    private static final int[] TASK_COUNTS = {0, 10_000, 1_000_000};
+    private static final int RUNS = 5;
+    private static final String HORIZONTAL_LINE = "____________________________________________________________";
+
+    /**
+     * The JVM flags of <code>scripts/eclipse.sh</code>, besides the archive.
+     */
+    private static final List<String> LAUNCHER_FLAGS = List.of("-XX:TieredStopAtLevel=1");
+
+    /**
+     * Runs the benchmark and prints the median times of each task count and launch profile.
+     *
+     * @param args The shadow jar and its AppCDS archive,
+     *             <code>build/libs/Eclipse.jar</code> and <code>build/libs/Eclipse.jsa</code> unless given.
+     * @throws IOException          If a task file cannot be written or a JVM cannot be launched.
+     * @throws InterruptedException If interrupted while waiting for a JVM to exit.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path jarPath = Path.of(args.length > 0 ? args[0] : "build/libs/Eclipse.jar").toAbsolutePath();
+        Path archivePath = Path.of(args.length > 1 ? args[1] : "build/libs/Eclipse.jsa").toAbsolutePath();
+        if (!Files.exists(jarPath)) {
+            System.out.println("No jar at " + jarPath + ", build it with ./gradlew shadowJar");
+            return;
+        }
+
+        List<String> profileNames = new ArrayList<>(List.of("java -jar"));
+        List<List<String>> profileFlags = new ArrayList<>(List.of(List.of()));
+        if (Files.exists(archivePath)) {
+            String archiveFlag = "-XX:SharedArchiveFile=" + archivePath;
+            profileNames.add("AppCDS");
+            profileFlags.add(List.of(archiveFlag));
+            profileNames.add("AppCDS, scripts/eclipse.sh");
+            List<String> launcherFlags = new ArrayList<>(List.of(archiveFlag));
+            launcherFlags.addAll(LAUNCHER_FLAGS);
+            profileFlags.add(launcherFlags);
+        } else {
+            System.out.println("No archive at " + archivePath + ", build it with ./gradlew cdsArchive");
+        }
+
+        System.out.printf("%-10s %-28s %14s %14s%n", "Tasks", "Launch", "first prompt", "first result");
+        for (int taskCount : TASK_COUNTS) {
+            Path dirPath = Files.createTempDirectory("eclipse-startup");
+            writeTaskFile(dirPath.resolve("data"), taskCount);
+
+            for (int profileIdx = 0; profileIdx < profileNames.size(); profileIdx++) {
+                long[] promptNanos = new long[RUNS];
+                long[] resultNanos = new long[RUNS];
+                for (int runIdx = 0; runIdx < RUNS; runIdx++) {
+                    long[] times = launch(jarPath, profileFlags.get(profileIdx), dirPath);
+                    promptNanos[runIdx] = times[0];
+                    resultNanos[runIdx] = times[1];
+                }
+                System.out.printf(
+                        "%,-10d %-28s %11.1f ms %11.1f ms%n",
+                        taskCount,
+                        profileNames.get(profileIdx),
+                        median(promptNanos) / 1e6,
+                        median(resultNanos) / 1e6
+                );
+            }
+        }
+    }
+
+    /**
+     * Writes a task file of todos, deadlines and events in turn, a tenth of them done.
+     */
+    private static void writeTaskFile(Path dataDirPath, int taskCount) throws IOException {
+        Files.createDirectories(dataDirPath);
+        StringBuilder content = new StringBuilder();
+        for (int taskIdx = 0; taskIdx < taskCount; taskIdx++) {
+            String isDone = taskIdx % 10 == 0 ? "1" : "0";
+            switch (taskIdx % 3) {
+            case 0:
+                content.append("T | ").append(isDone).append(" | read chapter ").append(taskIdx).append('\n');
+                break;
+            case 1:
+                content.append("D | ").append(isDone).append(" | return book ").append(taskIdx)
+                        .append(" | 2024-12-01\n");
+                break;
+            default:
+                content.append("E | ").append(isDone).append(" | project meeting ").append(taskIdx)
+                        .append(" | 2024-12-01=>2024-12-02\n");
+                break;
+            }
+        }
+        Files.writeString(dataDirPath.resolve("tasks.txt"), content);
+    }
+
+    /**
+     * Launches the jar once, and returns the nanoseconds from launch to the end of the greeting
+     * and to the end of the output of <code>list 1</code>.
+     */
+    private static long[] launch(Path jarPath, List<String> flags, Path dirPath)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(flags);
+        command.add("-jar");
+        command.add(jarPath.toString());
+
+        long startTime = System.nanoTime();
+        Process process = new ProcessBuilder(command).directory(dirPath.toFile()).redirectErrorStream(true).start();
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+             Writer input = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8)) {
+            // The greeting and every command output are enclosed between two horizontal lines
+            skipPastBorders(output, 2);
+            long promptNanos = System.nanoTime() - startTime;
+
+            input.write("list 1\n");
+            input.flush();
+            skipPastBorders(output, 2);
+            long resultNanos = System.nanoTime() - startTime;
+
+            input.write("bye\n");
+            input.flush();
+            while (output.readLine() != null) {
+                // Drains the farewell until the JVM exits
+            }
+            process.waitFor();
+            return new long[] {promptNanos, resultNanos};
+        } finally {
+            process.destroy();
+        }
+    }
+
+    private static void skipPastBorders(BufferedReader output, int borderCount) throws IOException {
+        int seenCount = 0;
+        while (seenCount < borderCount) {
+            String line = output.readLine();
+            if (line == null) {
+                throw new IOException("The application exited before printing its output");
+            }
+            if (line.trim().equals(HORIZONTAL_LINE)) {
+                seenCount++;
+            }
+        }
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
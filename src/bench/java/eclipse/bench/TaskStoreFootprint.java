@@ -0,0 +1,117 @@
+package eclipse.bench;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import eclipse.TaskList;
+import eclipse.backend.ColumnarTaskStore;
+import eclipse.backend.ObjectTaskStore;
+import eclipse.backend.SnapshotTaskStore;
+import eclipse.backend.TaskStore;
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+/**
+ * Compares the memory taken by the task store backends, on their own and behind a full task list,
+ * which also keeps the query indexes when the store allows it.
+ * The footprint is the growth of the used heap after a full collection, divided by the number of tasks,
+ * so it counts everything reachable from the store, including descriptions and dates.
+ * It is shown next to the estimate of {@link TaskStore#estimateMemoryBytes()}.
+ * The time taken to iterate over the stores is measured by the JMH <code>TaskStoreBenchmark</code>.
+ * Run with <code>./gradlew bench -Pbenchmark=TaskStoreFootprint</code>.
+ */
+public class TaskStoreFootprint {
+    private static final int TASK_COUNT = 1_000_000;
+    private static final String[] WORDS = {
+        "read", "book", "return", "library", "meeting", "project", "team", "submit", "report", "buy", "milk", "call"
+    };
+
+    /**
+     * Runs the benchmark and prints one line per backend.
+     *
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        report("ObjectTaskStore", () -> fill(new ObjectTaskStore(), createTasks()));
+        report("ColumnarTaskStore", () -> fill(new ColumnarTaskStore(), createTasks()));
+        report("SnapshotTaskStore", () -> fill(new SnapshotTaskStore(), createTasks()));
+        report("TaskList, objects", () -> {
+            TaskList taskList = new TaskList(createTasks(), new ObjectTaskStore());
+            taskList.buildIndexes();
+            return taskList;
+        });
+        report("TaskList, columnar", () -> new TaskList(createTasks(), new ColumnarTaskStore()));
+    }
+
+    /**
+     * Creates a mix of todos, deadlines and events with short descriptions, about a third of them done.
+     * Every call creates new tasks, so that backends keeping the objects do not share them with each other.
+     */
+    private static List<Task> createTasks() {
+        Random random = new Random(42);
+        LocalDate firstDate = LocalDate.of(2025, 1, 1);
+        List<Task> tasks = new ArrayList<>(TASK_COUNT);
+
+        for (int taskIdx = 0; taskIdx < TASK_COUNT; taskIdx++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + taskIdx;
+            boolean isDone = random.nextInt(3) == 0;
+            LocalDate date = firstDate.plusDays(random.nextInt(365));
+
+            switch (taskIdx % 3) {
+            case 0:
+                tasks.add(new Todo(description, isDone));
+                break;
+            case 1:
+                tasks.add(new Deadline(description, isDone, date));
+                break;
+            default:
+                tasks.add(new Event(description, isDone, date, date.plusDays(random.nextInt(5))));
+                break;
+            }
+        }
+        return tasks;
+    }
+
+    private static TaskStore fill(TaskStore store, List<Task> tasks) {
+        for (Task task : tasks) {
+            store.add(task);
+        }
+        return store;
+    }
+
+    private static void report(String name, Supplier<Object> factory) {
+        long usedBefore = usedHeapAfterGc();
+        Object backend = factory.get();
+        long usedAfter = usedHeapAfterGc();
+        long estimatedBytes = backend instanceof TaskList
+                ? ((TaskList) backend).estimateMemoryBytes()
+                : ((TaskStore) backend).estimateMemoryBytes();
+
+        System.out.printf(
+                "%,9d tasks  %-20s %,7.1f MB  %,6.1f bytes/task  (estimated %,6.1f bytes/task)%n",
+                TASK_COUNT,
+                name,
+                (usedAfter - usedBefore) / 1e6,
+                (usedAfter - usedBefore) / (double) TASK_COUNT,
+                estimatedBytes / (double) TASK_COUNT
+        );
+        // Keeps the backend reachable until it has been measured
+        if (backend.hashCode() == 42) {
+            System.out.print("");
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int collection = 0; collection < 4; collection++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,109 @@
+package eclipse.bench;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import eclipse.Eclipse;
+import eclipse.SessionState;
+import eclipse.Ui;
+import eclipse.backend.ObjectTaskStore;
+import eclipse.exceptions.EclipseException;
+import eclipse.storage.Storage;
+import eclipse.storage.StorageParser;
+import eclipse.workspace.WorkspaceCache;
+import eclipse.workspace.WorkspaceSession;
+
+/**
+ * Runs commands against many workspaces through caches of different sizes, and reports the hit ratio,
+ * load latency and estimated heap of each, to help pick <code>--workspace-cache</code>.
+ * Workspaces are picked following a Zipf distribution, so a few of them take most of the commands,
+ * as a few active users would.
+ * Run with <code>./gradlew bench -Pbenchmark=WorkspaceCacheBenchmark</code>.
+ */
+public class WorkspaceCacheBenchmark {
+    private static final int WORKSPACE_COUNT = 200;
+    private static final int TASKS_PER_WORKSPACE = 1_000;
+    private static final int COMMAND_COUNT = 20_000;
+    private static final int[] CACHE_SIZES = {10, 25, 50, 100, 200};
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    /**
+     * Runs the benchmark and prints the statistics of the cache for each size.
+     *
+     * @param args Not used.
+     * @throws IOException      If the root directory of the workspaces cannot be created.
+     * @throws EclipseException If a workspace cannot be acquired.
+     */
+    public static void main(String[] args) throws IOException, EclipseException {
+        Path rootDirPath = Files.createTempDirectory("eclipse-workspaces");
+        Ui quietUi = new Ui(new PrintStream(OutputStream.nullOutputStream()), false);
+
+        WorkspaceCache setupCache = createCache(rootDirPath, WORKSPACE_COUNT);
+        for (int workspaceIdx = 0; workspaceIdx < WORKSPACE_COUNT; workspaceIdx++) {
+            Eclipse chatbot = setupCache.acquire("w" + workspaceIdx);
+            SessionState setupSession = new SessionState();
+            for (int taskIdx = 0; taskIdx < TASKS_PER_WORKSPACE; taskIdx++) {
+                chatbot.handleInput("todo read chapter " + taskIdx + " of book " + workspaceIdx, quietUi, setupSession);
+            }
+            setupCache.release("w" + workspaceIdx);
+        }
+        setupCache.close();
+
+        double[] cumulativeWeights = zipfCumulativeWeights();
+        for (int cacheSize : CACHE_SIZES) {
+            WorkspaceCache cache = createCache(rootDirPath, cacheSize);
+            Random random = new Random(42);
+            long startTime = System.nanoTime();
+            for (int commandIdx = 0; commandIdx < COMMAND_COUNT; commandIdx++) {
+                WorkspaceSession session = new WorkspaceSession(cache);
+                session.handleInput("workspace w" + pickWorkspace(random, cumulativeWeights), quietUi);
+                session.handleInput("list 1", quietUi);
+            }
+            long elapsedNanos = System.nanoTime() - startTime;
+
+            // The cache summary, the load latencies and the most recently used workspace
+            List<String> lines = cache.describe();
+            System.out.printf("Cache of %d, %,d commands in %,d ms%n", cacheSize, COMMAND_COUNT, elapsedNanos / 1_000_000);
+            System.out.println("  " + lines.get(0));
+            System.out.println("  " + lines.get(1));
+            System.out.println("  " + lines.get(2).trim());
+            cache.close();
+        }
+    }
+
+    private static WorkspaceCache createCache(Path rootDirPath, int capacity) {
+        return new WorkspaceCache(
+                rootDirPath,
+                capacity,
+                dirPath -> new Eclipse(new Storage(new StorageParser(), dirPath.toString()), new ObjectTaskStore())
+        );
+    }
+
+    private static double[] zipfCumulativeWeights() {
+        double[] cumulativeWeights = new double[WORKSPACE_COUNT];
+        double total = 0;
+        for (int rank = 0; rank < WORKSPACE_COUNT; rank++) {
+            total += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulativeWeights[rank] = total;
+        }
+        for (int rank = 0; rank < WORKSPACE_COUNT; rank++) {
+            cumulativeWeights[rank] /= total;
+        }
+        return cumulativeWeights;
+    }
+
+    private static int pickWorkspace(Random random, double[] cumulativeWeights) {
+        double target = random.nextDouble();
+        for (int rank = 0; rank < cumulativeWeights.length; rank++) {
+            if (target <= cumulativeWeights[rank]) {
+                return rank;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+}
@@ -0,0 +1,125 @@
+package eclipse.jmh;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eclipse.Command;
+import eclipse.TaskList;
+import eclipse.backend.ObjectTaskStore;
+import eclipse.backend.SnapshotTaskStore;
+import eclipse.exceptions.EclipseException;
+import eclipse.parser.ParsedInput;
+import eclipse.task.Task;
+
+/**
+ * Measures the throughput of reading pages of the task list from several threads,
+ * while a writer thread keeps adding and deleting tasks.
+ * Each read lists a page of tasks at a random offset, as <code>list --from N --limit 20</code> does.
+ * Compares a task list over a {@link SnapshotTaskStore}, read without locking,
+ * with one over the default store where every read and write holds a single lock.
+ * The number of reader threads can be changed with <code>-t</code>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentReadBenchmark {
+    private static final int TASK_COUNT = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"snapshot", "locked"})
+    private String store;
+
+    private TaskList tasks;
+    private boolean isLocking;
+    private Thread writer;
+    private volatile boolean isWriting;
+
+    /**
+     * Builds the list and starts the writer thread.
+     */
+    @Setup
+    public void setUp() {
+        this.isLocking = this.store.equals("locked");
+        this.tasks = new TaskList(
+                Datasets.createTasks(TASK_COUNT),
+                this.isLocking ? new ObjectTaskStore() : new SnapshotTaskStore()
+        );
+
+        this.isWriting = true;
+        this.writer = new Thread(this::write, "benchmark-writer");
+        this.writer.start();
+    }
+
+    /**
+     * Stops the writer thread.
+     *
+     * @throws InterruptedException If interrupted while waiting for the writer to stop.
+     */
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        this.isWriting = false;
+        this.writer.join();
+    }
+
+    /**
+     * Reads a page of tasks at a random offset and renders it.
+     *
+     * @return The total length of the rendered tasks, so that the work is not optimized away.
+     */
+    @Benchmark
+    public int readPage() {
+        int fromIdx = ThreadLocalRandom.current().nextInt(TASK_COUNT - PAGE_SIZE);
+        List<Task> page;
+        if (this.isLocking) {
+            synchronized (this) {
+                page = this.tasks.getTasksInRange(fromIdx, PAGE_SIZE);
+            }
+        } else {
+            page = this.tasks.getTasksInRange(fromIdx, PAGE_SIZE);
+        }
+
+        int renderedLength = 0;
+        for (Task task : page) {
+            renderedLength += task.toString().length();
+        }
+        return renderedLength;
+    }
+
+    private void write() {
+        ParsedInput newTodo = new ParsedInput(Command.TODO, "new task");
+        try {
+            while (this.isWriting) {
+                if (this.isLocking) {
+                    synchronized (this) {
+                        this.tasks.add(newTodo);
+                        this.tasks.delete(0);
+                    }
+                } else {
+                    this.tasks.add(newTodo);
+                    this.tasks.delete(0);
+                }
+            }
+        } catch (EclipseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
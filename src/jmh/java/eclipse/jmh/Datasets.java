@@ -0,0 +1,74 @@
+package eclipse.jmh;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+/**
+ * Generates the synthetic task lists the benchmarks run against.
+ * Lists are generated from a fixed seed, so every run and every release is measured on the same data.
+ */
+public class Datasets {
+    /**
+     * A word occurring in roughly one description in {@link #WORDS}.length.
+     */
+    public static final String COMMON_WORD = "book";
+
+    /**
+     * A word occurring in exactly one description of every list.
+     */
+    public static final String RARE_WORD = "zanzibar";
+
+    private static final long SEED = 42;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 1, 1);
+    private static final String[] WORDS = {
+        "read", COMMON_WORD, "return", "library", "meeting", "project", "team", "submit", "report", "buy", "milk", "call"
+    };
+
+    /**
+     * Creates a list with an even mix of todos, deadlines and events, about a third of them done.
+     *
+     * @param size The number of tasks.
+     * @return The generated tasks.
+     */
+    public static List<Task> createTasks(int size) {
+        Random random = new Random(SEED);
+        List<Task> tasks = new ArrayList<>(size);
+
+        for (int taskIdx = 0; taskIdx < size; taskIdx++) {
+            String description = taskIdx == size / 2
+                    ? "visit " + RARE_WORD
+                    : WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + taskIdx;
+            tasks.add(createTask(taskIdx, description, random));
+        }
+        return tasks;
+    }
+
+    /**
+     * Creates a task of the type at the given position in the mix.
+     *
+     * @param taskIdx     The position of the task, deciding its type.
+     * @param description The description of the task.
+     * @param random      The source of the done state and dates.
+     * @return The generated task.
+     */
+    public static Task createTask(int taskIdx, String description, Random random) {
+        boolean isDone = random.nextInt(3) == 0;
+        LocalDate date = FIRST_DATE.plusDays(random.nextInt(365));
+
+        switch (taskIdx % 3) {
+        case 0:
+            return new Todo(description, isDone);
+        case 1:
+            return new Deadline(description, isDone, date);
+        default:
+            return new Event(description, isDone, date, date.plusDays(random.nextInt(5)));
+        }
+    }
+}
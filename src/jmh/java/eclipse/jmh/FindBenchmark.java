@@ -0,0 +1,109 @@
+package eclipse.jmh;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eclipse.Eclipse;
+import eclipse.backend.ObjectTaskStore;
+import eclipse.backend.SnapshotTaskStore;
+import eclipse.backend.TaskStore;
+import eclipse.exceptions.EclipseException;
+import eclipse.parser.ParsedInput;
+import eclipse.parser.Parser;
+import eclipse.storage.Storage;
+import eclipse.storage.StorageParser;
+
+/**
+ * Measures {@link Eclipse#find(ParsedInput)} end to end, including rendering the matches,
+ * for a substring, word and prefix query matching one task and one matching many tasks.
+ * The chatbot is loaded from a generated task file, and its output is discarded.
+ * Each query is answered from the indexes of the default store, and by scanning every description
+ * over a {@link SnapshotTaskStore}, which keeps no indexes, as the list did before them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class FindBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int listSize;
+
+    @Param({"substring-rare", "substring-common", "word-rare", "word-common", "prefix-rare"})
+    private String query;
+
+    @Param({"index", "scan"})
+    private String lookup;
+
+    private Path dirPath;
+    private PrintStream originalOut;
+    private Eclipse chatbot;
+    private ParsedInput parsedInput;
+
+    /**
+     * Stores a generated list and starts a chatbot on it, with the standard output discarded.
+     *
+     * @throws IOException      If the temporary directory cannot be created.
+     * @throws EclipseException If the list cannot be stored or the query cannot be parsed.
+     */
+    @Setup
+    public void setUp() throws IOException, EclipseException {
+        this.dirPath = TempDirectories.create();
+        Storage storage = new Storage(new StorageParser(), this.dirPath.toString());
+        storage.storeTasks(Datasets.createTasks(this.listSize));
+
+        // The chatbot writes to the standard output it finds when created
+        this.originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        TaskStore taskStore = this.lookup.equals("scan") ? new SnapshotTaskStore() : new ObjectTaskStore();
+        this.chatbot = new Eclipse(storage, taskStore);
+
+        String input = switch (this.query) {
+            case "substring-rare" -> "find " + Datasets.RARE_WORD;
+            case "substring-common" -> "find " + Datasets.COMMON_WORD;
+            case "word-rare" -> "find -w " + Datasets.RARE_WORD;
+            case "word-common" -> "find -w " + Datasets.COMMON_WORD;
+            default -> "find -p " + Datasets.RARE_WORD.substring(0, 4);
+        };
+        this.parsedInput = Parser.parse(input);
+    }
+
+    /**
+     * Restores the standard output and removes the temporary directory.
+     *
+     * @throws IOException If the files cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        System.setOut(this.originalOut);
+        TempDirectories.delete(this.dirPath);
+    }
+
+    /**
+     * Runs the query once and writes out its output, as after every command.
+     *
+     * @throws EclipseException If the query is invalid.
+     */
+    @Benchmark
+    public void find() throws EclipseException {
+        this.chatbot.find(this.parsedInput);
+        this.chatbot.flushOutput();
+    }
+}
@@ -0,0 +1,66 @@
+package eclipse.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.parser.ParsedInput;
+import eclipse.parser.Parser;
+
+/**
+ * Measures {@link Parser#parse(String)} on a typical input of each command type.
+ * Parsing a command does not depend on the size of the list, so it is parameterized by the command instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    @Param({"list", "mark", "unmark", "delete", "todo", "deadline", "event", "find", "due", "on", "between", "bye"})
+    private String command;
+
+    private String input;
+
+    /**
+     * Picks the input for the command being measured.
+     */
+    @Setup
+    public void setUp() {
+        this.input = switch (this.command) {
+            case "list" -> "list --from 40 --limit 20";
+            case "mark", "unmark", "delete" -> this.command + " 12";
+            case "todo" -> "todo borrow book from the library";
+            case "deadline" -> "deadline return book /by 2025-10-15";
+            case "event" -> "event project meeting /from 2025-10-15 /to 2025-10-16";
+            case "find" -> "find -w project meeting";
+            case "due" -> "due 2025-10-15";
+            case "on" -> "on 2025-10-15";
+            case "between" -> "between 2025-10-01 2025-10-31";
+            default -> this.command;
+        };
+    }
+
+    /**
+     * Parses the input once.
+     *
+     * @return The parsed input, so that the parsing is not optimized away.
+     * @throws EclipseException If the input is invalid.
+     */
+    @Benchmark
+    public ParsedInput parse() throws EclipseException {
+        return Parser.parse(this.input);
+    }
+}
@@ -0,0 +1,102 @@
+package eclipse.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eclipse.task.Task;
+import eclipse.task.Todo;
+import eclipse.util.PositionalList;
+
+/**
+ * Compares the list behind the task list with the <code>ArrayList</code> it replaced,
+ * on a mixed workload of adds, deletes and marks at random positions,
+ * and on deleting tasks from the front of the list, like a bulk delete.
+ * The <code>ArrayList</code> deletes the way the task list used to, looking the task up and then removing it by value.
+ * Every invocation keeps the size of the list about the same, so that it is measured at the given size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PositionalListBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    private int listSize;
+
+    @Param({"PositionalList", "ArrayList"})
+    private String implementation;
+
+    private List<Task> tasks;
+    private Random random;
+    private int addedCount;
+
+    /**
+     * Fills the list under test with todos.
+     */
+    @Setup
+    public void setUp() {
+        this.tasks = this.implementation.equals("ArrayList") ? new ArrayList<>() : new PositionalList<>();
+        for (int taskIdx = 0; taskIdx < this.listSize; taskIdx++) {
+            this.tasks.add(new Todo("task " + taskIdx));
+        }
+        this.random = new Random(42);
+    }
+
+    /**
+     * Runs one operation of a mix of 40% adds, 40% deletes and 20% marks at random positions.
+     *
+     * @return The task that was added, deleted or marked, so that the work is not optimized away.
+     */
+    @Benchmark
+    public Task mixedOperation() {
+        int choice = this.random.nextInt(10);
+        if (choice < 4) {
+            Task task = new Todo("new task " + this.addedCount++);
+            this.tasks.add(task);
+            return task;
+        } else if (choice < 8) {
+            return this.delete(this.random.nextInt(this.tasks.size()));
+        }
+
+        Task task = this.tasks.get(this.random.nextInt(this.tasks.size()));
+        task.markAsDone();
+        return task;
+    }
+
+    /**
+     * Deletes the first task and adds a task to the end of the list.
+     *
+     * @return The deleted task, so that the work is not optimized away.
+     */
+    @Benchmark
+    public Task deleteFirstThenAdd() {
+        Task deletedTask = this.delete(0);
+        this.tasks.add(new Todo("new task " + this.addedCount++));
+        return deletedTask;
+    }
+
+    private Task delete(int idx) {
+        if (this.tasks instanceof PositionalList) {
+            return this.tasks.remove(idx);
+        }
+
+        Task task = this.tasks.get(idx);
+        this.tasks.remove(task);
+        return task;
+    }
+}
@@ -0,0 +1,101 @@
+package eclipse.jmh;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.storage.Storage;
+import eclipse.storage.StorageParser;
+import eclipse.task.Task;
+
+/**
+ * Measures writing the task list to the text file with {@link Storage#storeTasks(List)}
+ * and reading it back with {@link Storage#readTasks()}, in a temporary directory.
+ * Lists large enough to be loaded in parallel take that path, as they would in the application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int listSize;
+
+    private List<Task> tasks;
+    private Path dirPath;
+    private Storage storage;
+
+    /**
+     * Generates the list and stores it once, so that reading has a file from the first invocation.
+     *
+     * @throws IOException      If the temporary directory cannot be created.
+     * @throws EclipseException If the list cannot be stored.
+     */
+    @Setup
+    public void setUp() throws IOException, EclipseException {
+        this.tasks = Datasets.createTasks(this.listSize);
+        this.dirPath = TempDirectories.create();
+        this.storage = new Storage(new StorageParser(), this.dirPath.toString());
+        this.storage.storeTasks(this.tasks);
+    }
+
+    /**
+     * Removes the temporary directory and the task file in it.
+     *
+     * @throws IOException If the files cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        TempDirectories.delete(this.dirPath);
+    }
+
+    /**
+     * Rewrites the whole task file.
+     *
+     * @throws EclipseException If the file cannot be written.
+     */
+    @Benchmark
+    public void storeTasks() throws EclipseException {
+        this.storage.storeTasks(this.tasks);
+    }
+
+    /**
+     * Reads the whole task file.
+     *
+     * @return The tasks read, so that reading is not optimized away.
+     * @throws EclipseException If the file cannot be read.
+     */
+    @Benchmark
+    public List<Task> readTasks() throws EclipseException {
+        return this.storage.readTasks();
+    }
+
+    /**
+     * Writes the task file and reads it back, as one save followed by the next startup.
+     *
+     * @return The tasks read, so that reading is not optimized away.
+     * @throws EclipseException If the file cannot be written or read.
+     */
+    @Benchmark
+    public List<Task> roundTrip() throws EclipseException {
+        this.storage.storeTasks(this.tasks);
+        return this.storage.readTasks();
+    }
+}
@@ -0,0 +1,61 @@
+package eclipse.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.storage.StorageParser;
+import eclipse.task.Task;
+
+/**
+ * Measures {@link StorageParser#parseStoredLine(String)} on a stored line of each task type,
+ * both in the exact format the application writes and with a tab around a bar, which is left to the regex-based parser.
+ * Parsing a line does not depend on the size of the list, so it is parameterized by the line instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StorageParserBenchmark {
+    @Param({
+        "T | 0 | borrow book",
+        "D | 0 | return book | 2025-10-15",
+        "E | 1 | project meeting | 2025-10-15=>2025-10-16",
+        "D | 0 | return book\t|\t2025-10-15"
+    })
+    private String storedLine;
+
+    private StorageParser parser;
+
+    /**
+     * Creates the parser.
+     */
+    @Setup
+    public void setUp() {
+        this.parser = new StorageParser();
+    }
+
+    /**
+     * Parses the stored line once.
+     *
+     * @return The parsed task, so that the parsing is not optimized away.
+     * @throws EclipseException If the line is invalid.
+     */
+    @Benchmark
+    public Task parseStoredLine() throws EclipseException {
+        return this.parser.parseStoredLine(this.storedLine);
+    }
+}
@@ -0,0 +1,86 @@
+package eclipse.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eclipse.TaskList;
+import eclipse.exceptions.EclipseException;
+import eclipse.parser.ParsedInput;
+import eclipse.parser.Parser;
+import eclipse.task.Task;
+
+/**
+ * Measures {@link TaskList#add(ParsedInput)} and {@link TaskList#delete(int)}, including keeping the indexes
+ * up to date. Every invocation adds one task and deletes one, so the list keeps its size while it is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TaskListBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int listSize;
+
+    @Param({"todo", "deadline", "event"})
+    private String taskType;
+
+    private TaskList taskList;
+    private ParsedInput parsedInput;
+    private Random random;
+
+    /**
+     * Builds a list from a generated dataset and parses the task to be added.
+     *
+     * @throws EclipseException If the task cannot be parsed.
+     */
+    @Setup
+    public void setUp() throws EclipseException {
+        this.taskList = new TaskList(Datasets.createTasks(this.listSize));
+        this.taskList.buildIndexes();
+        this.random = new Random(42);
+        this.parsedInput = Parser.parse(switch (this.taskType) {
+            case "deadline" -> "deadline return book /by 2025-10-15";
+            case "event" -> "event project meeting /from 2025-10-15 /to 2025-10-16";
+            default -> "todo borrow book from the library";
+        });
+    }
+
+    /**
+     * Adds a task to the end of the list and deletes it again.
+     *
+     * @return The deleted task, so that the work is not optimized away.
+     * @throws EclipseException If the task cannot be added or deleted.
+     */
+    @Benchmark
+    public Task addThenDeleteLast() throws EclipseException {
+        this.taskList.add(this.parsedInput);
+        return this.taskList.delete(this.taskList.getNumberOfTasks() - 1);
+    }
+
+    /**
+     * Deletes a task at a random position and adds a task to the end of the list.
+     *
+     * @return The deleted task, so that the work is not optimized away.
+     * @throws EclipseException If the task cannot be added or deleted.
+     */
+    @Benchmark
+    public Task deleteRandomThenAdd() throws EclipseException {
+        Task deletedTask = this.taskList.delete(this.random.nextInt(this.taskList.getNumberOfTasks()));
+        this.taskList.add(this.parsedInput);
+        return deletedTask;
+    }
+}
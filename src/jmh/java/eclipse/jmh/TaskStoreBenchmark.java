@@ -0,0 +1,69 @@
+package eclipse.jmh;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eclipse.backend.ColumnarTaskStore;
+import eclipse.backend.ObjectTaskStore;
+import eclipse.backend.TaskStore;
+import eclipse.task.Task;
+
+/**
+ * Measures iterating over every task of a store, which is what <code>list</code> and saving do,
+ * comparing the default store with the {@link ColumnarTaskStore}, which builds each task as it is read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TaskStoreBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    private int listSize;
+
+    @Param({"objects", "columnar"})
+    private String store;
+
+    private TaskStore taskStore;
+
+    /**
+     * Fills the store under test with a generated list.
+     */
+    @Setup
+    public void setUp() {
+        this.taskStore = this.store.equals("columnar") ? new ColumnarTaskStore() : new ObjectTaskStore();
+        for (Task task : Datasets.createTasks(this.listSize)) {
+            this.taskStore.add(task);
+        }
+    }
+
+    /**
+     * Iterates over every task, counting those that are done.
+     *
+     * @return The number of tasks done, so that the work is not optimized away.
+     */
+    @Benchmark
+    public int iterateAll() {
+        int doneCount = 0;
+        Iterator<Task> iterator = this.taskStore.iteratorFrom(0);
+        while (iterator.hasNext()) {
+            if (iterator.next().isDone()) {
+                doneCount++;
+            }
+        }
+        return doneCount;
+    }
+}
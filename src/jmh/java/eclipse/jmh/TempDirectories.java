@@ -0,0 +1,39 @@
+package eclipse.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Creates and removes the temporary data directories the benchmarks store their task files in,
+ * from the <code>@Setup</code> and <code>@TearDown</code> methods of their state.
+ */
+public class TempDirectories {
+    private static final String PREFIX = "eclipse-jmh";
+
+    /**
+     * Creates an empty temporary directory.
+     *
+     * @return The path of the directory.
+     * @throws IOException If the directory cannot be created.
+     */
+    public static Path create() throws IOException {
+        return Files.createTempDirectory(PREFIX);
+    }
+
+    /**
+     * Removes a directory and everything in it.
+     *
+     * @param dirPath The directory, as returned by {@link #create()}.
+     * @throws IOException If the files cannot be deleted.
+     */
+    public static void delete(Path dirPath) throws IOException {
+        try (Stream<Path> paths = Files.walk(dirPath)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package eclipse;
 
 import eclipse.exceptions.EclipseException;
-import eclipse.parser.ParsedInput;
+import eclipse.jfr.FlightRecording;
 import eclipse.parser.Parser;
+import eclipse.server.TaskServer;
+import eclipse.workspace.WorkspaceCache;
+import eclipse.workspace.WorkspaceSession;
 
+import java.nio.file.Path;
 import java.util.Scanner;
 
 /**
@@ -19,57 +23,132 @@ public class App {
      * and enters a continuous loop to parse user commands
      * with the static methods from the {@link Parser} class
      *
-     * @param args Command line arguments (not used).
+     * @param args Command line arguments, see {@link LaunchOptions}.
      */
     public static void main(String[] args) {
-        String dirPath = "./data";
-        Eclipse chatbot = new Eclipse(dirPath);
+        LaunchOptions options;
+        try {
+            options = LaunchOptions.parse(args);
+        } catch (EclipseException e) {
+            new Ui().showRecoverableError(e);
+            return;
+        }
 
-        Scanner scanner = new Scanner(System.in);
+        FlightRecording recording = null;
+        if (options.getFlightRecordingPath() != null) {
+            try {
+                recording = FlightRecording.start(options.getFlightRecordingPath());
+            } catch (EclipseException e) {
+                new Ui().showRecoverableError(e);
+            }
+        }
 
+        if (options.getWorkspacesDirPath() != null) {
+            runWorkspaces(options);
+            stopRecording(recording);
+            return;
+        }
+
+        Eclipse chatbot = openChatbot(options, options.getDirPath());
         chatbot.greet();
+        if (options.isShowingLoadStatistics()) {
+            chatbot.showLoadStatistics();
+        }
+        chatbot.flushOutput();
+
+        if (options.getScriptPath() != null) {
+            try {
+                chatbot.runScript(options.getScriptPath());
+            } catch (EclipseException e) {
+                chatbot.handleRecoverableError(e);
+            }
+            chatbot.exit();
+            stopRecording(recording);
+            return;
+        }
 
-        scanLoop:
-        while (true) {
-            String input = scanner.nextLine();
+        if (options.getReminderDays() > 0) {
+            chatbot.startReminders(options.getReminderDays());
+        }
 
+        if (options.isServing()) {
+            // A server runs until it is stopped, e.g. with Ctrl-C, which still saves and dumps on the way out
+            Runtime.getRuntime().addShutdownHook(new Thread(chatbot::exit, "eclipse-server-exit"));
             try {
-                ParsedInput parsedInput = Parser.parse(input);
-                switch (parsedInput.getCommand()) {
-                case BYE:
-                    chatbot.exit();
-                    break scanLoop;
-                case LIST:
-                    chatbot.list();
-                    break;
-                case MARK:
-                    chatbot.mark(Parser.parseListIndex(parsedInput.getParams(), chatbot));
-                    chatbot.saveTasks();
-                    break;
-                case UNMARK:
-                    chatbot.unmark(Parser.parseListIndex(parsedInput.getParams(), chatbot));
-                    chatbot.saveTasks();
-                    break;
-                case EVENT, DEADLINE, TODO:
-                    chatbot.add(parsedInput);
-                    chatbot.saveTasks();
-                    break;
-                case DELETE:
-                    chatbot.delete(Parser.parseListIndex(parsedInput.getParams(), chatbot));
-                    chatbot.saveTasks();
-                    break;
-                case FIND:
-                    chatbot.find(parsedInput);
-                    break;
-                default:
-                    throw new EclipseException("Unknown input command: " + input);
-                }
+                new TaskServer(chatbot::openSession, new Ui(), options.getServerPort()).run();
             } catch (EclipseException e) {
                 chatbot.handleRecoverableError(e);
             }
+            return;
         }
 
+        Scanner scanner = new Scanner(System.in);
+        while (chatbot.handleInput(scanner.nextLine())) {
+            // Every line is handled, and its output written, by the chatbot
+        }
+        chatbot.exit();
+
         // Preventing memory leak
         scanner.close();
+        stopRecording(recording);
+    }
+
+    /**
+     * Creates a chatbot over a data directory, saving and dumping statistics as the options ask.
+     *
+     * @param options The launch options.
+     * @param dirPath The data directory of the task list.
+     * @return The chatbot, with its tasks loaded.
+     */
+    private static Eclipse openChatbot(LaunchOptions options, String dirPath) {
+        Eclipse chatbot = new Eclipse(options.createStorage(dirPath), options.createTaskStore());
+        if (options.isSavingInBackground()) {
+            chatbot.startBackgroundSaving(options.getSaveDebounceMillis(), options.getSaveMaxDelayMillis());
+        }
+        if (options.getStatisticsDumpIntervalSeconds() > 0) {
+            chatbot.startStatisticsDump(options.getStatisticsFile(dirPath), options.getStatisticsDumpIntervalSeconds());
+        }
+        return chatbot;
+    }
+
+    /**
+     * Runs with a task list per workspace, read from the console or served to clients,
+     * and saves every loaded workspace on the way out.
+     *
+     * @param options The launch options.
+     */
+    private static void runWorkspaces(LaunchOptions options) {
+        WorkspaceCache workspaces = new WorkspaceCache(
+                Path.of(options.getWorkspacesDirPath()),
+                options.getWorkspaceCacheSize(),
+                dirPath -> openChatbot(options, dirPath.toString())
+        );
+        Ui consoleUi = new Ui();
+        consoleUi.greet(Eclipse.CHATBOT_NAME);
+
+        if (options.isServing()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(workspaces::close, "eclipse-server-exit"));
+            try {
+                new TaskServer(() -> new WorkspaceSession(workspaces), consoleUi, options.getServerPort()).run();
+            } catch (EclipseException e) {
+                consoleUi.showRecoverableError(e);
+            }
+            return;
+        }
+
+        WorkspaceSession session = new WorkspaceSession(workspaces);
+        Scanner scanner = new Scanner(System.in);
+        while (session.handleInput(scanner.nextLine(), consoleUi)) {
+            // Every line is handled, and its output written, by the session
+        }
+        workspaces.close();
+        consoleUi.exit();
+        scanner.close();
+    }
+
+    private static void stopRecording(FlightRecording recording) {
+        if (recording != null) {
+            recording.stop();
+        }
     }
 }
@@ -10,5 +10,15 @@ public enum Command {
     DEADLINE,
     DELETE,
     FIND,
+    DUE,
+    BETWEEN,
+    ON,
+    CONVERT,
+    RUN,
+    STATS,
+    WORKSPACE,
+    SKIP,
+    NEXT,
+    SORT,
     INVALID;
 }
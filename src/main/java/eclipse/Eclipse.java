@@ -1,13 +1,48 @@
 package eclipse;
 
+import eclipse.backend.ObjectTaskStore;
+import eclipse.backend.TaskStore;
 import eclipse.exceptions.EclipseException;
+import eclipse.exceptions.StorageCompactionException;
+import eclipse.index.AgendaIndex;
+import eclipse.index.SortedView;
+import eclipse.jfr.CommandEvent;
+import eclipse.jfr.FlightRecording;
+import eclipse.metrics.CommandMetrics;
+import eclipse.metrics.CommandMetrics.Phase;
 import eclipse.parser.ParsedInput;
+import eclipse.parser.Parser;
+import eclipse.storage.BackgroundWriter;
+import eclipse.storage.LoadStatistics;
+import eclipse.storage.Mutation;
 import eclipse.storage.Storage;
+import eclipse.storage.StorageFormat;
 import eclipse.storage.StorageParser;
+import eclipse.task.DateFormats;
+import eclipse.task.Event;
+import eclipse.task.RecurringTask;
 import eclipse.task.Task;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handling the interaction with UI, in-memory tasks and the stored task fiel
@@ -16,10 +51,79 @@ import java.util.Optional;
 public class Eclipse {
     public static final String CHATBOT_NAME = "Eclipse";
 
+    private static final String WORD_QUERY_FLAG = "-w ";
+    private static final String PREFIX_QUERY_FLAG = "-p ";
+    private static final int MAX_REPORTED_SCRIPT_FAILURES = 5;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_OCCURRENCES_SHOWN = 10;
+    private static final int DEFAULT_NEXT_COUNT = 5;
+    private static final long REMINDER_CHECK_SECONDS = 60;
+    private static final String OCCURRENCE_INDENT = "     ";
+    private static final int STREAM_FLUSH_INTERVAL = 1000;
+    private static final String STREAM_FLAG = "--stream";
+    private static final String FROM_FLAG = "--from";
+    private static final String LIMIT_FLAG = "--limit";
+    private static final String SORTED_FLAG = "--sorted";
+    private static final String LIST_ORDER_WORD = "index";
+
     private Storage storage;
     private TaskList tasks;
     private Ui ui;
 
+    /**
+     * The UI of the console, which {@link #ui} is switched back to once a client session has run its command.
+     * Output not caused by a client command, e.g. reminders or errors on exit, always goes here.
+     */
+    private final Ui consoleUi;
+
+    /**
+     * The changes made to the task list since the last save, in order.
+     */
+    private final List<Mutation> pendingMutations = new ArrayList<>();
+
+    /**
+     * The writer persisting changes in the background, or null if changes are saved synchronously.
+     */
+    private BackgroundWriter backgroundWriter;
+    private Thread finalSaveHook;
+
+    /**
+     * Held while writing to storage, so that a conversion never interleaves with a background save.
+     */
+    private final Object storageLock = new Object();
+
+    /**
+     * The latencies of the commands run since startup.
+     */
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    /**
+     * Writes the command latencies to {@link #statisticsFile} periodically, or null if they are not written.
+     */
+    private ScheduledExecutorService statisticsWriter;
+    private Path statisticsFile;
+
+    /**
+     * Checks for deadlines and events coming up to remind the user of, or null if there are no reminders.
+     */
+    private ScheduledExecutorService reminderTimer;
+    private int reminderDays;
+
+    /**
+     * The internal IDs of the tasks already reminded of, by the date they come up on,
+     * so that a task is reminded of once, and a recurring task once for each occurrence.
+     * Dates before today are dropped by the next check.
+     */
+    private final TreeMap<LocalDate, Set<Integer>> remindedIds = new TreeMap<>();
+
+    /**
+     * The state of the session whose command is running, e.g. the order <code>list</code> shows the tasks in.
+     * Like {@link #ui}, it is switched to the state of a client session while that session runs its command,
+     * and back to {@link #consoleSession} after.
+     */
+    private SessionState session;
+    private final SessionState consoleSession = new SessionState();
+
     /**
      * Initializes a new Eclipse chatbot instance.
      * Sets up the UI, storage, and attempts to load existing tasks from the disk.
@@ -28,24 +132,287 @@ public class Eclipse {
      * @param dirPath The relative directory path where task data should be stored/loaded.
      */
     public Eclipse(String dirPath) {
-        this.ui = new Ui();
-        this.storage = new Storage(new StorageParser(), dirPath);
+        this(new Storage(new StorageParser(), dirPath));
+    }
 
+    /**
+     * Initializes a new Eclipse chatbot instance backed by the given storage.
+     * Sets up the UI and attempts to load existing tasks from the storage.
+     * If loading fails, an empty task list is initialized instead.
+     *
+     * @param storage The {@link Storage} tasks should be loaded from and saved to.
+     */
+    public Eclipse(Storage storage) {
+        this(storage, new ObjectTaskStore());
+    }
+
+    /**
+     * Initializes a new Eclipse chatbot instance backed by the given storage, keeping tasks in the given store.
+     * Sets up the UI and attempts to load existing tasks from the storage.
+     * If loading fails, an empty task list is initialized instead.
+     *
+     * @param storage   The {@link Storage} tasks should be loaded from and saved to.
+     * @param taskStore The empty {@link TaskStore} tasks are kept in while the chatbot runs.
+     */
+    public Eclipse(Storage storage, TaskStore taskStore) {
+        this.consoleUi = new Ui();
+        this.ui = this.consoleUi;
+        this.session = this.consoleSession;
+        this.storage = storage;
+
+        List<Task> loadedTasks;
         try {
-            this.tasks = new TaskList(this.storage.readTasks());
+            loadedTasks = this.storage.readTasks();
         } catch (EclipseException e) {
             this.ui.showRecoverableError(e);
-            this.tasks = new TaskList();
+            loadedTasks = new ArrayList<>();
+        }
+        this.tasks = new TaskList(loadedTasks, taskStore);
+    }
+
+    /**
+     * Switches to saving changes on a background thread.
+     * Bursts of changes are coalesced into a single save, and a final save happens on {@link #exit()}
+     * or when the JVM shuts down.
+     *
+     * @param debounceMillis How long the list has to stay unchanged before it is saved.
+     * @param maxDelayMillis The longest a change may stay unsaved while changes keep coming in.
+     */
+    public void startBackgroundSaving(long debounceMillis, long maxDelayMillis) {
+        // Errors go to the console, written out at once rather than into the output of a command being rendered
+        BackgroundWriter writer = new BackgroundWriter(
+                this::flushPendingMutations,
+                this.consoleUi::showBackgroundError,
+                debounceMillis,
+                maxDelayMillis
+        );
+        this.finalSaveHook = new Thread(this::stopBackgroundSaving, "eclipse-final-save");
+        Runtime.getRuntime().addShutdownHook(this.finalSaveHook);
+        this.backgroundWriter = writer;
+    }
+
+    /**
+     * Starts writing the command latencies to a file periodically, replacing the previous content each time.
+     * The latencies are also written once more on {@link #exit()}.
+     *
+     * @param file            The file to write to.
+     * @param intervalSeconds How often the file is written.
+     */
+    public void startStatisticsDump(Path file, long intervalSeconds) {
+        ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eclipse-statistics-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Errors go to the console, never to whichever client session happens to be running a command
+        writer.scheduleAtFixedRate(
+                () -> this.dumpStatistics(this.consoleUi),
+                intervalSeconds,
+                intervalSeconds,
+                TimeUnit.SECONDS
+        );
+        this.statisticsFile = file;
+        this.statisticsWriter = writer;
+    }
+
+    /**
+     * Starts reminding the user of the open deadlines and events coming up within the given number of days,
+     * today included, and of recurring tasks with an occurrence coming up then.
+     * A check runs at once and then every minute, taking the tasks coming up from the agenda index of the list
+     * in O(log n + k) time for the k tasks coming up, and reminds of those it has not reminded of yet.
+     * Tasks added or marked as not done within the days reminded of are thus reminded of by the next check.
+     *
+     * @param days The number of days ahead to remind of, 1 for today only.
+     */
+    public void startReminders(int days) {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eclipse-reminder-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Reminders go to the console, never to whichever client session happens to be running a command
+        this.reminderDays = days;
+        timer.scheduleWithFixedDelay(this::remind, 0, REMINDER_CHECK_SECONDS, TimeUnit.SECONDS);
+        this.reminderTimer = timer;
+    }
+
+    private void remind() {
+        // Built ahead outside the lock of the chatbot, so that commands not changing the list can run meanwhile
+        this.tasks.buildIndexes();
+        synchronized (this) {
+            this.remindOfComingUp();
         }
     }
 
+    private void remindOfComingUp() {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(this.reminderDays - 1);
+        this.remindedIds.headMap(today).clear();
+
+        List<Integer> indices = new ArrayList<>();
+        for (int idx : this.tasks.findComingUpBetween(today, horizon)) {
+            Task task = this.tasks.getTaskById(idx).get();
+            LocalDate date = AgendaIndex.nextDateOf(task, today).get();
+            if (this.remindedIds.computeIfAbsent(date, key -> new HashSet<>()).add(task.getId())) {
+                indices.add(idx);
+            }
+        }
+        if (indices.isEmpty()) {
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(this.reminderDays == 1
+                ? "Reminder, coming up today:"
+                : "Reminder, coming up by " + DateFormats.toDisplayString(horizon) + ":");
+        lines.addAll(this.describeComingUp(indices, today));
+        this.consoleUi.showNotification(lines);
+    }
+
     /**
-     * Saves the current list of tasks to the local storage.
+     * Describes tasks coming up as numbered rows, each recurring task followed by the date it next comes up on.
+     *
+     * @param indices The 0-based indices of the tasks.
+     * @param from    The first date of interest.
+     * @return The lines describing the tasks.
+     */
+    private List<String> describeComingUp(List<Integer> indices, LocalDate from) {
+        List<String> lines = new ArrayList<>();
+        for (int idx : indices) {
+            Optional<Task> maybeCurrTask = this.tasks.getTaskById(idx);
+            maybeCurrTask.ifPresent((task) -> {
+                lines.add((idx + 1) + ". " + task);
+                if (task instanceof RecurringTask) {
+                    ((RecurringTask) task).getNextStart(from).ifPresent(date -> lines.add(
+                            OCCURRENCE_INDENT + "next on " + DateFormats.toDisplayString(date)
+                    ));
+                }
+            });
+        }
+        return lines;
+    }
+
+    private void dumpStatistics(Ui errorUi) {
+        try {
+            this.metrics.writeTo(this.statisticsFile);
+        } catch (EclipseException e) {
+            errorUi.showBackgroundError(e);
+        }
+    }
+
+    /**
+     * Returns the latencies of the commands run since startup, for callers to record into.
+     *
+     * @return The command metrics.
+     */
+    public CommandMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Saves the changes made to the task list since the last save to the local storage.
+     * When saving in the background, this only schedules a save and returns immediately.
      *
      * @throws EclipseException If an error occurs during the saving process.
      */
     public void saveTasks() throws EclipseException {
-        this.storage.storeTasks(this.tasks.getTasks());
+        if (this.backgroundWriter != null) {
+            this.backgroundWriter.markDirty();
+            return;
+        }
+
+        try {
+            this.storage.save(this.tasks.getTasks(), this.pendingMutations);
+        } catch (StorageCompactionException e) {
+            // The changes are already saved, saving them again would replay them twice
+            this.pendingMutations.clear();
+            throw e;
+        }
+        this.pendingMutations.clear();
+    }
+
+    /**
+     * Saves the pending changes from the background writer thread.
+     * The task list and the changes are copied while holding the lock,
+     * so commands only wait for the copy and never for the disk.
+     * If saving fails, the changes are kept to be saved with the next flush,
+     * unless they were saved and only compacting the journal failed.
+     *
+     * @throws EclipseException If an error occurs during the saving process.
+     */
+    private void flushPendingMutations() throws EclipseException {
+        synchronized (this.storageLock) {
+            List<Task> taskSnapshot;
+            List<Mutation> mutations;
+            synchronized (this) {
+                taskSnapshot = new ArrayList<>(this.tasks.getTasks());
+                mutations = new ArrayList<>(this.pendingMutations);
+                this.pendingMutations.clear();
+            }
+
+            try {
+                this.storage.save(taskSnapshot, mutations);
+            } catch (StorageCompactionException e) {
+                throw e;
+            } catch (EclipseException e) {
+                synchronized (this) {
+                    this.pendingMutations.addAll(0, mutations);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Stops the background writer after its final flush, then retries once any changes it failed to save,
+     * so that they are not lost when the chatbot closes or the JVM shuts down.
+     */
+    private void stopBackgroundSaving() {
+        this.backgroundWriter.close();
+
+        boolean hasUnsavedChanges;
+        synchronized (this) {
+            hasUnsavedChanges = !this.pendingMutations.isEmpty();
+        }
+        if (hasUnsavedChanges) {
+            try {
+                this.flushPendingMutations();
+            } catch (EclipseException e) {
+                this.consoleUi.showRecoverableError(e);
+            }
+        }
+    }
+
+    /**
+     * Rewrites the stored tasks in the format named by the user, either <code>text</code> or <code>binary</code>,
+     * and notifies the user via the UI.
+     *
+     * @param parsedInput The structured representation of the user's convert command.
+     * @throws EclipseException If the format is unknown or the conversion fails.
+     */
+    public void convert(ParsedInput parsedInput) throws EclipseException {
+        String formatName = parsedInput.getParams();
+        StorageFormat targetFormat;
+        try {
+            targetFormat = StorageFormat.valueOf(formatName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new EclipseException("Unknown storage format, expected 'text' or 'binary': " + formatName, e);
+        }
+
+        File convertedFile;
+        synchronized (this.storageLock) {
+            synchronized (this) {
+                // The converted file holds every change, so nothing is left to be saved
+                this.pendingMutations.clear();
+                convertedFile = this.storage.convertTo(targetFormat, this.tasks.getTasks());
+            }
+        }
+
+        this.ui.showBorder();
+        this.ui.showContent("Done! Your tasks are now stored in " + formatName.toLowerCase(Locale.ROOT) + " format:");
+        this.ui.showContent("  " + convertedFile.getPath());
+        this.ui.showBorder();
+        this.ui.endOutput();
     }
 
     /**
@@ -56,10 +423,58 @@ public class Eclipse {
     }
 
     /**
-     * Displays the goodbye message via the UI.
+     * Displays how long loading the tasks from storage took via the UI.
+     */
+    public void showLoadStatistics() {
+        LoadStatistics loadStatistics = this.storage.getLastLoadStatistics();
+        if (loadStatistics == null) {
+            return;
+        }
+
+        this.ui.showBorder();
+        this.ui.showContent(loadStatistics.toString());
+        this.ui.showBorder();
+        this.ui.endOutput();
+    }
+
+    /**
+     * Displays the goodbye message on the console, after closing the chatbot, see {@link #close()}.
+     * It may be called from another thread, e.g. a shutdown hook, while a client session is running a command,
+     * so it writes to the console UI rather than whichever UI that command is rendered into.
      */
     public void exit() {
-        this.ui.exit();
+        this.close();
+        this.consoleUi.exit();
+    }
+
+    /**
+     * Saves the changes not saved yet and stops the threads the chatbot started, so that it can be dropped.
+     * Waits for any changes still being saved in the background,
+     * retries a save that failed before, in the background or not, and writes the command latencies a final time
+     * if they are written periodically. Errors are displayed on the console.
+     */
+    public void close() {
+        if (this.backgroundWriter != null) {
+            this.stopBackgroundSaving();
+            try {
+                Runtime.getRuntime().removeShutdownHook(this.finalSaveHook);
+            } catch (IllegalStateException e) {
+                // Already shutting down, and the writer has been closed anyway
+            }
+        } else if (!this.pendingMutations.isEmpty()) {
+            try {
+                this.saveTasks();
+            } catch (EclipseException e) {
+                this.consoleUi.showRecoverableError(e);
+            }
+        }
+        if (this.statisticsWriter != null) {
+            this.statisticsWriter.shutdownNow();
+            this.dumpStatistics(this.consoleUi);
+        }
+        if (this.reminderTimer != null) {
+            this.reminderTimer.shutdownNow();
+        }
     }
 
     /**
@@ -69,19 +484,247 @@ public class Eclipse {
         this.ui.showBorder();
         this.ui.showContent("Here are the tasks in your list:");
 
-        for (int idx = 0; idx < tasks.getNumberOfTasks(); idx++) {
-            Optional<Task> maybeCurrTask = tasks.getTaskById(idx);
-            if (maybeCurrTask.isPresent()) {
-                Task currTask = maybeCurrTask.get();
-                String formattedEntry = String.format("%d. %s", idx + 1, currTask);
-                this.ui.showContent(formattedEntry);
+        int taskNumber = 1;
+        for (Task currTask : this.tasks.getTasks()) {
+            this.ui.showNumberedContent(taskNumber, currTask);
+            taskNumber++;
+        }
+
+        this.ui.showBorder();
+        this.ui.endOutput();
+    }
+
+    /**
+     * Displays the tasks selected by the parameters of a list command:
+     * <ul>
+     *     <li>none: every task</li>
+     *     <li><code>&lt;page&gt; [size]</code>: one page of tasks, 20 to a page unless a size is given</li>
+     *     <li><code>--from N [--limit M]</code>: up to M tasks, 20 unless given, starting at task N</li>
+     *     <li><code>--stream</code>: every task, one row per line without borders,
+     *     written out as it goes so that it can be piped into other tools</li>
+     * </ul>
+     * Any of these can be preceded by <code>--sorted KEY</code> to show the tasks sorted by KEY instead of
+     * in the order set by <code>sort by</code>, see {@link #sort(ParsedInput)}. Sorted tasks keep their numbers
+     * in the list, so that they can be marked or deleted by the numbers shown, and the window is counted
+     * in sorted order, e.g. <code>list --sorted date 2</code> shows the 21st to 40th task by date.
+     * A page or window takes time proportional to its size, not to the size of the list.
+     *
+     * @param parsedInput The parsed user input containing the list parameters.
+     * @throws EclipseException If the parameters are invalid or the window starts past the end of the list.
+     */
+    public void list(ParsedInput parsedInput) throws EclipseException {
+        String params = parsedInput.getOptionalParams().orElse("");
+        String[] args = params.isEmpty() ? new String[0] : params.split("\\s+");
+        SortedView.Order order = this.session.getListOrder();
+        if (args.length > 0 && args[0].equals(SORTED_FLAG)) {
+            if (args.length == 1) {
+                throw new EclipseException("Invalid list format, expected 'list --sorted <key> [page]': " + params);
+            }
+            order = parseOrder(args[1]);
+            args = Arrays.copyOfRange(args, 2, args.length);
+        }
+
+        if (args.length == 0) {
+            if (order == null) {
+                this.list();
+            } else {
+                this.listSorted(order);
             }
+            return;
+        }
+        if (args.length == 1 && args[0].equals(STREAM_FLAG)) {
+            this.streamList(order);
+            return;
         }
 
+        int fromNumber;
+        int limit = DEFAULT_PAGE_SIZE;
+        if (args[0].equals(FROM_FLAG)) {
+            if (args.length != 2 && !(args.length == 4 && args[2].equals(LIMIT_FLAG))) {
+                throw new EclipseException("Invalid list format, expected 'list --from N --limit M': " + params);
+            }
+            fromNumber = parsePositiveNumber(args[1], params);
+            if (args.length == 4) {
+                limit = parsePositiveNumber(args[3], params);
+            }
+        } else {
+            if (args.length > 2) {
+                throw new EclipseException("Invalid list format, expected 'list <page> [size]': " + params);
+            }
+            if (args.length == 2) {
+                limit = parsePositiveNumber(args[1], params);
+            }
+            int page = parsePositiveNumber(args[0], params);
+            if ((long) (page - 1) * limit >= Integer.MAX_VALUE) {
+                throw new EclipseException("Page " + page + " is out of range");
+            }
+            fromNumber = (page - 1) * limit + 1;
+
+            int taskCount = this.tasks.getNumberOfTasks();
+            if (fromNumber > taskCount && taskCount > 0) {
+                int pageCount = (taskCount + limit - 1) / limit;
+                throw new EclipseException(String.format(
+                        "Page %d is out of range, the list has %d page%s of %d tasks",
+                        page,
+                        pageCount,
+                        pageCount == 1 ? "" : "s",
+                        limit
+                ));
+            }
+        }
+
+        this.listWindow(order, fromNumber, limit);
+    }
+
+    /**
+     * Sets the order <code>list</code> shows the tasks in from now on, given as <code>sort by KEY</code>,
+     * where KEY is one of <code>date</code>, <code>type</code>, <code>done</code> and <code>description</code>,
+     * or <code>index</code> to go back to the order of the list. Then displays the first page in that order.
+     * Only the order tasks are shown in changes, their numbers in the list stay the same.
+     * The order is kept for the session that set it, other sessions sharing the list keep their own.
+     *
+     * @param parsedInput The parsed user input containing the sort key.
+     * @throws EclipseException If the parameters are not <code>by KEY</code> or the key is unknown.
+     */
+    public void sort(ParsedInput parsedInput) throws EclipseException {
+        String params = parsedInput.getOptionalParams().orElse("");
+        String[] args = params.split("\\s+");
+        if (args.length != 2 || !args[0].equals("by")) {
+            throw new EclipseException("Invalid sort format, expected 'sort by <key>': " + params);
+        }
+
+        SortedView.Order order = parseOrder(args[1]);
+        this.session.setListOrder(order);
+        int taskCount = this.tasks.getNumberOfTasks();
+        if (taskCount == 0) {
+            this.ui.showBorder();
+            this.ui.showContent("Got it. Your list will be shown " + describeOrder(order) + ".");
+            this.ui.showBorder();
+            this.ui.endOutput();
+            return;
+        }
+        this.listWindow(order, 1, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Parses a sort key.
+     *
+     * @return The order, or null for <code>index</code>, the order of the list.
+     */
+    private static SortedView.Order parseOrder(String word) throws EclipseException {
+        if (word.equals(LIST_ORDER_WORD)) {
+            return null;
+        }
+
+        Optional<SortedView.Order> maybeOrder = SortedView.Order.fromWord(word);
+        if (maybeOrder.isEmpty()) {
+            StringBuilder words = new StringBuilder(LIST_ORDER_WORD);
+            for (SortedView.Order order : SortedView.Order.values()) {
+                words.append(", ").append(order.getWord());
+            }
+            throw new EclipseException("Unknown sort key: " + word + ", expected one of: " + words);
+        }
+        return maybeOrder.get();
+    }
+
+    private static String describeOrder(SortedView.Order order) {
+        return order == null ? "in the order of the list" : "sorted by " + order.getWord();
+    }
+
+    private static int parsePositiveNumber(String str, String params) throws EclipseException {
+        int number;
+        try {
+            number = Integer.parseInt(str);
+        } catch (NumberFormatException e) {
+            throw new EclipseException("Invalid number in list parameters: " + params, e);
+        }
+
+        if (number <= 0) {
+            throw new EclipseException("Numbers in list parameters must be positive: " + params);
+        }
+        return number;
+    }
+
+    /**
+     * Displays every task sorted in an order, numbered by their position in the list.
+     */
+    private void listSorted(SortedView.Order order) {
+        List<Integer> indices = this.tasks.getSortedWindow(order, 0, Integer.MAX_VALUE);
+
+        this.ui.showBorder();
+        this.ui.showContent("Here are the tasks in your list, " + describeOrder(order) + ":");
+        this.showTasksAt(indices);
         this.ui.showBorder();
         this.ui.endOutput();
     }
 
+    /**
+     * Displays up to <code>limit</code> tasks starting at the given 1-based task number,
+     * counted in the given order, or in the order of the list if it is null.
+     */
+    private void listWindow(SortedView.Order order, int fromNumber, int limit) throws EclipseException {
+        int taskCount = this.tasks.getNumberOfTasks();
+        if (fromNumber > taskCount && taskCount > 0) {
+            throw new EclipseException(
+                    String.format("Task %d is out of range, length of the list: %d", fromNumber, taskCount)
+            );
+        }
+
+        int shownCount;
+        this.ui.showBorder();
+        if (order == null) {
+            List<Task> window = this.tasks.getTasksInRange(fromNumber - 1, limit);
+            this.ui.showContent("Here are the tasks in your list:");
+            int taskNumber = fromNumber;
+            for (Task currTask : window) {
+                this.ui.showNumberedContent(taskNumber, currTask);
+                taskNumber++;
+            }
+            shownCount = window.size();
+        } else {
+            List<Integer> indices = this.tasks.getSortedWindow(order, fromNumber - 1, limit);
+            this.ui.showContent("Here are the tasks in your list, " + describeOrder(order) + ":");
+            this.showTasksAt(indices);
+            shownCount = indices.size();
+        }
+        if (shownCount > 0) {
+            this.ui.showContent(String.format(
+                    "Showing tasks %d-%d of %d.",
+                    fromNumber,
+                    fromNumber + shownCount - 1,
+                    taskCount
+            ));
+        }
+        this.ui.showBorder();
+        this.ui.endOutput();
+    }
+
+    /**
+     * Writes every task as a numbered row, in the given order or in the order of the list if it is null,
+     * flushing the output every few rows, so that only a bounded amount of output is ever held in memory.
+     */
+    private void streamList(SortedView.Order order) {
+        if (order == null) {
+            int taskNumber = 1;
+            for (Task currTask : this.tasks.getTasks()) {
+                this.ui.showNumberedContent(taskNumber, currTask);
+                if (taskNumber % STREAM_FLUSH_INTERVAL == 0) {
+                    this.ui.flush();
+                }
+                taskNumber++;
+            }
+            this.ui.flush();
+            return;
+        }
+
+        Iterator<List<Integer>> windows = this.tasks.getSortedWindows(order, STREAM_FLUSH_INTERVAL);
+        while (windows.hasNext()) {
+            this.showTasksAt(windows.next());
+            this.ui.flush();
+        }
+        this.ui.flush();
+    }
+
     /**
      * Adds a new task to the list based on the provided parsed input,
      * notifies the user via the UI.
@@ -90,8 +733,9 @@ public class Eclipse {
      * @param parsedInput The structured representation of the user's add command.
      * @throws EclipseException If the description is empty or adding fails.
      */
-    public void add(ParsedInput parsedInput) throws EclipseException {
+    public synchronized void add(ParsedInput parsedInput) throws EclipseException {
         Task newTask = tasks.add(parsedInput);
+        this.pendingMutations.add(Mutation.add(newTask));
 
         if (newTask.getDescription().trim().isEmpty()) {
             throw new EclipseException("Meaningless description: '" + newTask.getDescription() + "'");
@@ -102,6 +746,14 @@ public class Eclipse {
         this.ui.showContent("Got it. I've added this task:");
         this.ui.showContent("  " + newTask);
         this.ui.showContent(String.format("Now you have %d tasks in the list.", this.tasks.getNumberOfTasks()));
+        if (newTask instanceof Event) {
+            int newTaskIdx = this.tasks.getNumberOfTasks() - 1;
+            List<Integer> overlappingIndices = this.tasks.findOverlappingEvents(newTaskIdx);
+            if (!overlappingIndices.isEmpty()) {
+                this.ui.showContent("Heads up, it overlaps with:");
+                this.showTasksAt(overlappingIndices);
+            }
+        }
 
         this.ui.showBorder();
         this.ui.endOutput();
@@ -113,8 +765,9 @@ public class Eclipse {
      * @param idx The 0-based index of the task to be deleted.
      * @throws EclipseException If the index is invalid.
      */
-    public void delete(int idx) throws EclipseException {
+    public synchronized void delete(int idx) throws EclipseException {
         Task deletedTask = tasks.delete(idx);
+        this.pendingMutations.add(Mutation.delete(idx));
 
         this.ui.showBorder();
 
@@ -131,10 +784,10 @@ public class Eclipse {
      *
      * @param idx The 0-based index of the task.
      */
-    public void mark(int idx) {
-        Optional<Task> maybeTask = this.tasks.getTaskById(idx);
+    public synchronized void mark(int idx) {
+        Optional<Task> maybeTask = this.tasks.setDone(idx, true);
         maybeTask.ifPresent((task) -> {
-            task.markAsDone();
+            this.pendingMutations.add(Mutation.mark(idx));
             this.ui.showBorder();
 
             this.ui.showContent("Nice! I've marked this task as done:");
@@ -149,10 +802,10 @@ public class Eclipse {
      *
      * @param idx The 0-based index of the task.
      */
-    public void unmark(int idx) {
-        Optional<Task> maybeTask = this.tasks.getTaskById(idx);
+    public synchronized void unmark(int idx) {
+        Optional<Task> maybeTask = this.tasks.setDone(idx, false);
         maybeTask.ifPresent((task) -> {
-            task.markAsNotDone();
+            this.pendingMutations.add(Mutation.unmark(idx));
             this.ui.showBorder();
 
             this.ui.showContent("OK, I've marked this task as not done yet:");
@@ -162,28 +815,439 @@ public class Eclipse {
         });
     }
 
-    public void find(ParsedInput parsedInput) throws EclipseException {
+    /**
+     * Skips one occurrence of a recurring task, e.g. <code>skip 3 2025-01-13</code>, and notifies the user via the UI.
+     *
+     * @param parsedInput The parsed user input, holding the task number and the start date of the occurrence.
+     * @throws EclipseException If the task number is invalid, the task does not recur,
+     *                          or no occurrence to skip starts on that date.
+     */
+    public synchronized void skip(ParsedInput parsedInput) throws EclipseException {
+        int idx = Parser.parseListIndex(parsedInput.getParams(), this);
+        RecurringTask task = this.tasks.skipOccurrence(idx, parsedInput.getFrom());
+        this.pendingMutations.add(Mutation.replace(idx, task));
+
+        this.ui.showBorder();
+
+        this.ui.showContent(
+                "Got it. I've skipped the occurrence on " + DateFormats.toDisplayString(parsedInput.getFrom()) + " of:"
+        );
+        this.ui.showContent("  " + task);
+
+        this.ui.showBorder();
+        this.ui.endOutput();
+    }
+
+    /**
+     * Displays the open deadlines, events and recurring tasks coming up next from today, e.g. <code>next 3</code>,
+     * 5 unless a number is given. Deadlines come up on their due date, events on their start date
+     * and recurring tasks on their next occurrence, which is shown below them.
+     *
+     * @param parsedInput The parsed user input containing the number of tasks, if any.
+     * @throws EclipseException If the number is invalid.
+     */
+    public synchronized void next(ParsedInput parsedInput) throws EclipseException {
+        int count = Parser.parseNextCount(parsedInput.getOptionalParams(), DEFAULT_NEXT_COUNT);
+
+        LocalDate today = LocalDate.now();
+        List<Integer> indices = this.tasks.findNext(today, count);
+
+        this.ui.showBorder();
+        this.ui.showContent("Here are the tasks coming up next:");
+        for (String line : this.describeComingUp(indices, today)) {
+            this.ui.showContent(line);
+        }
+        this.ui.showBorder();
+        this.ui.endOutput();
+    }
+
+    /**
+     * Displays the tasks matching a search query.
+     * <code>find -w &lt;words&gt;</code> matches tasks containing all the words,
+     * <code>find -p &lt;prefix&gt;</code> matches tasks containing a word starting with the prefix,
+     * both answered from the token index of the task list.
+     * Any other query is matched as a substring of the description, narrowed down by the trigram index.
+     *
+     * @param parsedInput The parsed user input containing the query.
+     * @throws EclipseException If the query is missing.
+     */
+    public synchronized void find(ParsedInput parsedInput) throws EclipseException {
         String keyword = parsedInput.getParams();
 
         this.ui.showBorder();
         this.ui.showContent("Here are the matching tasks in your list:");
-        for (int idx = 0; idx < this.tasks.getNumberOfTasks(); idx++) {
+        if (keyword.startsWith(WORD_QUERY_FLAG)) {
+            this.showTasksAt(this.tasks.findByWords(keyword.substring(WORD_QUERY_FLAG.length())));
+        } else if (keyword.startsWith(PREFIX_QUERY_FLAG)) {
+            this.showTasksAt(this.tasks.findByPrefix(keyword.substring(PREFIX_QUERY_FLAG.length())));
+        } else {
+            this.showTasksAt(this.tasks.findBySubstring(keyword));
+        }
+        this.ui.showBorder();
+        this.ui.endOutput();
+    }
+
+    /**
+     * Displays the tasks matching a date query:
+     * deadlines due by a date for <code>due</code>, and deadlines and events within a range
+     * for <code>between</code> and <code>on</code>.
+     * Each recurring task is followed by its occurrences within the range, generated only for that range,
+     * or for <code>due</code> by those from today to the date.
+     *
+     * @param parsedInput The parsed user input containing the query and its dates.
+     * @throws EclipseException If the command is not a date query or its dates are missing.
+     */
+    public synchronized void findByDate(ParsedInput parsedInput) throws EclipseException {
+        String heading;
+        List<Integer> indices;
+        LocalDate from;
+        LocalDate to;
+        switch (parsedInput.getCommand()) {
+        case DUE:
+            heading = "Here are the deadlines due by " + DateFormats.toDisplayString(parsedInput.getBy()) + ":";
+            indices = this.tasks.findDueBy(parsedInput.getBy());
+            to = parsedInput.getBy();
+            from = to.isBefore(LocalDate.now()) ? to : LocalDate.now();
+            break;
+        case ON:
+            heading = "Here are the tasks on " + DateFormats.toDisplayString(parsedInput.getFrom()) + ":";
+            indices = this.tasks.findBetween(parsedInput.getFrom(), parsedInput.getTo());
+            from = parsedInput.getFrom();
+            to = parsedInput.getTo();
+            break;
+        case BETWEEN:
+            heading = "Here are the tasks between " + DateFormats.toDisplayString(parsedInput.getFrom())
+                    + " and " + DateFormats.toDisplayString(parsedInput.getTo()) + ":";
+            indices = this.tasks.findBetween(parsedInput.getFrom(), parsedInput.getTo());
+            from = parsedInput.getFrom();
+            to = parsedInput.getTo();
+            break;
+        default:
+            throw new EclipseException("Invalid parsed input, not a date query: " + parsedInput.getCommand());
+        }
+
+        this.ui.showBorder();
+        this.ui.showContent(heading);
+        for (int idx : indices) {
+            Optional<Task> maybeCurrTask = this.tasks.getTaskById(idx);
+            maybeCurrTask.ifPresent((task) -> {
+                this.ui.showNumberedContent(idx + 1, task);
+                if (task instanceof RecurringTask) {
+                    this.showOccurrences((RecurringTask) task, from, to);
+                }
+            });
+        }
+        this.ui.showBorder();
+        this.ui.endOutput();
+    }
+
+    /**
+     * Displays the first occurrences of a recurring task within a range of dates, below the task,
+     * and how many more there are.
+     */
+    private void showOccurrences(RecurringTask task, LocalDate from, LocalDate to) {
+        List<Task> occurrences = task.getOccurrencesBetween(from, to, MAX_OCCURRENCES_SHOWN);
+        for (Task occurrence : occurrences) {
+            this.ui.showContent(OCCURRENCE_INDENT + occurrence);
+        }
+
+        long moreCount = task.countOccurrencesBetween(from, to) - occurrences.size();
+        if (moreCount > 0) {
+            this.ui.showContent(OCCURRENCE_INDENT + "and " + moreCount + " more");
+        }
+    }
+
+    private void showTasksAt(List<Integer> indices) {
+        for (int idx : indices) {
             Optional<Task> maybeCurrTask = this.tasks.getTaskById(idx);
-            if (maybeCurrTask.isEmpty()) {
-                continue;
+            maybeCurrTask.ifPresent((task) -> this.ui.showNumberedContent(idx + 1, task));
+        }
+    }
+
+    /**
+     * Executes a parsed command other than <code>bye</code>, which ends the session and is handled by the caller.
+     * Changes to the task list are not saved here, so that callers can save once after many commands.
+     * Every command is recorded as a {@link CommandEvent} while a flight recording is running.
+     *
+     * @param parsedInput The parsed user input.
+     * @param input       The raw user input, used in the error message for unknown commands.
+     * @return True if the command changed the task list and it should be saved.
+     * @throws EclipseException If the command is unknown or fails.
+     */
+    public boolean execute(ParsedInput parsedInput, String input) throws EclipseException {
+        if (!FlightRecording.isRecorderRunning()) {
+            return this.dispatch(parsedInput, input);
+        }
+
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            boolean isMutated = this.dispatch(parsedInput, input);
+            isSuccessful = true;
+            return isMutated;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.command = parsedInput.getCommand().name().toLowerCase(Locale.ROOT);
+                event.taskCount = this.tasks.getNumberOfTasks();
+                event.isSuccessful = isSuccessful;
+                event.commit();
             }
+        }
+    }
 
-            Task currTask = maybeCurrTask.get();
+    private boolean dispatch(ParsedInput parsedInput, String input) throws EclipseException {
+        switch (parsedInput.getCommand()) {
+        case LIST:
+            this.list(parsedInput);
+            return false;
+        case MARK:
+            this.mark(Parser.parseListIndex(parsedInput.getParams(), this));
+            return true;
+        case UNMARK:
+            this.unmark(Parser.parseListIndex(parsedInput.getParams(), this));
+            return true;
+        case EVENT, DEADLINE, TODO:
+            this.add(parsedInput);
+            return true;
+        case DELETE:
+            this.delete(Parser.parseListIndex(parsedInput.getParams(), this));
+            return true;
+        case FIND:
+            this.find(parsedInput);
+            return false;
+        case DUE, BETWEEN, ON:
+            this.findByDate(parsedInput);
+            return false;
+        case CONVERT:
+            this.convert(parsedInput);
+            return false;
+        case RUN:
+            // The script saves its own changes once it has run
+            this.runScript(parsedInput.getParams());
+            return false;
+        case STATS:
+            this.showStatistics();
+            return false;
+        case SKIP:
+            this.skip(parsedInput);
+            return true;
+        case NEXT:
+            this.next(parsedInput);
+            return false;
+        case SORT:
+            this.sort(parsedInput);
+            return false;
+        case WORKSPACE:
+            throw new EclipseException("Workspaces are only available when launched with --workspaces DIR");
+        default:
+            throw new EclipseException("Unknown input command: " + input);
+        }
+    }
 
-            if (currTask.getDescription().contains(keyword)) {
-                String formattedEntry = String.format("%d. %s", idx + 1, currTask);
-                this.ui.showContent(formattedEntry);
+    /**
+     * Displays the p50, p99 and maximum latency of each phase of every command type run since startup.
+     * Commands run by a script are included individually, and the single save at the end of a script
+     * is counted as the persist phase of <code>run</code>.
+     */
+    public void showStatistics() {
+        List<String> lines = this.metrics.describe();
+
+        this.ui.showBorder();
+        if (lines.isEmpty()) {
+            this.ui.showContent("No commands have been timed yet.");
+        } else {
+            this.ui.showContent("Here are the command latencies since startup:");
+            for (String line : lines) {
+                this.ui.showContent("  " + line);
             }
         }
         this.ui.showBorder();
         this.ui.endOutput();
     }
 
+    /**
+     * Runs every command in a script file as a batch, then saves the changes once
+     * and displays a summary of the commands that succeeded and failed.
+     * The output of the individual commands is not displayed.
+     * Blank lines are skipped, and the script stops early at a <code>bye</code>.
+     *
+     * @param scriptPath The path of the script, one command per line.
+     * @throws EclipseException If the script cannot be read or the changes cannot be saved.
+     */
+    public void runScript(String scriptPath) throws EclipseException {
+        long startTime = System.nanoTime();
+        int commandCount = 0;
+        List<String> failures = new ArrayList<>();
+        int failureCount = 0;
+        boolean isMutated = false;
+        EclipseException readFailure = null;
+
+        this.ui.setQuiet(true);
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(scriptPath), Charset.defaultCharset())) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                commandCount++;
+                long commandStartTime = System.nanoTime();
+                try {
+                    ParsedInput parsedInput = this.parseTimed(line, commandStartTime);
+                    if (parsedInput.getCommand() == Command.BYE) {
+                        break;
+                    }
+                    if (parsedInput.getCommand() == Command.RUN) {
+                        throw new EclipseException("A script cannot run another script: " + line);
+                    }
+
+                    long executeStartTime = System.nanoTime();
+                    isMutated |= this.execute(parsedInput, line);
+                    this.metrics.record(parsedInput.getCommand(), Phase.EXECUTE, System.nanoTime() - executeStartTime);
+                } catch (EclipseException e) {
+                    failureCount++;
+                    if (failures.size() < MAX_REPORTED_SCRIPT_FAILURES) {
+                        failures.add("Line " + lineNumber + ": " + e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            readFailure = new EclipseException("Failed to read the script: " + scriptPath, e);
+        } finally {
+            this.ui.setQuiet(false);
+        }
+
+        // Whatever ran before a read failure is still saved, once
+        if (isMutated) {
+            long saveStartTime = System.nanoTime();
+            this.saveTasks();
+            this.metrics.record(Command.RUN, Phase.PERSIST, System.nanoTime() - saveStartTime);
+        }
+        if (readFailure != null) {
+            throw readFailure;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        this.ui.showBorder();
+        this.ui.showContent(String.format(
+                "Ran %d commands from %s in %d ms: %d succeeded, %d failed.",
+                commandCount,
+                scriptPath,
+                elapsedMillis,
+                commandCount - failureCount,
+                failureCount
+        ));
+        for (String failure : failures) {
+            this.ui.showContent("  " + failure);
+        }
+        if (failureCount > failures.size()) {
+            this.ui.showContent(String.format("  ... and %d more failures", failureCount - failures.size()));
+        }
+        this.ui.showBorder();
+        this.ui.endOutput();
+    }
+
+    /**
+     * Handles one line of user input: parses and executes it, saves the changes it made,
+     * displays any error and writes out the output.
+     * Each phase is timed separately into the command metrics, and only recorded if it succeeds, apart from parsing.
+     *
+     * @param input The raw user input.
+     * @return False if the input is <code>bye</code> and the session should end, true otherwise.
+     */
+    public boolean handleInput(String input) {
+        long startTime = System.nanoTime();
+        try {
+            ParsedInput parsedInput = this.parseTimed(input, startTime);
+            Command command = parsedInput.getCommand();
+            if (command == Command.BYE) {
+                return false;
+            }
+
+            long executeStartTime = System.nanoTime();
+            boolean isMutated = this.execute(parsedInput, input);
+            long persistStartTime = System.nanoTime();
+            this.metrics.record(command, Phase.EXECUTE, persistStartTime - executeStartTime);
+
+            if (isMutated) {
+                this.saveTasks();
+                this.metrics.record(command, Phase.PERSIST, System.nanoTime() - persistStartTime);
+            }
+        } catch (EclipseException e) {
+            this.handleRecoverableError(e);
+        } finally {
+            this.flushOutput();
+        }
+        return true;
+    }
+
+    /**
+     * Handles one line of input from a client session, see {@link #handleInput(String)},
+     * rendering the output into the UI of that session and reading and updating the state of that session,
+     * e.g. the order set by <code>sort by KEY</code>.
+     * Sessions take turns, so each command sees and leaves the shared task list in a consistent state.
+     * This holds for queries too, whatever the task store: a query looks up the tasks at the indices it found
+     * in the live list, which a command of another session could change in between.
+     *
+     * @param input        The raw input of the client.
+     * @param sessionUi    The UI writing to the client.
+     * @param sessionState The state of the session of the client.
+     * @return False if the input is <code>bye</code> and the session should end, true otherwise.
+     */
+    public synchronized boolean handleInput(String input, Ui sessionUi, SessionState sessionState) {
+        this.ui = sessionUi;
+        this.session = sessionState;
+        try {
+            return this.handleInput(input);
+        } finally {
+            this.ui = this.consoleUi;
+            this.session = this.consoleSession;
+        }
+    }
+
+    /**
+     * Opens a session of its own for a client sharing this task list, see
+     * {@link #handleInput(String, Ui, SessionState)}.
+     *
+     * @return The handler of the commands of the new session.
+     */
+    public InputHandler openSession() {
+        SessionState sessionState = new SessionState();
+        return (input, sessionUi) -> this.handleInput(input, sessionUi, sessionState);
+    }
+
+    /**
+     * Parses a command and records how long parsing took under its command type,
+     * or under {@link Command#INVALID} if it cannot be parsed.
+     *
+     * @param input     The raw user input.
+     * @param startTime The {@link System#nanoTime()} at which the command was received.
+     * @return The parsed input.
+     * @throws EclipseException If the input is invalid.
+     */
+    private ParsedInput parseTimed(String input, long startTime) throws EclipseException {
+        ParsedInput parsedInput;
+        try {
+            parsedInput = Parser.parse(input);
+        } catch (EclipseException e) {
+            this.metrics.record(Command.INVALID, Phase.PARSE, System.nanoTime() - startTime);
+            throw e;
+        }
+        this.metrics.record(parsedInput.getCommand(), Phase.PARSE, System.nanoTime() - startTime);
+        return parsedInput;
+    }
+
+    /**
+     * Writes out everything the UI has rendered so far, to be called once a command completes.
+     */
+    public void flushOutput() {
+        this.ui.flush();
+    }
+
     /**
      * Passes a recoverable error to the UI to be displayed to the user.
      *
@@ -201,4 +1265,13 @@ public class Eclipse {
     public int getNumberOfTasks() {
         return this.tasks.getNumberOfTasks();
     }
+
+    /**
+     * Estimates the heap taken by the task list, see {@link TaskList#estimateMemoryBytes()}.
+     *
+     * @return The estimated size in bytes.
+     */
+    public synchronized long estimateMemoryBytes() {
+        return this.tasks.estimateMemoryBytes();
+    }
 }
@@ -0,0 +1,15 @@
+package eclipse;
+
+/**
+ * Handles the lines of input of a session, one at a time, writing the output of each into a {@link Ui}.
+ */
+public interface InputHandler {
+    /**
+     * Handles one line of input: runs the command it holds and writes its output, or any error, to the UI.
+     *
+     * @param input The raw input.
+     * @param ui    The UI the output is written to.
+     * @return False if the input is <code>bye</code> and the session should end, true otherwise.
+     */
+    boolean handleInput(String input, Ui ui);
+}
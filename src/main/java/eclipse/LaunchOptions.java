@@ -0,0 +1,316 @@
+package eclipse;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import eclipse.backend.ColumnarTaskStore;
+import eclipse.backend.ObjectTaskStore;
+import eclipse.backend.TaskStore;
+import eclipse.exceptions.EclipseException;
+import eclipse.storage.JournaledStorage;
+import eclipse.storage.Storage;
+import eclipse.storage.StorageParser;
+
+/**
+ * Holds the options the application was launched with.
+ * Supported command line arguments:
+ * <ul>
+ *     <li><code>--journal</code>: append each change to a journal instead of rewriting the task file</li>
+ *     <li><code>--journal-threshold N</code>: compact the journal once it holds more than N records</li>
+ *     <li><code>--async-save</code>: save changes on a background thread instead of after every command</li>
+ *     <li><code>--save-debounce MS</code>: save once the list has stayed unchanged for MS milliseconds</li>
+ *     <li><code>--save-max-delay MS</code>: never keep a change unsaved for longer than MS milliseconds</li>
+ *     <li><code>--load-stats</code>: report how long loading the task file took on startup</li>
+ *     <li><code>--script FILE</code>: run the commands in FILE as a batch, save once and exit</li>
+ *     <li><code>--columnar</code>: keep tasks in compact columns instead of objects, for very large lists</li>
+ *     <li><code>--stats-dump SECONDS</code>: write the command latencies to <code>stats.txt</code>
+ *     in the data directory every SECONDS seconds</li>
+ *     <li><code>--server PORT</code>: serve the task list to clients connecting to PORT on the loopback interface,
+ *     instead of reading commands from the console</li>
+ *     <li><code>--jfr FILE</code>: record the session with Java Flight Recorder into FILE, e.g. for JMC</li>
+ *     <li><code>--workspaces DIR</code>: keep a separate task list for every workspace,
+ *     in a data directory of its own under DIR, switching between them with <code>workspace NAME</code></li>
+ *     <li><code>--workspace-cache N</code>: keep at most N workspaces loaded at once</li>
+ *     <li><code>--reminders DAYS</code>: remind of the open deadlines and events coming up within DAYS days,
+ *     today included, while the chatbot runs</li>
+ * </ul>
+ */
+public class LaunchOptions {
+    private static final String STATISTICS_FILE_NAME = "stats.txt";
+
+    private String dirPath = "./data";
+    private boolean isJournaled = false;
+    private int compactionThreshold = JournaledStorage.DEFAULT_COMPACTION_THRESHOLD;
+    private boolean isSavingInBackground = false;
+    private long saveDebounceMillis = 50;
+    private long saveMaxDelayMillis = 1000;
+    private boolean isShowingLoadStatistics = false;
+    private String scriptPath = null;
+    private boolean isColumnar = false;
+    private long statisticsDumpIntervalSeconds = 0;
+    private Path flightRecordingPath = null;
+    private int serverPort = -1;
+    private String workspacesDirPath = null;
+    private int workspaceCacheSize = 16;
+    private int reminderDays = 0;
+
+    /**
+     * Parses the command line arguments into a LaunchOptions instance.
+     *
+     * @param args The command line arguments.
+     * @return The parsed options.
+     * @throws EclipseException If an argument is unknown or its value is invalid.
+     */
+    public static LaunchOptions parse(String[] args) throws EclipseException {
+        LaunchOptions options = new LaunchOptions();
+
+        for (int argIdx = 0; argIdx < args.length; argIdx++) {
+            switch (args[argIdx]) {
+            case "--journal":
+                options.isJournaled = true;
+                break;
+            case "--journal-threshold":
+                options.compactionThreshold = parsePositiveInt(args, ++argIdx);
+                break;
+            case "--async-save":
+                options.isSavingInBackground = true;
+                break;
+            case "--save-debounce":
+                options.saveDebounceMillis = parsePositiveInt(args, ++argIdx);
+                break;
+            case "--save-max-delay":
+                options.saveMaxDelayMillis = parsePositiveInt(args, ++argIdx);
+                break;
+            case "--load-stats":
+                options.isShowingLoadStatistics = true;
+                break;
+            case "--script":
+                if (++argIdx >= args.length) {
+                    throw new EclipseException("Missing value for launch argument: --script");
+                }
+                options.scriptPath = args[argIdx];
+                break;
+            case "--columnar":
+                options.isColumnar = true;
+                break;
+            case "--server":
+                options.serverPort = parsePositiveInt(args, ++argIdx);
+                break;
+            case "--jfr":
+                if (++argIdx >= args.length) {
+                    throw new EclipseException("Missing value for launch argument: --jfr");
+                }
+                try {
+                    options.flightRecordingPath = Path.of(args[argIdx]);
+                } catch (InvalidPathException e) {
+                    throw new EclipseException("Invalid value for launch argument --jfr: " + args[argIdx], e);
+                }
+                break;
+            case "--stats-dump":
+                options.statisticsDumpIntervalSeconds = parsePositiveInt(args, ++argIdx);
+                break;
+            case "--workspaces":
+                if (++argIdx >= args.length) {
+                    throw new EclipseException("Missing value for launch argument: --workspaces");
+                }
+                options.workspacesDirPath = args[argIdx];
+                break;
+            case "--workspace-cache":
+                options.workspaceCacheSize = parsePositiveInt(args, ++argIdx);
+                break;
+            case "--reminders":
+                options.reminderDays = parsePositiveInt(args, ++argIdx);
+                break;
+            default:
+                throw new EclipseException("Unknown launch argument: " + args[argIdx]);
+            }
+        }
+
+        if (options.workspacesDirPath != null && (options.scriptPath != null || options.isShowingLoadStatistics)) {
+            throw new EclipseException("Launch arguments --script and --load-stats cannot be combined with --workspaces");
+        }
+        if (options.reminderDays > 0 && (options.scriptPath != null || options.workspacesDirPath != null)) {
+            throw new EclipseException("Launch argument --reminders cannot be combined with --script or --workspaces");
+        }
+        return options;
+    }
+
+    /**
+     * Parses the value of an option as a positive integer.
+     *
+     * @param args   The command line arguments.
+     * @param valIdx The index of the value in the arguments.
+     * @return The parsed value.
+     * @throws EclipseException If the value is missing, not a number or not positive.
+     */
+    private static int parsePositiveInt(String[] args, int valIdx) throws EclipseException {
+        if (valIdx >= args.length) {
+            throw new EclipseException("Missing value for launch argument: " + args[valIdx - 1]);
+        }
+
+        int val;
+        try {
+            val = Integer.parseInt(args[valIdx]);
+        } catch (NumberFormatException e) {
+            throw new EclipseException("Invalid value for launch argument " + args[valIdx - 1] + ": " + args[valIdx], e);
+        }
+
+        if (val <= 0) {
+            throw new EclipseException("Value for launch argument " + args[valIdx - 1] + " must be positive");
+        }
+        return val;
+    }
+
+    /**
+     * Returns the directory path where task data is stored.
+     *
+     * @return The data directory path.
+     */
+    public String getDirPath() {
+        return this.dirPath;
+    }
+
+    /**
+     * Returns whether changes should be saved on a background thread.
+     *
+     * @return True if saving in the background was requested.
+     */
+    public boolean isSavingInBackground() {
+        return this.isSavingInBackground;
+    }
+
+    /**
+     * Returns how long the list has to stay unchanged before a background save.
+     *
+     * @return The debounce interval in milliseconds.
+     */
+    public long getSaveDebounceMillis() {
+        return this.saveDebounceMillis;
+    }
+
+    /**
+     * Returns the longest a change may stay unsaved when saving in the background.
+     *
+     * @return The maximum delay in milliseconds.
+     */
+    public long getSaveMaxDelayMillis() {
+        return this.saveMaxDelayMillis;
+    }
+
+    /**
+     * Returns whether the load statistics should be reported on startup.
+     *
+     * @return True if reporting the load statistics was requested.
+     */
+    public boolean isShowingLoadStatistics() {
+        return this.isShowingLoadStatistics;
+    }
+
+    /**
+     * Returns the script to run as a batch instead of reading commands interactively.
+     *
+     * @return The path of the script, or null if none was given.
+     */
+    public String getScriptPath() {
+        return this.scriptPath;
+    }
+
+    /**
+     * Returns whether the task list should be served to clients over TCP.
+     *
+     * @return True if a server port was given.
+     */
+    public boolean isServing() {
+        return this.serverPort > 0;
+    }
+
+    /**
+     * Returns the port to serve the task list on.
+     *
+     * @return The port, only meaningful if {@link #isServing()} is true.
+     */
+    public int getServerPort() {
+        return this.serverPort;
+    }
+
+    /**
+     * Returns the file the session should be recorded into with Java Flight Recorder.
+     *
+     * @return The path of the recording, or null if no recording was requested.
+     */
+    public Path getFlightRecordingPath() {
+        return this.flightRecordingPath;
+    }
+
+    /**
+     * Returns how often the command latencies should be written to {@link #getStatisticsFile(String)}.
+     *
+     * @return The interval in seconds, or 0 if they should not be written.
+     */
+    public long getStatisticsDumpIntervalSeconds() {
+        return this.statisticsDumpIntervalSeconds;
+    }
+
+    /**
+     * Returns the file the command latencies of a task list are written to.
+     *
+     * @param dirPath The data directory of the task list.
+     * @return The path of the file in the data directory.
+     */
+    public Path getStatisticsFile(String dirPath) {
+        return Path.of(dirPath, STATISTICS_FILE_NAME);
+    }
+
+    /**
+     * Returns the directory holding the data directories of the workspaces.
+     *
+     * @return The path of the directory, or null if there is a single task list in {@link #getDirPath()}.
+     */
+    public String getWorkspacesDirPath() {
+        return this.workspacesDirPath;
+    }
+
+    /**
+     * Returns the most workspaces to keep loaded at once.
+     *
+     * @return The capacity of the workspace cache.
+     */
+    public int getWorkspaceCacheSize() {
+        return this.workspaceCacheSize;
+    }
+
+    /**
+     * Returns how many days ahead the user should be reminded of deadlines and events.
+     *
+     * @return The number of days, today included, or 0 if there should be no reminders.
+     */
+    public int getReminderDays() {
+        return this.reminderDays;
+    }
+
+    /**
+     * Creates the {@link Storage} selected by these options, for a data directory.
+     *
+     * @param dirPath The data directory, e.g. {@link #getDirPath()}.
+     * @return A journaled storage if requested, otherwise a storage that rewrites the task file on save.
+     */
+    public Storage createStorage(String dirPath) {
+        StorageParser parser = new StorageParser();
+        if (this.isJournaled) {
+            return new JournaledStorage(parser, dirPath, this.compactionThreshold);
+        }
+        return new Storage(parser, dirPath);
+    }
+
+    /**
+     * Creates the empty {@link TaskStore} selected by these options.
+     *
+     * @return A columnar store if requested, otherwise a store keeping one object per task.
+     */
+    public TaskStore createTaskStore() {
+        if (this.isColumnar) {
+            return new ColumnarTaskStore();
+        }
+        return new ObjectTaskStore();
+    }
+}
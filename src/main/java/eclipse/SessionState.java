@@ -0,0 +1,33 @@
+package eclipse;
+
+import eclipse.index.SortedView;
+
+/**
+ * Represents what a session has set for itself while it works on a task list,
+ * which the commands of other sessions sharing the same list must not see or change.
+ */
+public class SessionState {
+    /**
+     * The order <code>list</code> shows the tasks in, as set by <code>sort by KEY</code>,
+     * or null to show them in the order of the list.
+     */
+    private SortedView.Order listOrder;
+
+    /**
+     * Returns the order <code>list</code> shows the tasks in.
+     *
+     * @return The order, or null for the order of the list.
+     */
+    public SortedView.Order getListOrder() {
+        return this.listOrder;
+    }
+
+    /**
+     * Sets the order <code>list</code> shows the tasks in from now on.
+     *
+     * @param listOrder The order, or null for the order of the list.
+     */
+    public void setListOrder(SortedView.Order listOrder) {
+        this.listOrder = listOrder;
+    }
+}
@@ -1,33 +1,128 @@
 package eclipse;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import eclipse.backend.ObjectTaskStore;
+import eclipse.backend.SnapshotTaskStore;
+import eclipse.backend.StableTaskStore;
+import eclipse.backend.TaskStore;
 import eclipse.exceptions.EclipseException;
+import eclipse.index.AgendaIndex;
+import eclipse.index.DateIndex;
+import eclipse.index.SortedView;
+import eclipse.index.TokenIndex;
+import eclipse.index.TrigramIndex;
 import eclipse.parser.ParsedInput;
 import eclipse.task.Deadline;
 import eclipse.task.Event;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
 import eclipse.task.Task;
 import eclipse.task.Todo;
 
 /**
  * Provides methods to add, delete, and retrieve tasks and so on
- * Encapsulates a <code>List</code> of {@link Task} objects
+ * Encapsulates a {@link TaskStore} holding the tasks in order,
+ * together with a {@link TokenIndex} and a {@link TrigramIndex} over their descriptions,
+ * a {@link DateIndex} over their dates and an {@link AgendaIndex} over the open tasks coming up,
+ * and a {@link SortedView} for every order the list has been sorted in.
+ * The indexes hold on to the tasks themselves, so they are only built over stores that keep their tasks,
+ * see {@link StableTaskStore}. Over any other store, queries scan the list instead.
+ * They are built by the first query needing them rather than while loading, as building them
+ * takes about ten times as long as reading the task file, and would otherwise delay the first prompt.
+ * <p>
+ * Changes to the list are serialized on the task list. Each query reads a single version of the store,
+ * see {@link TaskStore#snapshot()}, so over a {@link SnapshotTaskStore} queries can run on any thread
+ * without locking while the list is being changed, and the indices they return are those of that version.
+ * Over the other stores, queries must not run concurrently with changes.
+ * {@link Eclipse} does not rely on this, and runs every command, queries included, in turn.
  */
 public class TaskList {
     /**
      * The internal list of tasks.
      */
-    private final List<Task> tasks;
+    private final TaskStore tasks;
 
     /**
-     * Initializes a TaskList with a <code>List</code> of {@link Task} objects
+     * The internal list of tasks if the store keeps them, to look up the index of a task, or null otherwise.
+     */
+    private final StableTaskStore stableTasks;
+
+    /**
+     * Whether the indexes and {@link #tasksById} are kept, which is only possible if the store keeps its tasks.
+     */
+    private final boolean isIndexed;
+
+    /**
+     * The tasks in the list by their internal ID, which unlike their index never changes.
+     */
+    private final Map<Integer, Task> tasksById = new HashMap<>();
+    private int nextId = 0;
+
+    /**
+     * A substring query is answered from the trigram index only if it has at most
+     * one candidate for every this many tasks, past that a plain scan is faster.
+     */
+    private static final int MAX_INDEXED_CANDIDATE_FRACTION = 20;
+
+    /**
+     * The heap taken by the indexes and {@link #tasksById} for each task, as measured by
+     * <code>TaskStoreFootprint</code> over descriptions of a few words.
+     */
+    private static final int INDEX_BYTES_PER_TASK = 800;
+
+    private final TokenIndex tokenIndex = new TokenIndex();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final DateIndex dateIndex = new DateIndex();
+    private final AgendaIndex agendaIndex = new AgendaIndex();
+
+    /**
+     * Whether the token, trigram, date and agenda indexes have been built, see {@link #buildIndexes()}.
+     */
+    private boolean hasBuiltIndexes = false;
+
+    /**
+     * The list in each order it has been sorted in, built by the first request for that order,
+     * see {@link #getSortedWindow(SortedView.Order, int, int)}, and kept sorted from then on.
+     */
+    private final Map<SortedView.Order, SortedView> sortedViews = new EnumMap<>(SortedView.Order.class);
+
+    /**
+     * Initializes a TaskList with a <code>List</code> of {@link Task} objects and assigns them internal IDs.
      *
      * @param tasks The initial list of tasks.
      */
     public TaskList(List<Task> tasks) {
-        this.tasks = tasks;
+        this(tasks, new ObjectTaskStore());
+    }
+
+    /**
+     * Initializes a TaskList with a <code>List</code> of {@link Task} objects kept in the given store
+     * and assigns them internal IDs.
+     *
+     * @param tasks The initial list of tasks.
+     * @param store The empty store the tasks are kept in.
+     */
+    public TaskList(List<Task> tasks, TaskStore store) {
+        this.tasks = store;
+        this.stableTasks = store instanceof StableTaskStore ? (StableTaskStore) store : null;
+        this.isIndexed = this.stableTasks != null;
+        for (Task task : tasks) {
+            this.addToStore(task);
+        }
     }
 
     /**
@@ -40,11 +135,33 @@ public class TaskList {
 
     /**
      * Returns the list of tasks.
+     * Over a {@link SnapshotTaskStore}, this is the version of the list current when it is called.
      *
      * @return The list of tasks.
      */
     public List<Task> getTasks() {
-        return this.tasks;
+        return this.tasks.snapshot().asList();
+    }
+
+    /**
+     * Returns a window of the list in O(log n + count) time, without visiting the tasks before it.
+     *
+     * @param fromIdx The 0-based index of the first task in the window.
+     * @param count   The most tasks to return, fewer if the list ends first.
+     * @return The tasks in the window, in order.
+     */
+    public List<Task> getTasksInRange(int fromIdx, int count) {
+        TaskStore version = this.tasks.snapshot();
+        List<Task> window = new ArrayList<>();
+        if (fromIdx >= version.size()) {
+            return window;
+        }
+
+        Iterator<Task> iterator = version.iteratorFrom(fromIdx);
+        while (window.size() < count && iterator.hasNext()) {
+            window.add(iterator.next());
+        }
+        return window;
     }
 
     /**
@@ -54,25 +171,82 @@ public class TaskList {
      * @return The newly created {@link Task}.
      * @throws EclipseException If the command is of invalid type
      */
-    public Task add(ParsedInput parsedInput) throws EclipseException {
+    public synchronized Task add(ParsedInput parsedInput) throws EclipseException {
+        Optional<Recurrence> recurrence = parsedInput.getOptionalRecurrence();
         Task newTask = switch (parsedInput.getCommand()) {
             case TODO -> new Todo(parsedInput.getParams());
-            case DEADLINE -> new Deadline(
-                    parsedInput.getParams(),
-                    parsedInput.getBy()
-            );
-            case EVENT -> new Event(
-                    parsedInput.getParams(),
-                    parsedInput.getFrom(),
-                    parsedInput.getTo()
-            );
+            case DEADLINE -> recurrence.isPresent()
+                    ? new RecurringTask(parsedInput.getParams(), false, parsedInput.getBy(), recurrence.get())
+                    : new Deadline(
+                            parsedInput.getParams(),
+                            parsedInput.getBy()
+                    );
+            case EVENT -> recurrence.isPresent()
+                    ? new RecurringTask(
+                            parsedInput.getParams(),
+                            false,
+                            parsedInput.getFrom(),
+                            parsedInput.getTo(),
+                            recurrence.get())
+                    : new Event(
+                            parsedInput.getParams(),
+                            parsedInput.getFrom(),
+                            parsedInput.getTo()
+                    );
             default -> throw new EclipseException("Invalid parsed input, cannot be added as task" + parsedInput);
         };
 
-        tasks.add(newTask);
+        this.addToStore(newTask);
         return newTask;
     }
 
+    private void addToStore(Task task) {
+        task.setId(this.nextId);
+        this.nextId++;
+        this.tasks.add(task);
+        if (this.isIndexed) {
+            this.tasksById.put(task.getId(), task);
+        }
+        if (this.hasBuiltIndexes) {
+            this.addToIndexes(task);
+        }
+        for (SortedView view : this.sortedViews.values()) {
+            view.add(task);
+        }
+    }
+
+    private void addToIndexes(Task task) {
+        this.tokenIndex.add(task);
+        this.trigramIndex.add(task);
+        this.dateIndex.add(task);
+        this.agendaIndex.add(task);
+    }
+
+    private void removeFromIndexes(Task task) {
+        this.tokenIndex.remove(task);
+        this.trigramIndex.remove(task);
+        this.dateIndex.remove(task);
+        this.agendaIndex.remove(task);
+    }
+
+    /**
+     * Builds the token, trigram, date and agenda indexes over every task in the list, if the list keeps them
+     * and they have not been built yet. From then on, they are kept up to date as the list changes.
+     * Queries needing the indexes call this first, so calling it ahead only moves the cost earlier.
+     *
+     * @return True if the indexes can answer queries.
+     */
+    public synchronized boolean buildIndexes() {
+        if (this.isIndexed && !this.hasBuiltIndexes) {
+            Iterator<Task> iterator = this.tasks.iteratorFrom(0);
+            while (iterator.hasNext()) {
+                this.addToIndexes(iterator.next());
+            }
+            this.hasBuiltIndexes = true;
+        }
+        return this.isIndexed;
+    }
+
     /**
      * Deletes a task from the list at the specified index.
      *
@@ -80,7 +254,7 @@ public class TaskList {
      * @return The {@link Task} that was removed.
      * @throws EclipseException If the provided index is out of bounds.
      */
-    public Task delete(int idx) throws EclipseException {
+    public synchronized Task delete(int idx) throws EclipseException {
         Optional<Task> maybeTask = getTaskById(idx);
         Task taskToDelete = maybeTask.orElseThrow(
                 () -> new EclipseException(
@@ -88,10 +262,420 @@ public class TaskList {
                                 + this.tasks.size()
                 )
         );
-        tasks.remove(taskToDelete);
+        tasks.remove(idx);
+        if (this.isIndexed) {
+            this.tasksById.remove(taskToDelete.getId());
+        }
+        if (this.hasBuiltIndexes) {
+            this.removeFromIndexes(taskToDelete);
+        }
+        for (SortedView view : this.sortedViews.values()) {
+            view.remove(taskToDelete);
+        }
         return taskToDelete;
     }
 
+    /**
+     * Skips the occurrence of the recurring task at the specified index that starts on the given date.
+     * The task is replaced by a copy with the same internal ID, see {@link RecurringTask#withSkipped(LocalDate)}.
+     *
+     * @param idx  The 0-based index of the recurring task.
+     * @param date The start date of the occurrence to skip.
+     * @return The task after the change.
+     * @throws EclipseException If the index is out of bounds, the task does not recur
+     *                          or no occurrence to skip starts on that date.
+     */
+    public synchronized RecurringTask skipOccurrence(int idx, LocalDate date) throws EclipseException {
+        Task task = this.getTaskById(idx).orElseThrow(
+                () -> new EclipseException(
+                        "Given index does not exists in the task list, current task list length: "
+                                + this.tasks.size()
+                )
+        );
+        if (!(task instanceof RecurringTask)) {
+            throw new EclipseException("Only recurring tasks have occurrences to skip: " + task);
+        }
+
+        RecurringTask skippedTask = ((RecurringTask) task).withSkipped(date);
+        this.tasks.set(idx, skippedTask);
+        if (this.isIndexed) {
+            this.tasksById.put(skippedTask.getId(), skippedTask);
+        }
+        if (this.hasBuiltIndexes) {
+            this.removeFromIndexes(task);
+            this.addToIndexes(skippedTask);
+        }
+        this.replaceInSortedViews(task, skippedTask);
+        return skippedTask;
+    }
+
+    /**
+     * Marks the task at the specified index as done or not done.
+     *
+     * @param idx    The 0-based index of the task.
+     * @param isDone Whether the task is done.
+     * @return An {@link Optional} containing the task after the change, or empty if the index is invalid.
+     */
+    public synchronized Optional<Task> setDone(int idx, boolean isDone) {
+        if (idx < 0 || idx >= this.tasks.size()) {
+            return Optional.empty();
+        }
+
+        // Some stores replace the task with a marked copy, so the views have to drop the old one
+        Task oldTask = this.sortedViews.isEmpty() ? null : this.tasks.get(idx);
+        Task task = this.tasks.setDone(idx, isDone);
+        if (this.hasBuiltIndexes) {
+            // Only open tasks come up on the agenda
+            if (isDone) {
+                this.agendaIndex.remove(task);
+            } else {
+                this.agendaIndex.add(task);
+            }
+        }
+        if (oldTask != null) {
+            this.replaceInSortedViews(oldTask, task);
+        }
+        return Optional.of(task);
+    }
+
+    private void replaceInSortedViews(Task oldTask, Task newTask) {
+        for (SortedView view : this.sortedViews.values()) {
+            view.remove(oldTask);
+            view.add(newTask);
+        }
+    }
+
+    /**
+     * Returns a window of the list sorted in an order, ties broken by their order in the list.
+     * The first request for an order sorts the list once in O(n log n) time, and from then on the
+     * {@link SortedView} is kept sorted as tasks are added, deleted and marked, so that each window,
+     * e.g. a page, takes O(log n + count) time. Over a store that does not keep its tasks,
+     * the list is sorted for every window instead.
+     *
+     * @param order    The order to sort the list in.
+     * @param fromRank The 0-based position in the sorted list of the first task in the window.
+     * @param count    The most tasks to return, fewer if the list ends first.
+     * @return The 0-based indices of the tasks in the list, in sorted order,
+     *         so that they can be given to commands like <code>mark</code> and <code>delete</code>.
+     */
+    public synchronized List<Integer> getSortedWindow(SortedView.Order order, int fromRank, int count) {
+        if (this.isIndexed) {
+            SortedView view = this.sortedViews.computeIfAbsent(order, o -> new SortedView(o, this.getTasks()));
+            return this.toIndices(view.getWindow(fromRank, count));
+        }
+
+        List<Integer> indices = this.sortIndices(order);
+        int fromIdx = Math.min(fromRank, indices.size());
+        return new ArrayList<>(indices.subList(fromIdx, Math.min(indices.size(), fromIdx + count)));
+    }
+
+    /**
+     * Returns the list sorted in an order, ties broken by their order in the list, as consecutive windows of indices,
+     * for writing out the whole sorted list without holding all of it at once.
+     * Over a store that keeps its tasks, each window is read from the {@link SortedView} of the order
+     * as it is asked for, so only one window is held at a time. Otherwise the list is sorted once, up front.
+     * The windows are read from the live list, so it must not change while they are iterated.
+     *
+     * @param order      The order to sort the list in.
+     * @param windowSize The most indices in each window.
+     * @return The windows of 0-based indices of the tasks in the list, in sorted order.
+     */
+    public synchronized Iterator<List<Integer>> getSortedWindows(SortedView.Order order, int windowSize) {
+        List<Integer> sortedIndices = this.isIndexed ? null : this.sortIndices(order);
+        int taskCount = this.isIndexed ? this.getNumberOfTasks() : sortedIndices.size();
+        return new Iterator<>() {
+            private int fromRank = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.fromRank < taskCount;
+            }
+
+            @Override
+            public List<Integer> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                List<Integer> window = sortedIndices == null
+                        ? TaskList.this.getSortedWindow(order, this.fromRank, windowSize)
+                        : sortedIndices.subList(this.fromRank, Math.min(taskCount, this.fromRank + windowSize));
+                this.fromRank += windowSize;
+                return window;
+            }
+        };
+    }
+
+    private List<Integer> sortIndices(SortedView.Order order) {
+        List<Task> version = new ArrayList<>(this.getTasks());
+        List<Integer> indices = new ArrayList<>(version.size());
+        for (int idx = 0; idx < version.size(); idx++) {
+            indices.add(idx);
+        }
+        indices.sort(Comparator.comparing(version::get, order.getComparator()));
+        return indices;
+    }
+
+    /**
+     * Finds the tasks whose descriptions contain the keyword as a substring, case-sensitively.
+     * Keywords of at least {@link TrigramIndex#GRAM_LENGTH} characters are answered from the trigram index,
+     * shorter ones, and ones common enough that the index would verify a large part of the list anyway,
+     * by scanning every task.
+     *
+     * @param keyword The substring to look for.
+     * @return The sorted 0-based indices of the matching tasks.
+     */
+    public List<Integer> findBySubstring(String keyword) {
+        if (keyword.length() >= TrigramIndex.GRAM_LENGTH
+                && this.buildIndexes()
+                && this.trigramIndex.countCandidates(keyword) <= this.tasks.size() / MAX_INDEXED_CANDIDATE_FRACTION) {
+            return this.toSortedIndices(this.trigramIndex.findSubstring(keyword));
+        }
+        return this.scan(task -> task.getDescription().contains(keyword));
+    }
+
+    /**
+     * Finds the tasks whose descriptions contain all of the given words, using the token index.
+     * Words are matched whole and case-insensitively.
+     *
+     * @param words The words to look for, separated by spaces.
+     * @return The sorted 0-based indices of the matching tasks.
+     */
+    public List<Integer> findByWords(String words) {
+        if (this.buildIndexes()) {
+            return this.toSortedIndices(this.tokenIndex.findWords(words));
+        }
+
+        List<String> queryTokens = TokenIndex.tokenize(words);
+        if (queryTokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return this.scan(task -> Set.copyOf(TokenIndex.tokenize(task.getDescription())).containsAll(queryTokens));
+    }
+
+    /**
+     * Finds the tasks whose descriptions contain a word starting with the given prefix, using the token index.
+     * The prefix is matched case-insensitively.
+     *
+     * @param prefix The prefix to look for.
+     * @return The sorted 0-based indices of the matching tasks.
+     */
+    public List<Integer> findByPrefix(String prefix) {
+        if (this.buildIndexes()) {
+            return this.toSortedIndices(this.tokenIndex.findPrefix(prefix));
+        }
+
+        String normalizedPrefix = TokenIndex.normalizePrefix(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return this.scan(task -> TokenIndex.tokenize(task.getDescription()).stream()
+                .anyMatch(token -> token.startsWith(normalizedPrefix)));
+    }
+
+    /**
+     * Finds the deadlines due on or before the given date,
+     * including recurring deadlines with an occurrence due by then.
+     *
+     * @param date The last date of interest, inclusive.
+     * @return The sorted 0-based indices of the matching tasks.
+     */
+    public List<Integer> findDueBy(LocalDate date) {
+        if (this.buildIndexes()) {
+            return this.toSortedIndices(this.dateIndex.findDueBy(date));
+        }
+        return this.scan(task -> {
+            if (task instanceof RecurringTask) {
+                RecurringTask recurringTask = (RecurringTask) task;
+                return !recurringTask.isEventSeries() && recurringTask.countOccurrencesBetween(LocalDate.MIN, date) > 0;
+            }
+            return task instanceof Deadline && !((Deadline) task).getBy().isAfter(date);
+        });
+    }
+
+    /**
+     * Finds the deadlines due within the range and the events taking place on at least one day of it,
+     * including recurring tasks with an occurrence that does.
+     *
+     * @param from The first date of the range, inclusive.
+     * @param to   The last date of the range, inclusive.
+     * @return The sorted 0-based indices of the matching tasks.
+     */
+    public List<Integer> findBetween(LocalDate from, LocalDate to) {
+        if (this.buildIndexes()) {
+            return this.toSortedIndices(this.dateIndex.findBetween(from, to));
+        }
+        return this.scan(task -> {
+            if (task instanceof RecurringTask) {
+                return ((RecurringTask) task).countOccurrencesBetween(from, to) > 0;
+            }
+            if (task instanceof Deadline) {
+                LocalDate by = ((Deadline) task).getBy();
+                return !by.isBefore(from) && !by.isAfter(to);
+            }
+            return task instanceof Event && overlaps((Event) task, from.toEpochDay(), to.toEpochDay());
+        });
+    }
+
+    /**
+     * Finds the other events in the list sharing at least one day with the event at the specified index,
+     * including recurring events with an occurrence that does.
+     *
+     * @param idx The 0-based index of the event to check.
+     * @return The sorted 0-based indices of the overlapping events, empty if the task is not an event.
+     */
+    public List<Integer> findOverlappingEvents(int idx) {
+        TaskStore version = this.tasks.snapshot();
+        if (idx < 0 || idx >= version.size() || !(version.get(idx) instanceof Event)) {
+            return new ArrayList<>();
+        }
+
+        Event event = (Event) version.get(idx);
+        if (this.buildIndexes()) {
+            return this.toSortedIndices(this.dateIndex.findOverlappingEvents(event));
+        }
+
+        long eventEnd = Math.max(event.getFrom().toEpochDay(), event.getTo().toEpochDay());
+        List<Integer> indices = scan(version, task -> {
+            if (task instanceof RecurringTask) {
+                RecurringTask recurringTask = (RecurringTask) task;
+                return recurringTask.isEventSeries()
+                        && recurringTask.countOccurrencesBetween(event.getFrom(), LocalDate.ofEpochDay(eventEnd)) > 0;
+            }
+            return task instanceof Event && overlaps((Event) task, event.getFrom().toEpochDay(), eventEnd);
+        });
+        indices.remove(Integer.valueOf(idx));
+        return indices;
+    }
+
+    /**
+     * Finds the open deadlines, events and recurring tasks coming up next, on or after the given date:
+     * deadlines by their due date, events by their start date and recurring tasks by their next occurrence.
+     * Takes O(N log n) time from the agenda index, plus re-keying the recurring tasks whose next occurrence
+     * has passed since the last query, or a scan keeping the N nearest over any other store.
+     *
+     * @param from  The first date of interest, usually today.
+     * @param count The most tasks to return.
+     * @return The 0-based indices of the tasks, from the one coming up first.
+     */
+    public List<Integer> findNext(LocalDate from, int count) {
+        if (this.buildIndexes()) {
+            // Queries re-key the recurring tasks in the agenda index, so they take turns with changes
+            synchronized (this) {
+                return this.toIndices(this.agendaIndex.findNext(from, count));
+            }
+        }
+        return this.scanComingUp(from, LocalDate.MAX, count);
+    }
+
+    /**
+     * Finds the open deadlines, events and recurring tasks coming up within a range of dates, e.g. to be reminded of.
+     *
+     * @param from The first date of the range, inclusive.
+     * @param to   The last date of the range, inclusive.
+     * @return The 0-based indices of the tasks, from the one coming up first.
+     */
+    public List<Integer> findComingUpBetween(LocalDate from, LocalDate to) {
+        if (this.buildIndexes()) {
+            synchronized (this) {
+                return this.toIndices(this.agendaIndex.findComingUpBetween(from, to));
+            }
+        }
+        return this.scanComingUp(from, to, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks every task in the list, keeping the nearest ones coming up in a bounded heap.
+     */
+    private List<Integer> scanComingUp(LocalDate from, LocalDate to, int count) {
+        Comparator<Map.Entry<LocalDate, Integer>> nearestFirst = Map.Entry.<LocalDate, Integer>comparingByKey()
+                .thenComparing(Map.Entry.comparingByValue());
+        PriorityQueue<Map.Entry<LocalDate, Integer>> nearest = new PriorityQueue<>(nearestFirst.reversed());
+
+        Iterator<Task> iterator = this.tasks.snapshot().iteratorFrom(0);
+        for (int idx = 0; iterator.hasNext(); idx++) {
+            Optional<LocalDate> date = AgendaIndex.nextDateOf(iterator.next(), from).filter(d -> !d.isAfter(to));
+            if (date.isPresent()) {
+                nearest.add(Map.entry(date.get(), idx));
+                if (nearest.size() > count) {
+                    nearest.poll();
+                }
+            }
+        }
+
+        List<Map.Entry<LocalDate, Integer>> sorted = new ArrayList<>(nearest);
+        sorted.sort(nearestFirst);
+        List<Integer> indices = new ArrayList<>(sorted.size());
+        for (Map.Entry<LocalDate, Integer> entry : sorted) {
+            indices.add(entry.getValue());
+        }
+        return indices;
+    }
+
+    /**
+     * Checks whether an event takes place on at least one day of a range, the same way the {@link DateIndex} does.
+     * An event with its end before its start is treated as lasting only its first day.
+     */
+    private static boolean overlaps(Event event, long fromDay, long toDay) {
+        long eventStart = event.getFrom().toEpochDay();
+        long eventEnd = Math.max(eventStart, event.getTo().toEpochDay());
+        return eventStart <= toDay && eventEnd >= fromDay;
+    }
+
+    /**
+     * Checks every task in the list in order, for queries the indexes cannot answer.
+     *
+     * @param predicate The condition a matching task satisfies.
+     * @return The sorted 0-based indices of the matching tasks.
+     */
+    private List<Integer> scan(Predicate<Task> predicate) {
+        return scan(this.tasks.snapshot(), predicate);
+    }
+
+    /**
+     * Checks every task in a version of the list in order.
+     *
+     * @param version   The version of the list to check.
+     * @param predicate The condition a matching task satisfies.
+     * @return The sorted 0-based indices of the matching tasks in that version.
+     */
+    private static List<Integer> scan(TaskStore version, Predicate<Task> predicate) {
+        List<Integer> indices = new ArrayList<>();
+        Iterator<Task> iterator = version.iteratorFrom(0);
+        for (int idx = 0; iterator.hasNext(); idx++) {
+            if (predicate.test(iterator.next())) {
+                indices.add(idx);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Maps tasks to their current positions in the list.
+     *
+     * @param matches The tasks to be located.
+     * @return The sorted 0-based indices of the tasks.
+     */
+    private List<Integer> toSortedIndices(Collection<? extends Task> matches) {
+        List<Integer> indices = this.toIndices(matches);
+        indices.sort(null);
+        return indices;
+    }
+
+    /**
+     * Maps tasks to their current positions in the list, keeping their order.
+     *
+     * @param matches The tasks to be located.
+     * @return The 0-based indices of the tasks.
+     */
+    private List<Integer> toIndices(Collection<? extends Task> matches) {
+        List<Integer> indices = new ArrayList<>(matches.size());
+        for (Task task : matches) {
+            indices.add(this.stableTasks.indexOf(task));
+        }
+        return indices;
+    }
+
     /**
      * Retrieves an optional task at a specific index.
      *
@@ -99,11 +683,56 @@ public class TaskList {
      * @return An {@link Optional} containing the task if found, or empty if the index is invalid.
      */
     public Optional<Task> getTaskById(int id) {
-        try {
-            return Optional.of(tasks.get(id));
-        } catch (Exception e) {
+        TaskStore version = this.tasks.snapshot();
+        if (id < 0 || id >= version.size()) {
             return Optional.empty();
         }
+        return Optional.of(version.get(id));
+    }
+
+    /**
+     * Retrieves a task by its internal ID, which stays the same while other tasks are added or deleted.
+     *
+     * @param id The internal ID of the task, as returned by {@link Task#getId()}.
+     * @return An {@link Optional} containing the task if it is still in the list, or empty otherwise.
+     */
+    public Optional<Task> getTaskWithInternalId(int id) {
+        if (this.isIndexed) {
+            return Optional.ofNullable(this.tasksById.get(id));
+        }
+
+        TaskStore version = this.tasks.snapshot();
+        List<Integer> indices = scan(version, task -> task.getId() == id);
+        return indices.isEmpty() ? Optional.empty() : Optional.of(version.get(indices.get(0)));
+    }
+
+    /**
+     * Returns the current index of a task in the list.
+     *
+     * @param task The task to look for.
+     * @return The 0-based index of the task, or -1 if it is not in the list.
+     */
+    public int getIndexOf(Task task) {
+        if (this.isIndexed) {
+            return this.stableTasks.indexOf(task);
+        }
+
+        List<Integer> indices = this.scan(other -> other.getId() == task.getId());
+        return indices.isEmpty() ? -1 : indices.get(0);
+    }
+
+    /**
+     * Estimates the heap taken by the list: its store, see {@link TaskStore#estimateMemoryBytes()},
+     * and its indexes once they are built.
+     *
+     * @return The estimated size in bytes.
+     */
+    public long estimateMemoryBytes() {
+        long bytes = this.tasks.snapshot().estimateMemoryBytes();
+        if (this.hasBuiltIndexes) {
+            bytes += (long) INDEX_BYTES_PER_TASK * this.tasks.size();
+        }
+        return bytes;
     }
 
     /**
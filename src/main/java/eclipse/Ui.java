@@ -1,27 +1,129 @@
 package eclipse;
 
+import java.io.PrintStream;
+import java.util.List;
+
 import eclipse.exceptions.EclipseException;
 
 /**
  * Handles the user interface(UI) of the application.
  * This class is responsible for formatting and printing messages to the standard output stream,
  * including greetings, errors, and task-related notifications.
+ * Output is rendered into a buffer and written in one go by {@link #flush()} once a command completes,
+ * or in blocks while a long listing is being rendered, rather than line by line.
  */
 public class Ui {
     private static final String HORIZONTAL_LINE = "____________________________________________________________";
     private static final String INDENT_SPACES = "    ";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * How much output is buffered before a block is written while a command is still running.
+     * A terminal gets smaller blocks so that long listings start appearing quickly,
+     * while redirected output is only read once the command completes anyway.
+     */
+    private static final int TERMINAL_BLOCK_SIZE = 8 * 1024;
+    private static final int REDIRECTED_BLOCK_SIZE = 256 * 1024;
+
+    private final PrintStream out;
+    private final StringBuilder buffer;
+
+    private final int blockSize;
+
+    /**
+     * Holds a full block while it is written, so that writing does not copy the buffer into a new string.
+     * Only allocated once output first fills a block, as most commands print far less than that.
+     */
+    private char[] block;
+
+    /**
+     * Whether output is currently suppressed, e.g. while running a script.
+     */
+    private boolean isQuiet = false;
+
+    /**
+     * Initializes a UI writing to the standard output stream.
+     */
+    public Ui() {
+        this(System.out, System.console() != null);
+    }
+
+    /**
+     * Initializes a UI writing to the given stream.
+     *
+     * @param out        The stream to write to.
+     * @param isTerminal Whether the stream is shown in a terminal as it is written.
+     */
+    public Ui(PrintStream out, boolean isTerminal) {
+        this.out = out;
+        this.blockSize = isTerminal ? TERMINAL_BLOCK_SIZE : REDIRECTED_BLOCK_SIZE;
+        this.buffer = new StringBuilder();
+    }
+
+    /**
+     * Suppresses or restores all output of this UI.
+     *
+     * @param isQuiet True to stop printing anything, false to print again.
+     */
+    public synchronized void setQuiet(boolean isQuiet) {
+        this.isQuiet = isQuiet;
+    }
+
+    /**
+     * Writes everything rendered so far to the output stream.
+     * Called once a command completes.
+     */
+    public synchronized void flush() {
+        this.writeFullBlocks();
+        if (this.buffer.length() > 0) {
+            this.out.append(this.buffer);
+            this.buffer.setLength(0);
+        }
+        this.out.flush();
+    }
+
+    /**
+     * Writes out every full block in the buffer without flushing the output stream,
+     * keeping the rest in the buffer.
+     */
+    private void writeFullBlocks() {
+        int writtenLength = 0;
+        while (this.buffer.length() - writtenLength >= this.blockSize) {
+            if (this.block == null) {
+                this.block = new char[this.blockSize];
+            }
+            this.buffer.getChars(writtenLength, writtenLength + this.blockSize, this.block, 0);
+            this.out.print(this.block);
+            writtenLength += this.blockSize;
+        }
+        this.buffer.delete(0, writtenLength);
+    }
 
     /**
-     * Prints a string to the standard out with the standard indentation prefix.
+     * Ends the current line, writing out a block once enough output has been buffered.
+     */
+    private void endLine() {
+        this.buffer.append(LINE_SEPARATOR);
+        if (this.buffer.length() >= this.blockSize) {
+            this.writeFullBlocks();
+        }
+    }
+
+    /**
+     * Renders a string with the standard indentation prefix as a line of output.
      *
      * @param str The string to be printed.
      */
     private void printIndentedLine(String str) {
-        System.out.println(INDENT_SPACES + str);
+        if (this.isQuiet) {
+            return;
+        }
+        this.buffer.append(INDENT_SPACES).append(str);
+        this.endLine();
     }
 
     /**
-     * Prints a horizontal line with indentation as separator.
+     * Renders a horizontal line with indentation as separator.
      */
     private void printIndentedHorizontalLine() {
         this.printIndentedLine(HORIZONTAL_LINE);
@@ -29,19 +131,55 @@ public class Ui {
 
     /**
      * Displays a formatted error message to the user when an {@link EclipseException} occurs.
+     * The message is written out immediately, as errors may also come from the background writer.
      *
      * @param e The exception containing the error message to display.
      */
-    public void showRecoverableError(EclipseException e) {
+    public synchronized void showRecoverableError(EclipseException e) {
         printIndentedHorizontalLine();
         printIndentedLine("OOPS!!! " + e.getMessage());
         printIndentedHorizontalLine();
+        this.flush();
+    }
+
+    /**
+     * Displays a notification that is not the output of a command, e.g. a reminder from a background thread.
+     * It is written out at once, straight to the output stream rather than through the buffer,
+     * so that it never lands in the middle of the output of a command still being rendered.
+     *
+     * @param lines The lines of the notification, each printed with indentation between two borders.
+     */
+    public synchronized void showNotification(List<String> lines) {
+        if (this.isQuiet) {
+            return;
+        }
+
+        StringBuilder notification = new StringBuilder();
+        notification.append(INDENT_SPACES).append(HORIZONTAL_LINE).append(LINE_SEPARATOR);
+        for (String line : lines) {
+            notification.append(INDENT_SPACES).append(line).append(LINE_SEPARATOR);
+        }
+        notification.append(INDENT_SPACES).append(HORIZONTAL_LINE).append(LINE_SEPARATOR);
+        notification.append(LINE_SEPARATOR);
+        this.out.append(notification);
+        this.out.flush();
+    }
+
+    /**
+     * Displays an error raised on a background thread, e.g. by a save in the background,
+     * as a notification, see {@link #showNotification(List)}, rather than through the buffer
+     * the output of the current command is being rendered into.
+     *
+     * @param e The error to be displayed.
+     */
+    public void showBackgroundError(EclipseException e) {
+        this.showNotification(List.of("OOPS!!! " + e.getMessage()));
     }
 
     /**
      * Displays a decorative border to separate sections of output.
      */
-    public void showBorder() {
+    public synchronized void showBorder() {
         this.printIndentedHorizontalLine();
     }
 
@@ -50,15 +188,33 @@ public class Ui {
      *
      * @param content The text to display.
      */
-    public void showContent(String content) {
+    public synchronized void showContent(String content) {
         this.printIndentedLine(content);
     }
 
+    /**
+     * Prints a numbered entry of a list with indentation, e.g. <code>1. [T][ ] read book</code>
+     * The entry is rendered straight into the output buffer without formatting an intermediate string.
+     *
+     * @param number The number shown before the entry.
+     * @param entry  The entry to display.
+     */
+    public synchronized void showNumberedContent(int number, Object entry) {
+        if (this.isQuiet) {
+            return;
+        }
+        this.buffer.append(INDENT_SPACES).append(number).append(". ").append(entry);
+        this.endLine();
+    }
+
     /**
      * Prints an empty line to signal the end of a specific output block.
      */
-    public void endOutput() {
-        System.out.println();
+    public synchronized void endOutput() {
+        if (this.isQuiet) {
+            return;
+        }
+        this.endLine();
     }
 
     /**
@@ -66,21 +222,23 @@ public class Ui {
      *
      * @param chatbotName The name of the chatbot to display in the greeting.
      */
-    public void greet(String chatbotName) {
+    public synchronized void greet(String chatbotName) {
         printIndentedLine(HORIZONTAL_LINE);
         printIndentedLine("Hello! I'm " + chatbotName);
         printIndentedLine("What can I do for you?");
         printIndentedLine(HORIZONTAL_LINE);
-        System.out.println();
+        this.endOutput();
+        this.flush();
     }
 
     /**
      * Displays the exit message when the application exits.
      */
-    public void exit() {
+    public synchronized void exit() {
         printIndentedLine(HORIZONTAL_LINE);
         printIndentedLine("Bye. Hope to see you again soon!");
         printIndentedLine(HORIZONTAL_LINE);
-        System.out.println();
+        this.endOutput();
+        this.flush();
     }
 }
@@ -0,0 +1,358 @@
+package eclipse.backend;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+/**
+ * Keeps the data of all tasks in columns of primitives rather than one object per task:
+ * <ul>
+ *     <li>the type of each task as a byte, <code>T</code>, <code>D</code>, <code>E</code> or <code>R</code></li>
+ *     <li>whether each task is done as a bit</li>
+ *     <li>the dates of deadlines, events and recurring tasks as int epoch days</li>
+ *     <li>the {@link Recurrence} of each recurring task, in a column only allocated once one is added</li>
+ *     <li>the descriptions as UTF-8 bytes packed one after another into a single arena</li>
+ * </ul>
+ * A {@link Task} is only created when one is read, e.g. to be displayed or saved, and is not kept.
+ * Deleting a task shifts the later rows of each column, which is a single array copy per column,
+ * and leaves its description in the arena until more than half of the arena is unused.
+ */
+public class ColumnarTaskStore implements TaskStore {
+    private static final byte TODO_TYPE = 'T';
+    private static final byte DEADLINE_TYPE = 'D';
+    private static final byte EVENT_TYPE = 'E';
+    private static final byte RECURRING_TYPE = 'R';
+
+    /**
+     * The second date of a recurring series of deadlines, which has no end date.
+     */
+    private static final int NO_END_DATE = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size = 0;
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private final BitSet doneFlags = new BitSet();
+
+    /**
+     * The due date of a deadline, or the start date of an event or a recurring task.
+     */
+    private int[] firstDates = new int[INITIAL_CAPACITY];
+
+    /**
+     * The end date of an event or of the first occurrence of a recurring event.
+     */
+    private int[] secondDates = new int[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+
+    /**
+     * The recurrence of each recurring task, or null until the first one is added.
+     */
+    private Recurrence[] recurrences = null;
+
+    private int[] descriptionStarts = new int[INITIAL_CAPACITY];
+    private int[] descriptionLengths = new int[INITIAL_CAPACITY];
+    private byte[] descriptionArena = new byte[INITIAL_CAPACITY * 32];
+    private int arenaLength = 0;
+
+    /**
+     * The number of bytes in the arena that belong to deleted descriptions.
+     */
+    private int unusedArenaLength = 0;
+
+    /**
+     * Whether the descriptions are in the arena in the same order as their tasks,
+     * which stops being true once a task is replaced by one with a longer description.
+     */
+    private boolean isArenaInTaskOrder = true;
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Task get(int idx) {
+        this.checkIndex(idx);
+
+        String description = new String(
+                this.descriptionArena,
+                this.descriptionStarts[idx],
+                this.descriptionLengths[idx],
+                StandardCharsets.UTF_8
+        );
+        boolean isDone = this.doneFlags.get(idx);
+
+        Task task;
+        switch (this.types[idx]) {
+        case DEADLINE_TYPE:
+            task = new Deadline(description, isDone, LocalDate.ofEpochDay(this.firstDates[idx]));
+            break;
+        case EVENT_TYPE:
+            task = new Event(
+                    description,
+                    isDone,
+                    LocalDate.ofEpochDay(this.firstDates[idx]),
+                    LocalDate.ofEpochDay(this.secondDates[idx])
+            );
+            break;
+        case RECURRING_TYPE:
+            task = this.secondDates[idx] == NO_END_DATE
+                    ? new RecurringTask(
+                            description,
+                            isDone,
+                            LocalDate.ofEpochDay(this.firstDates[idx]),
+                            this.recurrences[idx])
+                    : new RecurringTask(
+                            description,
+                            isDone,
+                            LocalDate.ofEpochDay(this.firstDates[idx]),
+                            LocalDate.ofEpochDay(this.secondDates[idx]),
+                            this.recurrences[idx]);
+            break;
+        default:
+            task = new Todo(description, isDone);
+            break;
+        }
+        task.setId(this.ids[idx]);
+        return task;
+    }
+
+    @Override
+    public void add(Task task) {
+        if (this.size == this.types.length) {
+            this.growColumns();
+        }
+
+        int idx = this.size;
+        this.writeRow(idx, task);
+
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        this.appendDescription(idx, description);
+
+        this.size++;
+    }
+
+    /**
+     * Replaces the task at an index. The new description overwrites the old one in the arena if it fits,
+     * and is appended to the arena otherwise.
+     */
+    @Override
+    public Task set(int idx, Task task) {
+        Task replacedTask = this.get(idx);
+        this.writeRow(idx, task);
+
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        int oldLength = this.descriptionLengths[idx];
+        if (description.length <= oldLength) {
+            System.arraycopy(description, 0, this.descriptionArena, this.descriptionStarts[idx], description.length);
+            this.descriptionLengths[idx] = description.length;
+            this.unusedArenaLength += oldLength - description.length;
+        } else {
+            this.unusedArenaLength += oldLength;
+            this.descriptionLengths[idx] = 0;
+            this.appendDescription(idx, description);
+            this.isArenaInTaskOrder = false;
+        }
+        return replacedTask;
+    }
+
+    /**
+     * Writes every column of a row but the description.
+     */
+    private void writeRow(int idx, Task task) {
+        if (task instanceof Deadline) {
+            this.types[idx] = DEADLINE_TYPE;
+            this.firstDates[idx] = (int) ((Deadline) task).getBy().toEpochDay();
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            this.types[idx] = EVENT_TYPE;
+            this.firstDates[idx] = (int) event.getFrom().toEpochDay();
+            this.secondDates[idx] = (int) event.getTo().toEpochDay();
+        } else if (task instanceof RecurringTask) {
+            RecurringTask recurringTask = (RecurringTask) task;
+            this.types[idx] = RECURRING_TYPE;
+            this.firstDates[idx] = (int) recurringTask.getStart().toEpochDay();
+            this.secondDates[idx] = recurringTask.getEnd().map(end -> (int) end.toEpochDay()).orElse(NO_END_DATE);
+            if (this.recurrences == null) {
+                this.recurrences = new Recurrence[this.types.length];
+            }
+        } else {
+            this.types[idx] = TODO_TYPE;
+        }
+        if (this.recurrences != null) {
+            this.recurrences[idx] = task instanceof RecurringTask ? ((RecurringTask) task).getRecurrence() : null;
+        }
+        this.doneFlags.set(idx, task.isDone());
+        this.ids[idx] = task.getId();
+    }
+
+    private void appendDescription(int idx, byte[] description) {
+        this.reserveArena(description.length);
+        System.arraycopy(description, 0, this.descriptionArena, this.arenaLength, description.length);
+        this.descriptionStarts[idx] = this.arenaLength;
+        this.descriptionLengths[idx] = description.length;
+        this.arenaLength += description.length;
+    }
+
+    @Override
+    public Task remove(int idx) {
+        Task task = this.get(idx);
+        this.unusedArenaLength += this.descriptionLengths[idx];
+
+        int movedCount = this.size - idx - 1;
+        System.arraycopy(this.types, idx + 1, this.types, idx, movedCount);
+        System.arraycopy(this.firstDates, idx + 1, this.firstDates, idx, movedCount);
+        System.arraycopy(this.secondDates, idx + 1, this.secondDates, idx, movedCount);
+        System.arraycopy(this.ids, idx + 1, this.ids, idx, movedCount);
+        System.arraycopy(this.descriptionStarts, idx + 1, this.descriptionStarts, idx, movedCount);
+        System.arraycopy(this.descriptionLengths, idx + 1, this.descriptionLengths, idx, movedCount);
+        if (this.recurrences != null) {
+            System.arraycopy(this.recurrences, idx + 1, this.recurrences, idx, movedCount);
+            this.recurrences[this.size - 1] = null;
+        }
+
+        // BitSet cannot shift, so the flags after the removed one are copied back one place
+        BitSet movedFlags = this.doneFlags.get(idx + 1, this.size);
+        this.doneFlags.clear(idx, this.size);
+        for (int flagIdx = movedFlags.nextSetBit(0); flagIdx >= 0; flagIdx = movedFlags.nextSetBit(flagIdx + 1)) {
+            this.doneFlags.set(idx + flagIdx);
+        }
+
+        this.size--;
+        if (this.unusedArenaLength > this.arenaLength / 2) {
+            this.compactArena();
+        }
+        return task;
+    }
+
+    @Override
+    public Task setDone(int idx, boolean isDone) {
+        this.checkIndex(idx);
+        this.doneFlags.set(idx, isDone);
+        return this.get(idx);
+    }
+
+    @Override
+    public Iterator<Task> iteratorFrom(int idx) {
+        if (idx < 0 || idx > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", size: " + this.size);
+        }
+
+        return new Iterator<>() {
+            private int nextIdx = idx;
+
+            @Override
+            public boolean hasNext() {
+                return this.nextIdx < ColumnarTaskStore.this.size;
+            }
+
+            @Override
+            public Task next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return ColumnarTaskStore.this.get(this.nextIdx++);
+            }
+        };
+    }
+
+    /**
+     * Adds up the lengths of the columns and the arena, including their unused capacity,
+     * and the recurrences of recurring tasks, in O(1) time if there are none.
+     */
+    @Override
+    public long estimateMemoryBytes() {
+        long arrayHeaderBytes = 16;
+        long intColumnsBytes = 5 * (arrayHeaderBytes + 4L * this.ids.length);
+        long doneFlagsBytes = 40 + this.doneFlags.size() / 8;
+        long recurrencesBytes = 0;
+        if (this.recurrences != null) {
+            recurrencesBytes = arrayHeaderBytes + 4L * this.recurrences.length;
+            for (int idx = 0; idx < this.size; idx++) {
+                if (this.recurrences[idx] != null) {
+                    recurrencesBytes += this.recurrences[idx].estimateMemoryBytes();
+                }
+            }
+        }
+        return arrayHeaderBytes + this.types.length
+                + intColumnsBytes
+                + doneFlagsBytes
+                + recurrencesBytes
+                + arrayHeaderBytes + this.descriptionArena.length;
+    }
+
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", size: " + this.size);
+        }
+    }
+
+    private void growColumns() {
+        int newCapacity = this.types.length + (this.types.length >> 1);
+        this.types = Arrays.copyOf(this.types, newCapacity);
+        this.firstDates = Arrays.copyOf(this.firstDates, newCapacity);
+        this.secondDates = Arrays.copyOf(this.secondDates, newCapacity);
+        this.ids = Arrays.copyOf(this.ids, newCapacity);
+        this.descriptionStarts = Arrays.copyOf(this.descriptionStarts, newCapacity);
+        this.descriptionLengths = Arrays.copyOf(this.descriptionLengths, newCapacity);
+        if (this.recurrences != null) {
+            this.recurrences = Arrays.copyOf(this.recurrences, newCapacity);
+        }
+    }
+
+    private void reserveArena(int length) {
+        long requiredLength = (long) this.arenaLength + length;
+        if (requiredLength <= this.descriptionArena.length) {
+            return;
+        }
+
+        if (this.unusedArenaLength > 0) {
+            this.compactArena();
+            requiredLength = (long) this.arenaLength + length;
+        }
+        if (requiredLength > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Descriptions do not fit into a single arena");
+        }
+        if (requiredLength > this.descriptionArena.length) {
+            long newLength = Math.max(requiredLength, this.descriptionArena.length + (this.descriptionArena.length >> 1));
+            this.descriptionArena = Arrays.copyOf(this.descriptionArena, (int) Math.min(newLength, Integer.MAX_VALUE - 8));
+        }
+    }
+
+    /**
+     * Moves the descriptions of the remaining tasks together, dropping the bytes of deleted ones.
+     * While descriptions are in the arena in the same order as their tasks, this is done in place,
+     * otherwise they are copied into a new arena in task order.
+     */
+    private void compactArena() {
+        byte[] compactedArena = this.isArenaInTaskOrder
+                ? this.descriptionArena
+                : new byte[this.descriptionArena.length];
+        int compactedLength = 0;
+        for (int idx = 0; idx < this.size; idx++) {
+            System.arraycopy(
+                    this.descriptionArena,
+                    this.descriptionStarts[idx],
+                    compactedArena,
+                    compactedLength,
+                    this.descriptionLengths[idx]
+            );
+            this.descriptionStarts[idx] = compactedLength;
+            compactedLength += this.descriptionLengths[idx];
+        }
+        this.descriptionArena = compactedArena;
+        this.arenaLength = compactedLength;
+        this.unusedArenaLength = 0;
+        this.isArenaInTaskOrder = true;
+    }
+}
@@ -0,0 +1,82 @@
+package eclipse.backend;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import eclipse.task.Task;
+import eclipse.util.PositionalList;
+
+/**
+ * Keeps each task as its own {@link Task} object in a {@link PositionalList},
+ * so tasks keep their identity and can be indexed.
+ * This is the default backend.
+ */
+public class ObjectTaskStore implements StableTaskStore {
+    /**
+     * The estimated heap taken by each task in the {@link PositionalList}: its node and its slot in the identity map.
+     */
+    private static final int NODE_BYTES = 64;
+
+    private final PositionalList<Task> tasks = new PositionalList<>();
+
+    @Override
+    public int size() {
+        return this.tasks.size();
+    }
+
+    @Override
+    public Task get(int idx) {
+        return this.tasks.get(idx);
+    }
+
+    @Override
+    public void add(Task task) {
+        this.tasks.add(task);
+    }
+
+    @Override
+    public Task remove(int idx) {
+        return this.tasks.remove(idx);
+    }
+
+    @Override
+    public Task set(int idx, Task task) {
+        return this.tasks.set(idx, task);
+    }
+
+    @Override
+    public Task setDone(int idx, boolean isDone) {
+        Task task = this.tasks.get(idx);
+        if (isDone) {
+            task.markAsDone();
+        } else {
+            task.markAsNotDone();
+        }
+        return task;
+    }
+
+    @Override
+    public Iterator<Task> iteratorFrom(int idx) {
+        return this.tasks.iteratorFrom(idx);
+    }
+
+    @Override
+    public int indexOf(Task task) {
+        return this.tasks.positionOf(task);
+    }
+
+    @Override
+    public long estimateMemoryBytes() {
+        long bytes = 0;
+        for (Task task : this.tasks) {
+            bytes += NODE_BYTES + task.estimateMemoryBytes();
+        }
+        return bytes;
+    }
+
+    @Override
+    public List<Task> asList() {
+        return Collections.unmodifiableList(this.tasks);
+    }
+}
@@ -0,0 +1,316 @@
+package eclipse.backend;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+/**
+ * Keeps the tasks in a persistent weight-balanced tree, ordered by position, which is never changed once published.
+ * Every write copies the O(log n) nodes on the path to the changed position and publishes the new root
+ * through a volatile field, so a reader takes a consistent version of the whole list with a single read
+ * and traverses it without locking, however long it takes and whatever writers do meanwhile.
+ * Writers are serialized on the store.
+ * <p>
+ * Tasks are immutable once added: marking one replaces it with a copy, so that a version already taken
+ * never changes. As a result, tasks do not keep their identity and the store cannot be indexed.
+ */
+public class SnapshotTaskStore implements TaskStore {
+    /**
+     * A subtree is rebalanced once one side holds more than this many times the tasks of the other.
+     */
+    private static final int DELTA = 3;
+
+    /**
+     * When rebalancing, a double rotation is used if the inner grandchild holds at least
+     * this many times the tasks of the outer one, and a single rotation otherwise.
+     */
+    private static final int RATIO = 2;
+
+    /**
+     * The estimated heap taken by a node of the tree, without its task.
+     */
+    private static final int NODE_BYTES = 32;
+
+    private volatile Node root;
+
+    /**
+     * Constructs an empty store.
+     */
+    public SnapshotTaskStore() {
+        this(null);
+    }
+
+    private SnapshotTaskStore(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * A node of the tree, holding the task at its position and the number of tasks in its subtree.
+     */
+    private static final class Node {
+        private final Task task;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        private Node(Task task, Node left, Node right) {
+            this.task = task;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(this.root);
+    }
+
+    @Override
+    public Task get(int idx) {
+        Node node = this.root;
+        checkIndex(node, idx);
+        while (true) {
+            int leftSize = size(node.left);
+            if (idx < leftSize) {
+                node = node.left;
+            } else if (idx == leftSize) {
+                return node.task;
+            } else {
+                idx -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void add(Task task) {
+        this.root = append(this.root, task);
+    }
+
+    @Override
+    public synchronized Task remove(int idx) {
+        Task removedTask = this.get(idx);
+        this.root = remove(this.root, idx);
+        return removedTask;
+    }
+
+    @Override
+    public synchronized Task set(int idx, Task task) {
+        Task replacedTask = this.get(idx);
+        this.root = replace(this.root, idx, task);
+        return replacedTask;
+    }
+
+    @Override
+    public synchronized Task setDone(int idx, boolean isDone) {
+        Task task = this.get(idx);
+        if (task.isDone() == isDone) {
+            return task;
+        }
+
+        Task markedTask = copyWithDone(task, isDone);
+        this.root = replace(this.root, idx, markedTask);
+        return markedTask;
+    }
+
+    /**
+     * Iterates over the version of the list current when this is called, unaffected by later writes.
+     */
+    @Override
+    public Iterator<Task> iteratorFrom(int idx) {
+        return new SnapshotIterator(this.root, idx);
+    }
+
+    /**
+     * Estimates the heap taken by the current version of the list.
+     * Older versions still being read by other threads share most of their nodes with it and are not counted.
+     */
+    @Override
+    public long estimateMemoryBytes() {
+        long bytes = 0;
+        for (Iterator<Task> iterator = this.iteratorFrom(0); iterator.hasNext(); ) {
+            bytes += NODE_BYTES + iterator.next().estimateMemoryBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the current version of the list as a store of its own, in O(1) time.
+     * Writes to either store are not seen by the other.
+     */
+    @Override
+    public TaskStore snapshot() {
+        return new SnapshotTaskStore(this.root);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void checkIndex(Node root, int idx) {
+        if (idx < 0 || idx >= size(root)) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + size(root));
+        }
+    }
+
+    /**
+     * Creates a copy of a task in the given done state, with the same internal ID.
+     */
+    private static Task copyWithDone(Task task, boolean isDone) {
+        if (task instanceof RecurringTask) {
+            return ((RecurringTask) task).copyWithDone(isDone);
+        }
+
+        Task copy;
+        if (task instanceof Deadline) {
+            copy = new Deadline(task.getDescription(), isDone, ((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            copy = new Event(task.getDescription(), isDone, event.getFrom(), event.getTo());
+        } else {
+            copy = new Todo(task.getDescription(), isDone);
+        }
+        copy.setId(task.getId());
+        return copy;
+    }
+
+    private static Node append(Node node, Task task) {
+        if (node == null) {
+            return new Node(task, null, null);
+        }
+        return balance(node.task, node.left, append(node.right, task));
+    }
+
+    private static Node replace(Node node, int idx, Task task) {
+        int leftSize = size(node.left);
+        if (idx < leftSize) {
+            return new Node(node.task, replace(node.left, idx, task), node.right);
+        } else if (idx == leftSize) {
+            return new Node(task, node.left, node.right);
+        } else {
+            return new Node(node.task, node.left, replace(node.right, idx - leftSize - 1, task));
+        }
+    }
+
+    private static Node remove(Node node, int idx) {
+        int leftSize = size(node.left);
+        if (idx < leftSize) {
+            return balance(node.task, remove(node.left, idx), node.right);
+        } else if (idx > leftSize) {
+            return balance(node.task, node.left, remove(node.right, idx - leftSize - 1));
+        }
+
+        // Replaces the removed node with the nearest task from its larger side
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else if (node.left.size > node.right.size) {
+            return balance(last(node.left), remove(node.left, node.left.size - 1), node.right);
+        } else {
+            return balance(first(node.right), node.left, remove(node.right, 0));
+        }
+    }
+
+    private static Task first(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.task;
+    }
+
+    private static Task last(Node node) {
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.task;
+    }
+
+    /**
+     * Creates a node from subtrees that were balanced before a single task was added to or removed from one of them,
+     * rotating it if one side has become too heavy.
+     */
+    private static Node balance(Task task, Node left, Node right) {
+        int leftSize = size(left);
+        int rightSize = size(right);
+        if (leftSize + rightSize <= 1) {
+            return new Node(task, left, right);
+        }
+
+        if (rightSize > DELTA * leftSize) {
+            if (size(right.left) < RATIO * size(right.right)) {
+                return new Node(right.task, new Node(task, left, right.left), right.right);
+            }
+            Node pivot = right.left;
+            return new Node(
+                    pivot.task,
+                    new Node(task, left, pivot.left),
+                    new Node(right.task, pivot.right, right.right)
+            );
+        }
+
+        if (leftSize > DELTA * rightSize) {
+            if (size(left.right) < RATIO * size(left.left)) {
+                return new Node(left.task, left.left, new Node(task, left.right, right));
+            }
+            Node pivot = left.right;
+            return new Node(
+                    pivot.task,
+                    new Node(left.task, left.left, pivot.left),
+                    new Node(task, pivot.right, right)
+            );
+        }
+
+        return new Node(task, left, right);
+    }
+
+    /**
+     * Iterates in order over one version of the tree, keeping the path to the next task on a stack.
+     */
+    private static final class SnapshotIterator implements Iterator<Task> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        private SnapshotIterator(Node root, int idx) {
+            Node node = root;
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (idx <= leftSize) {
+                    this.path.push(node);
+                    if (idx == leftSize) {
+                        break;
+                    }
+                    node = node.left;
+                } else {
+                    idx -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.path.isEmpty();
+        }
+
+        @Override
+        public Task next() {
+            if (this.path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            Node node = this.path.pop();
+            for (Node child = node.right; child != null; child = child.left) {
+                this.path.push(child);
+            }
+            return node.task;
+        }
+    }
+}
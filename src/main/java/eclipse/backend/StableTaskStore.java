@@ -0,0 +1,18 @@
+package eclipse.backend;
+
+import eclipse.task.Task;
+
+/**
+ * A {@link TaskStore} that keeps the {@link Task} objects it is given, so that reading a task always returns
+ * the same object that was added, and other structures can hold on to tasks and look up their index.
+ * Stores that keep only the data of their tasks, or replace them when they change, do not implement this.
+ */
+public interface StableTaskStore extends TaskStore {
+    /**
+     * Returns the current index of a task.
+     *
+     * @param task The task to look for, compared by identity.
+     * @return The 0-based index of the task, or -1 if it is not in the store.
+     */
+    int indexOf(Task task);
+}
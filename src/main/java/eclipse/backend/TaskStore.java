@@ -0,0 +1,116 @@
+package eclipse.backend;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+import eclipse.task.Task;
+
+/**
+ * Holds the tasks of a {@link eclipse.TaskList} in order, and is the backend the task list reads and writes through.
+ * A store either keeps the {@link Task} objects it is given, or keeps only their data
+ * and creates a new {@link Task} whenever one is read. Stores of the first kind implement {@link StableTaskStore}.
+ */
+public interface TaskStore {
+    /**
+     * Returns the number of tasks in the store.
+     *
+     * @return The number of tasks.
+     */
+    int size();
+
+    /**
+     * Returns the task at an index.
+     *
+     * @param idx The 0-based index of the task.
+     * @return The task.
+     * @throws IndexOutOfBoundsException If there is no task at the index.
+     */
+    Task get(int idx);
+
+    /**
+     * Appends a task to the end of the store.
+     *
+     * @param task The task to be added.
+     */
+    void add(Task task);
+
+    /**
+     * Removes the task at an index, moving every later task up by one.
+     *
+     * @param idx The 0-based index of the task.
+     * @return The removed task.
+     * @throws IndexOutOfBoundsException If there is no task at the index.
+     */
+    Task remove(int idx);
+
+    /**
+     * Replaces the task at an index with another, e.g. a copy of it with a different recurrence.
+     *
+     * @param idx  The 0-based index of the task.
+     * @param task The task to put in its place.
+     * @return The replaced task.
+     * @throws IndexOutOfBoundsException If there is no task at the index.
+     */
+    Task set(int idx, Task task);
+
+    /**
+     * Marks the task at an index as done or not done.
+     *
+     * @param idx    The 0-based index of the task.
+     * @param isDone Whether the task is done.
+     * @return The task after the change.
+     * @throws IndexOutOfBoundsException If there is no task at the index.
+     */
+    Task setDone(int idx, boolean isDone);
+
+    /**
+     * Iterates over the tasks in order, starting at an index.
+     *
+     * @param idx The index of the first task returned, which may be the size of the store.
+     * @return An iterator over the tasks from the index onwards.
+     */
+    Iterator<Task> iteratorFrom(int idx);
+
+    /**
+     * Estimates the heap taken by the store and the tasks it keeps, e.g. to decide how many task lists to keep loaded.
+     * This may visit every task, and take O(n) time.
+     *
+     * @return The estimated size in bytes.
+     */
+    long estimateMemoryBytes();
+
+    /**
+     * Returns the store as it is now, for reads that visit it more than once and must all see the same version.
+     * Stores that cannot be read while they are written return themselves.
+     *
+     * @return A store holding the current version of the tasks.
+     */
+    default TaskStore snapshot() {
+        return this;
+    }
+
+    /**
+     * Returns a read-only view of the store as a list, e.g. to be saved.
+     *
+     * @return The view, which follows later changes to the store.
+     */
+    default List<Task> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Task get(int idx) {
+                return TaskStore.this.get(idx);
+            }
+
+            @Override
+            public int size() {
+                return TaskStore.this.size();
+            }
+
+            @Override
+            public Iterator<Task> iterator() {
+                return TaskStore.this.iteratorFrom(0);
+            }
+        };
+    }
+}
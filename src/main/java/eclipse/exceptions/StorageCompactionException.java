@@ -0,0 +1,17 @@
+package eclipse.exceptions;
+
+/**
+ * Represents a failure to fold the journal into a fresh snapshot after the changes were already saved to it.
+ * The changes being saved must not be saved again, since replaying them twice would change the wrong tasks.
+ */
+public class StorageCompactionException extends EclipseException {
+    /**
+     * Constructs a new StorageCompactionException with the specified message and throwable cause
+     *
+     * @param message The message contained in the exception
+     * @param cause   The cause of this exception
+     */
+    public StorageCompactionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,216 @@
+package eclipse.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+
+/**
+ * An index over the open deadlines and events, in the order they come up:
+ * deadlines by their due date and events by their start date, ties broken by their internal ID.
+ * It is the priority queue behind <code>next N</code> and the reminders, so that the N nearest tasks
+ * are found in O(log n + N) time rather than by a scan. Done tasks are not indexed.
+ * <p>
+ * A recurring task comes up again and again, so it is ordered by its next occurrence, starting on or after
+ * the first date of the latest query. Queries move their first date forward day by day, so each query only
+ * re-keys the recurring tasks whose next occurrence has passed since the previous one, in O(log n) time each.
+ * A query from an earlier date than the previous one re-keys every recurring task.
+ * Skipping an occurrence or marking a recurring task replaces it in the index, which re-keys it too.
+ * Queries change the index, so they must not run concurrently with each other or with changes.
+ */
+public class AgendaIndex {
+    private final TreeMap<Key, Task> tasks = new TreeMap<>();
+
+    /**
+     * The key of every recurring task in {@link #tasks},
+     * or null for those without an occurrence starting on or after {@link #keyedFrom}.
+     */
+    private final Map<RecurringTask, Key> recurringKeys = new IdentityHashMap<>();
+
+    /**
+     * The keys of the recurring tasks in {@link #tasks}, to find those whose next occurrence has passed.
+     */
+    private final TreeSet<Key> recurringKeyOrder = new TreeSet<>();
+
+    /**
+     * The date on or after which the next occurrence of every recurring task is keyed.
+     */
+    private LocalDate keyedFrom = LocalDate.MIN;
+
+    /**
+     * Orders the indexed tasks by their date as an epoch day, then by their internal ID.
+     */
+    private static final class Key implements Comparable<Key> {
+        private final long day;
+        private final int id;
+
+        private Key(long day, int id) {
+            this.day = day;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int dayComparison = Long.compare(this.day, other.day);
+            return dayComparison != 0 ? dayComparison : Integer.compare(this.id, other.id);
+        }
+    }
+
+    /**
+     * Returns the date a task comes up on, for tasks that are not recurring.
+     *
+     * @param task The task.
+     * @return The due date of a deadline or the start date of an event, or empty for any other task.
+     */
+    public static Optional<LocalDate> dateOf(Task task) {
+        if (task instanceof Deadline) {
+            return Optional.of(((Deadline) task).getBy());
+        } else if (task instanceof Event) {
+            return Optional.of(((Event) task).getFrom());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the date a task next comes up on, on or after the given date.
+     *
+     * @param task The task.
+     * @param from The first date of interest.
+     * @return The date, or empty if the task is done, has no date or only came up before then.
+     */
+    public static Optional<LocalDate> nextDateOf(Task task, LocalDate from) {
+        if (task.isDone()) {
+            return Optional.empty();
+        }
+        if (task instanceof RecurringTask) {
+            return ((RecurringTask) task).getNextStart(from);
+        }
+        return dateOf(task).filter(date -> !date.isBefore(from));
+    }
+
+    /**
+     * Adds a task to the index if it is an open deadline, event or recurring task.
+     * Adding a task already in the index has no effect.
+     *
+     * @param task The task to be indexed.
+     */
+    public void add(Task task) {
+        if (task.isDone()) {
+            return;
+        }
+        if (task instanceof RecurringTask) {
+            RecurringTask recurringTask = (RecurringTask) task;
+            if (!this.recurringKeys.containsKey(recurringTask)) {
+                this.placeRecurringTask(recurringTask);
+            }
+            return;
+        }
+        dateOf(task).ifPresent(date -> this.tasks.put(new Key(date.toEpochDay(), task.getId()), task));
+    }
+
+    /**
+     * Removes a task from the index, e.g. once it is deleted or marked as done.
+     * Removing a task not in the index has no effect.
+     *
+     * @param task The task to be removed from the index.
+     */
+    public void remove(Task task) {
+        if (task instanceof RecurringTask) {
+            Key key = this.recurringKeys.remove(task);
+            if (key != null) {
+                this.tasks.remove(key);
+                this.recurringKeyOrder.remove(key);
+            }
+            return;
+        }
+        dateOf(task).ifPresent(date -> this.tasks.remove(new Key(date.toEpochDay(), task.getId())));
+    }
+
+    /**
+     * Finds the open tasks coming up next, on or after the given date.
+     * Takes O(log n + count) time, plus the time to re-key the recurring tasks whose next occurrence has passed.
+     *
+     * @param from  The first date of interest, inclusive.
+     * @param count The most tasks to return.
+     * @return The tasks, from the one coming up first.
+     */
+    public List<Task> findNext(LocalDate from, int count) {
+        return this.findComingUp(from, LocalDate.MAX, count);
+    }
+
+    /**
+     * Finds the open tasks coming up within a range of dates.
+     *
+     * @param from The first date of the range, inclusive.
+     * @param to   The last date of the range, inclusive.
+     * @return The tasks, from the one coming up first.
+     */
+    public List<Task> findComingUpBetween(LocalDate from, LocalDate to) {
+        return this.findComingUp(from, to, Integer.MAX_VALUE);
+    }
+
+    private List<Task> findComingUp(LocalDate from, LocalDate to, int count) {
+        this.rekeyRecurringTasks(from);
+
+        List<Task> matches = new ArrayList<>();
+        long toDay = to.toEpochDay();
+        Iterator<Map.Entry<Key, Task>> iterator = this.tasks.tailMap(new Key(from.toEpochDay(), Integer.MIN_VALUE))
+                .entrySet()
+                .iterator();
+        while (matches.size() < count && iterator.hasNext()) {
+            Map.Entry<Key, Task> entry = iterator.next();
+            if (entry.getKey().day > toDay) {
+                break;
+            }
+            matches.add(entry.getValue());
+        }
+        return matches;
+    }
+
+    /**
+     * Keys every recurring task by its next occurrence starting on or after the given date.
+     */
+    private void rekeyRecurringTasks(LocalDate from) {
+        if (from.isBefore(this.keyedFrom)) {
+            this.keyedFrom = from;
+            for (RecurringTask recurringTask : new ArrayList<>(this.recurringKeys.keySet())) {
+                this.remove(recurringTask);
+                this.placeRecurringTask(recurringTask);
+            }
+            return;
+        }
+
+        this.keyedFrom = from;
+        long fromDay = from.toEpochDay();
+        while (!this.recurringKeyOrder.isEmpty() && this.recurringKeyOrder.first().day < fromDay) {
+            Key key = this.recurringKeyOrder.pollFirst();
+            RecurringTask recurringTask = (RecurringTask) this.tasks.remove(key);
+            this.recurringKeys.remove(recurringTask);
+            this.placeRecurringTask(recurringTask);
+        }
+    }
+
+    /**
+     * Keys a recurring task not in the index by its next occurrence starting on or after {@link #keyedFrom}.
+     */
+    private void placeRecurringTask(RecurringTask recurringTask) {
+        Key key = recurringTask.getNextStart(this.keyedFrom)
+                .map(date -> new Key(date.toEpochDay(), recurringTask.getId()))
+                .orElse(null);
+        this.recurringKeys.put(recurringTask, key);
+        if (key != null) {
+            this.tasks.put(key, recurringTask);
+            this.recurringKeyOrder.add(key);
+        }
+    }
+}
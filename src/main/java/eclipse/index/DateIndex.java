@@ -0,0 +1,180 @@
+package eclipse.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.util.IntervalTree;
+
+/**
+ * An index over the dates of deadlines and events.
+ * Deadlines are kept in a sorted map from their date, and events in an {@link IntervalTree} over their ranges,
+ * so that date queries take O(log n + k) time rather than a scan of every task.
+ * Recurring tasks are kept in interval trees of their own, one for series of deadlines and one for series of events,
+ * over the days from their first occurrence to the end of their last, which is open-ended for a series without an end.
+ * Only the series spanning the range of a query are checked against it, without expanding their occurrences,
+ * as the range may still fall between two occurrences or on a skipped one.
+ * Todos have no dates and are never indexed.
+ */
+public class DateIndex {
+    private final TreeMap<LocalDate, Set<Task>> deadlines = new TreeMap<>();
+    private final IntervalTree<Event> events = new IntervalTree<>();
+    private final IntervalTree<RecurringTask> recurringDeadlines = new IntervalTree<>();
+    private final IntervalTree<RecurringTask> recurringEvents = new IntervalTree<>();
+
+    /**
+     * Adds a task to the index if it is a deadline, an event or a recurring task.
+     *
+     * @param task The task to be indexed.
+     */
+    public void add(Task task) {
+        if (task instanceof RecurringTask) {
+            RecurringTask recurringTask = (RecurringTask) task;
+            this.recurringTreeOf(recurringTask).add(
+                    recurringTask.getStart().toEpochDay(),
+                    rangeEndOf(recurringTask),
+                    recurringTask
+            );
+        } else if (task instanceof Deadline) {
+            LocalDate by = ((Deadline) task).getBy();
+            this.deadlines.computeIfAbsent(by, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(task);
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            this.events.add(event.getFrom().toEpochDay(), rangeEndOf(event), event);
+        }
+    }
+
+    /**
+     * Removes a task from the index if it is a deadline, an event or a recurring task.
+     *
+     * @param task The task to be removed from the index.
+     */
+    public void remove(Task task) {
+        if (task instanceof RecurringTask) {
+            RecurringTask recurringTask = (RecurringTask) task;
+            this.recurringTreeOf(recurringTask).remove(recurringTask.getStart().toEpochDay(), recurringTask);
+        } else if (task instanceof Deadline) {
+            LocalDate by = ((Deadline) task).getBy();
+            Set<Task> tasks = this.deadlines.get(by);
+            if (tasks == null) {
+                return;
+            }
+
+            tasks.remove(task);
+            if (tasks.isEmpty()) {
+                this.deadlines.remove(by);
+            }
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            this.events.remove(event.getFrom().toEpochDay(), event);
+        }
+    }
+
+    /**
+     * Finds the deadlines due on or before the given date, and the recurring deadlines with an occurrence due by then.
+     *
+     * @param date The last date of interest, inclusive.
+     * @return The matching deadlines, in no particular order.
+     */
+    public List<Task> findDueBy(LocalDate date) {
+        List<Task> matches = flatten(this.deadlines.headMap(date, true).values());
+        // A series starting by then has its first occurrence due by then, unless that one is skipped
+        for (RecurringTask recurringTask : this.recurringDeadlines.findOverlapping(Long.MIN_VALUE, date.toEpochDay())) {
+            if (recurringTask.countOccurrencesBetween(LocalDate.MIN, date) > 0) {
+                matches.add(recurringTask);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the deadlines due within the range, the events taking place on at least one day of it,
+     * and the recurring tasks with an occurrence that does.
+     *
+     * @param from The first date of the range, inclusive.
+     * @param to   The last date of the range, inclusive.
+     * @return The matching tasks, in no particular order.
+     */
+    public List<Task> findBetween(LocalDate from, LocalDate to) {
+        List<Task> matches = flatten(this.deadlines.subMap(from, true, to, true).values());
+        matches.addAll(this.events.findOverlapping(from.toEpochDay(), to.toEpochDay()));
+        addOccurringBetween(this.recurringDeadlines, from, to, matches);
+        addOccurringBetween(this.recurringEvents, from, to, matches);
+        return matches;
+    }
+
+    /**
+     * Finds the indexed events sharing at least one day with the given event, other than the event itself,
+     * and the recurring events with an occurrence that does.
+     *
+     * @param event The event to check.
+     * @return The overlapping events ordered by their start date, then the recurring events in no particular order.
+     */
+    public List<Task> findOverlappingEvents(Event event) {
+        List<Task> overlapping = new ArrayList<>(
+                this.events.findOverlapping(event.getFrom().toEpochDay(), rangeEndOf(event))
+        );
+        overlapping.removeIf(other -> other == event);
+        LocalDate eventEnd = LocalDate.ofEpochDay(rangeEndOf(event));
+        addOccurringBetween(this.recurringEvents, event.getFrom(), eventEnd, overlapping);
+        return overlapping;
+    }
+
+    private IntervalTree<RecurringTask> recurringTreeOf(RecurringTask recurringTask) {
+        return recurringTask.isEventSeries() ? this.recurringEvents : this.recurringDeadlines;
+    }
+
+    /**
+     * Adds the recurring tasks of a tree with an occurrence taking place on at least one day of the range.
+     */
+    private static void addOccurringBetween(
+            IntervalTree<RecurringTask> recurringTasks, LocalDate from, LocalDate to, List<Task> matches) {
+        for (RecurringTask recurringTask : recurringTasks.findOverlapping(from.toEpochDay(), to.toEpochDay())) {
+            if (recurringTask.countOccurrencesBetween(from, to) > 0) {
+                matches.add(recurringTask);
+            }
+        }
+    }
+
+    /**
+     * Returns the last day of an event as an epoch day.
+     * An event stored with its end before its start is treated as lasting only its first day.
+     */
+    private static long rangeEndOf(Event event) {
+        return Math.max(event.getFrom().toEpochDay(), event.getTo().toEpochDay());
+    }
+
+    /**
+     * Returns the last day of the last occurrence of a recurring task as an epoch day,
+     * or the largest date there is if the task repeats forever.
+     * A series whose last occurrence would start before its first is treated as ending on its first day.
+     */
+    private static long rangeEndOf(RecurringTask recurringTask) {
+        long startDay = recurringTask.getStart().toEpochDay();
+        if (recurringTask.getRecurrence().getUntil().isEmpty()) {
+            return LocalDate.MAX.toEpochDay();
+        }
+        long durationDays = recurringTask.getEnd()
+                .map(end -> Math.max(0, end.toEpochDay() - startDay))
+                .orElse(0L);
+        return Math.max(startDay, recurringTask.getRecurrence().getUntil().get().toEpochDay() + durationDays);
+    }
+
+    private static List<Task> flatten(Collection<Set<Task>> taskSets) {
+        List<Task> tasks = new ArrayList<>();
+        for (Set<Task> taskSet : taskSets) {
+            tasks.addAll(taskSet);
+        }
+        return tasks;
+    }
+}
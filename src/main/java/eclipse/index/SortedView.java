@@ -0,0 +1,172 @@
+package eclipse.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+import eclipse.util.PositionalList;
+
+/**
+ * The tasks of a list in another order, kept sorted as tasks are added, removed and marked,
+ * so that a page of the sorted list is read in O(log n + k) time instead of sorting the list for every page.
+ * Tasks are kept in a {@link PositionalList}, where a task is placed by descending the treap in O(log n) time,
+ * and located for removal through its identity.
+ * Ties are broken by internal ID, i.e. in the order the tasks were added, which is also their order in the list.
+ */
+public class SortedView {
+    /**
+     * The orders a list can be sorted in.
+     */
+    public enum Order {
+        /**
+         * By due date for deadlines, start date for events and first occurrence for recurring tasks,
+         * with todos last.
+         */
+        DATE("date", Comparator.comparing(
+                (Task task) -> dateOf(task).orElse(LocalDate.MAX)
+        )),
+
+        /**
+         * Todos, then deadlines, events and recurring tasks.
+         */
+        TYPE("type", Comparator.comparingInt(SortedView::typeRankOf)),
+
+        /**
+         * Tasks not done yet first, then done tasks.
+         */
+        DONE("done", Comparator.comparing(Task::isDone)),
+
+        /**
+         * By description, ignoring case.
+         */
+        DESCRIPTION("description", Comparator.comparing(
+                (Task task) -> task.getDescription().toLowerCase(Locale.ROOT)
+        ));
+
+        private final String word;
+        private final Comparator<Task> comparator;
+
+        Order(String word, Comparator<Task> keyComparator) {
+            this.word = word;
+            this.comparator = keyComparator.thenComparingInt(Task::getId);
+        }
+
+        /**
+         * Returns the word the order is written as, e.g. <code>date</code> in <code>sort by date</code>
+         *
+         * @return The word.
+         */
+        public String getWord() {
+            return this.word;
+        }
+
+        /**
+         * Returns the order as a comparator over tasks, breaking ties by internal ID.
+         *
+         * @return The comparator.
+         */
+        public Comparator<Task> getComparator() {
+            return this.comparator;
+        }
+
+        /**
+         * Finds the order written as the given word.
+         *
+         * @param word The word, e.g. <code>date</code>
+         * @return The order, or empty if no order is written that way.
+         */
+        public static Optional<Order> fromWord(String word) {
+            for (Order order : values()) {
+                if (order.word.equals(word)) {
+                    return Optional.of(order);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final Order order;
+    private final PositionalList<Task> tasks;
+
+    /**
+     * Constructs a view over the given tasks, sorting them once in O(n log n) time.
+     *
+     * @param order The order of the view.
+     * @param tasks The tasks in the view.
+     */
+    public SortedView(Order order, List<Task> tasks) {
+        this.order = order;
+        List<Task> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort(order.getComparator());
+        this.tasks = new PositionalList<>(sortedTasks);
+    }
+
+    /**
+     * Adds a task to the view, at its place in the order.
+     *
+     * @param task The task to be added.
+     */
+    public void add(Task task) {
+        this.tasks.add(this.tasks.lowerBound(task, this.order.getComparator()), task);
+    }
+
+    /**
+     * Removes a task from the view. Removing a task not in the view has no effect.
+     * The task is located by its identity, so it may already have changed, e.g. been marked.
+     *
+     * @param task The task to be removed.
+     */
+    public void remove(Task task) {
+        int position = this.tasks.positionOf(task);
+        if (position >= 0) {
+            this.tasks.remove(position);
+        }
+    }
+
+    /**
+     * Returns a window of the view in O(log n + count) time.
+     *
+     * @param fromRank The 0-based position in the view of the first task in the window.
+     * @param count    The most tasks to return, fewer if the view ends first.
+     * @return The tasks in the window, in order.
+     */
+    public List<Task> getWindow(int fromRank, int count) {
+        List<Task> window = new ArrayList<>();
+        if (fromRank >= this.tasks.size()) {
+            return window;
+        }
+
+        Iterator<Task> iterator = this.tasks.iteratorFrom(fromRank);
+        while (window.size() < count && iterator.hasNext()) {
+            window.add(iterator.next());
+        }
+        return window;
+    }
+
+    private static Optional<LocalDate> dateOf(Task task) {
+        if (task instanceof RecurringTask) {
+            return Optional.of(((RecurringTask) task).getStart());
+        }
+        return AgendaIndex.dateOf(task);
+    }
+
+    private static int typeRankOf(Task task) {
+        if (task instanceof Todo) {
+            return 0;
+        } else if (task instanceof Deadline) {
+            return 1;
+        } else if (task instanceof Event) {
+            return 2;
+        }
+        return 3;
+    }
+}
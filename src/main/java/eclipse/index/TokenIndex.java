@@ -0,0 +1,148 @@
+package eclipse.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import eclipse.task.Task;
+
+/**
+ * An inverted index from the normalized tokens of task descriptions to the tasks containing them.
+ * A token is a maximal run of letters and digits, converted to lower case,
+ * e.g. <code>"Return book (library)"</code> has the tokens <code>return</code>, <code>book</code>
+ * and <code>library</code>.
+ * Tokens are kept sorted, so that prefix queries only visit the matching tokens.
+ */
+public class TokenIndex {
+    private final TreeMap<String, Set<Task>> postings = new TreeMap<>();
+
+    /**
+     * Splits a string into normalized tokens.
+     *
+     * @param str The string to split, e.g. a task description or a query.
+     * @return The tokens in order of appearance, possibly with duplicates.
+     */
+    public static List<String> tokenize(String str) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder currToken = new StringBuilder();
+
+        for (int charIdx = 0; charIdx < str.length(); charIdx++) {
+            char c = str.charAt(charIdx);
+            if (Character.isLetterOrDigit(c)) {
+                currToken.append(Character.toLowerCase(c));
+            } else if (currToken.length() > 0) {
+                tokens.add(currToken.toString());
+                currToken.setLength(0);
+            }
+        }
+
+        if (currToken.length() > 0) {
+            tokens.add(currToken.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Normalizes a prefix query the same way tokens are, without splitting it.
+     *
+     * @param prefix The prefix as typed by the user.
+     * @return The prefix without surrounding whitespace, in lower case.
+     */
+    public static String normalizePrefix(String prefix) {
+        StringBuilder normalizedPrefix = new StringBuilder();
+        for (char c : prefix.trim().toCharArray()) {
+            normalizedPrefix.append(Character.toLowerCase(c));
+        }
+        return normalizedPrefix.toString();
+    }
+
+    /**
+     * Adds a task to the postings of every token in its description.
+     *
+     * @param task The task to be indexed.
+     */
+    public void add(Task task) {
+        for (String token : tokenize(task.getDescription())) {
+            this.postings.computeIfAbsent(token, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(task);
+        }
+    }
+
+    /**
+     * Removes a task from the postings of every token in its description.
+     *
+     * @param task The task to be removed from the index.
+     */
+    public void remove(Task task) {
+        for (String token : tokenize(task.getDescription())) {
+            Set<Task> tasks = this.postings.get(token);
+            if (tasks == null) {
+                continue;
+            }
+
+            tasks.remove(task);
+            if (tasks.isEmpty()) {
+                this.postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Finds the tasks whose descriptions contain every token of the query as a whole word.
+     *
+     * @param query The words to look for, normalized the same way as descriptions.
+     * @return The matching tasks, in no particular order.
+     */
+    public Set<Task> findWords(String query) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        // Intersect starting from the rarest token, so the candidate set only shrinks
+        List<Set<Task>> tokenPostings = new ArrayList<>();
+        for (String token : queryTokens) {
+            Set<Task> tasks = this.postings.get(token);
+            if (tasks == null) {
+                return Collections.emptySet();
+            }
+            tokenPostings.add(tasks);
+        }
+        tokenPostings.sort((first, second) -> Integer.compare(first.size(), second.size()));
+
+        Set<Task> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(tokenPostings.get(0));
+        for (int postingIdx = 1; postingIdx < tokenPostings.size() && !matches.isEmpty(); postingIdx++) {
+            matches.retainAll(tokenPostings.get(postingIdx));
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the tasks whose descriptions contain a token starting with the given prefix.
+     *
+     * @param prefix The prefix to look for, normalized to lower case.
+     * @return The matching tasks, in no particular order.
+     */
+    public Set<Task> findPrefix(String prefix) {
+        String normalizedPrefix = normalizePrefix(prefix);
+        Set<Task> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (normalizedPrefix.isEmpty()) {
+            return matches;
+        }
+
+        SortedMap<String, Set<Task>> matchingPostings = this.postings.subMap(
+                normalizedPrefix,
+                normalizedPrefix + Character.MAX_VALUE
+        );
+        for (Collection<Task> tasks : matchingPostings.values()) {
+            matches.addAll(tasks);
+        }
+        return matches;
+    }
+}
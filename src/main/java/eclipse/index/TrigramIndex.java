@@ -0,0 +1,142 @@
+package eclipse.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import eclipse.task.Task;
+
+/**
+ * An index from every three-character substring (trigram) of task descriptions to the tasks containing it.
+ * A description containing a keyword must contain every trigram of that keyword,
+ * so intersecting their postings gives a small candidate set that only needs to be checked with
+ * {@link String#contains(CharSequence)}.
+ * Trigrams are case-sensitive, matching the semantics of <code>contains</code>.
+ */
+public class TrigramIndex {
+    /**
+     * The length of the substrings indexed, keywords shorter than this cannot be answered by the index.
+     */
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Set<Task>> postings = new HashMap<>();
+
+    /**
+     * Packs the three characters starting at the given position into a single key.
+     */
+    private static long trigramAt(String str, int startIdx) {
+        return ((long) str.charAt(startIdx) << 32)
+                | ((long) str.charAt(startIdx + 1) << 16)
+                | str.charAt(startIdx + 2);
+    }
+
+    /**
+     * Returns the distinct trigrams of a string.
+     *
+     * @param str The string to split into trigrams.
+     * @return The trigrams, empty if the string is shorter than {@link #GRAM_LENGTH}.
+     */
+    private static Set<Long> trigramsOf(String str) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int startIdx = 0; startIdx + GRAM_LENGTH <= str.length(); startIdx++) {
+            trigrams.add(trigramAt(str, startIdx));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Adds a task to the postings of every trigram in its description.
+     *
+     * @param task The task to be indexed.
+     */
+    public void add(Task task) {
+        for (long trigram : trigramsOf(task.getDescription())) {
+            this.postings.computeIfAbsent(trigram, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(task);
+        }
+    }
+
+    /**
+     * Removes a task from the postings of every trigram in its description.
+     *
+     * @param task The task to be removed from the index.
+     */
+    public void remove(Task task) {
+        for (long trigram : trigramsOf(task.getDescription())) {
+            Set<Task> tasks = this.postings.get(trigram);
+            if (tasks == null) {
+                continue;
+            }
+
+            tasks.remove(task);
+            if (tasks.isEmpty()) {
+                this.postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns how many candidates a query for the keyword would have to verify,
+     * so that callers can scan instead when the keyword is too common for the index to help.
+     *
+     * @param keyword The substring to look for, at least {@link #GRAM_LENGTH} characters long.
+     * @return The size of the smallest posting among the trigrams of the keyword.
+     */
+    public int countCandidates(String keyword) {
+        int candidateCount = Integer.MAX_VALUE;
+        for (long trigram : trigramsOf(keyword)) {
+            Set<Task> tasks = this.postings.get(trigram);
+            if (tasks == null) {
+                return 0;
+            }
+            candidateCount = Math.min(candidateCount, tasks.size());
+        }
+        return candidateCount;
+    }
+
+    /**
+     * Finds the tasks whose descriptions contain the keyword as a substring.
+     *
+     * @param keyword The substring to look for, at least {@link #GRAM_LENGTH} characters long.
+     * @return The matching tasks, in no particular order.
+     * @throws IllegalArgumentException If the keyword is too short to be answered by the index.
+     */
+    public Set<Task> findSubstring(String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            throw new IllegalArgumentException("Keyword is shorter than a trigram: " + keyword);
+        }
+
+        List<Set<Task>> trigramPostings = new ArrayList<>();
+        for (long trigram : trigramsOf(keyword)) {
+            Set<Task> tasks = this.postings.get(trigram);
+            if (tasks == null) {
+                return Collections.emptySet();
+            }
+            trigramPostings.add(tasks);
+        }
+        trigramPostings.sort((first, second) -> Integer.compare(first.size(), second.size()));
+
+        // Only the candidates from the rarest trigram are checked against the other postings and the keyword
+        Set<Task> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Task candidate : trigramPostings.get(0)) {
+            if (isInAll(candidate, trigramPostings) && candidate.getDescription().contains(keyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean isInAll(Task task, List<Set<Task>> trigramPostings) {
+        for (int postingIdx = 1; postingIdx < trigramPostings.size(); postingIdx++) {
+            if (!trigramPostings.get(postingIdx).contains(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
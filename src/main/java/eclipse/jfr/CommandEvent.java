@@ -0,0 +1,28 @@
+package eclipse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded around the execution of every command, so that slow commands can be matched
+ * against GC and I/O activity in a flight recording.
+ */
+@Name("eclipse.Command")
+@Label("Command")
+@Category({"Eclipse", "Commands"})
+@Description("Execution of a user command")
+public class CommandEvent extends Event {
+    @Label("Command")
+    @Description("The type of the command, e.g. todo or list")
+    public String command;
+
+    @Label("Task Count")
+    @Description("The number of tasks in the list once the command has run")
+    public int taskCount;
+
+    @Label("Succeeded")
+    public boolean isSuccessful;
+}
@@ -0,0 +1,75 @@
+package eclipse.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+import eclipse.exceptions.EclipseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+/**
+ * A flight recording of the whole session, started at launch with the JDK's <code>profile</code> settings
+ * plus every event of this application, and written to a file when it is stopped or the JVM exits.
+ * <p>
+ * Creating the first event registers every event class with the flight recorder, which takes about 200 ms
+ * of reflection. Events are only created once the recorder is running, see {@link #isRecorderRunning()},
+ * so that launches without a recording do not pay for it before their first prompt.
+ */
+public class FlightRecording {
+    private static final String SETTINGS_NAME = "profile";
+
+    private final Recording recording;
+
+    private FlightRecording(Recording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Returns whether the flight recorder has been started, by {@link #start(Path)},
+     * <code>-XX:StartFlightRecording</code> or a tool attaching to the JVM.
+     * Checking does not start the recorder.
+     *
+     * @return True if events may be recorded.
+     */
+    public static boolean isRecorderRunning() {
+        return FlightRecorder.isInitialized();
+    }
+
+    /**
+     * Starts a recording.
+     *
+     * @param destination The file the recording is written to.
+     * @return The running recording.
+     * @throws EclipseException If the recording settings cannot be loaded or the file cannot be written.
+     */
+    public static FlightRecording start(Path destination) throws EclipseException {
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(SETTINGS_NAME));
+            recording.setDestination(destination);
+        } catch (IOException | ParseException e) {
+            throw new EclipseException("Failed to set up a flight recording to: " + destination, e);
+        }
+
+        recording.setName("Eclipse");
+        recording.enable(CommandEvent.class);
+        recording.enable(StorageReadEvent.class);
+        recording.enable(StorageWriteEvent.class);
+        recording.enable(JournalAppendEvent.class);
+        recording.enable(ParseFailureEvent.class);
+        // Still written if the session ends without stop(), e.g. on Ctrl-C
+        recording.setDumpOnExit(true);
+        recording.start();
+        return new FlightRecording(recording);
+    }
+
+    /**
+     * Stops the recording and writes it to its file.
+     */
+    public void stop() {
+        this.recording.stop();
+        this.recording.close();
+    }
+}
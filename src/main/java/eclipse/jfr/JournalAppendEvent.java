@@ -0,0 +1,30 @@
+package eclipse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded around appending changes to the journal, which replaces most task file rewrites
+ * when the tasks are stored with a journal.
+ */
+@Name("eclipse.JournalAppend")
+@Label("Journal Append")
+@Category({"Eclipse", "Storage"})
+@Description("Appending changes to the journal file")
+public class JournalAppendEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Records Appended")
+    public int recordCount;
+
+    @Label("Journal Records")
+    @Description("The number of records in the journal once the changes have been appended")
+    public int journalRecordCount;
+
+    @Label("Succeeded")
+    public boolean isSuccessful;
+}
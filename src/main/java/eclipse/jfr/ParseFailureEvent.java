@@ -0,0 +1,24 @@
+package eclipse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Recorded when a line of the task file cannot be parsed.
+ */
+@Name("eclipse.StorageParseFailure")
+@Label("Storage Parse Failure")
+@Category({"Eclipse", "Storage"})
+@Description("A stored line that could not be parsed into a task")
+@StackTrace(false)
+public class ParseFailureEvent extends Event {
+    @Label("Line")
+    public String line;
+
+    @Label("Message")
+    public String message;
+}
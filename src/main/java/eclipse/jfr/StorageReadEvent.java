@@ -0,0 +1,37 @@
+package eclipse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded around loading the task file.
+ */
+@Name("eclipse.StorageRead")
+@Label("Storage Read")
+@Category({"Eclipse", "Storage"})
+@Description("Loading the tasks from the task file")
+public class StorageReadEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Bytes Read")
+    @DataAmount
+    public long byteCount;
+
+    @Label("Lines Read")
+    @Description("The number of lines, or binary records, read, including blank lines")
+    public long lineCount;
+
+    @Label("Task Count")
+    public int taskCount;
+
+    @Label("Succeeded")
+    public boolean isSuccessful;
+}
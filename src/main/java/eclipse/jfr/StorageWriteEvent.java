@@ -0,0 +1,34 @@
+package eclipse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded around rewriting the whole task file.
+ */
+@Name("eclipse.StorageWrite")
+@Label("Storage Write")
+@Category({"Eclipse", "Storage"})
+@Description("Writing all tasks to the task file")
+public class StorageWriteEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long byteCount;
+
+    @Label("Lines Written")
+    @Description("The number of lines, or binary records, written")
+    public long lineCount;
+
+    @Label("Succeeded")
+    public boolean isSuccessful;
+}
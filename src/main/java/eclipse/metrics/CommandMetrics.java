@@ -0,0 +1,129 @@
+package eclipse.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import eclipse.Command;
+import eclipse.exceptions.EclipseException;
+
+/**
+ * Keeps a {@link LatencyHistogram} for every phase of every command type since startup.
+ * All histograms are created up front, so recording never allocates or locks.
+ */
+public class CommandMetrics {
+    /**
+     * The phases a command goes through.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        PERSIST
+    }
+
+    private final Map<Command, Map<Phase, LatencyHistogram>> histograms = new EnumMap<>(Command.class);
+
+    /**
+     * Constructs a CommandMetrics instance with empty histograms.
+     */
+    public CommandMetrics() {
+        for (Command command : Command.values()) {
+            Map<Phase, LatencyHistogram> phaseHistograms = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                phaseHistograms.put(phase, new LatencyHistogram());
+            }
+            this.histograms.put(command, phaseHistograms);
+        }
+    }
+
+    /**
+     * Records how long a phase of a command took.
+     *
+     * @param command The type of the command, {@link Command#INVALID} if it could not be parsed.
+     * @param phase   The phase that was timed.
+     * @param nanos   The time taken in nanoseconds.
+     */
+    public void record(Command command, Phase phase, long nanos) {
+        this.histograms.get(command).get(phase).record(nanos);
+    }
+
+    /**
+     * Returns the histogram of a phase of a command.
+     *
+     * @param command The type of the command.
+     * @param phase   The phase.
+     * @return The histogram, which keeps being updated.
+     */
+    public LatencyHistogram getHistogram(Command command, Phase phase) {
+        return this.histograms.get(command).get(phase);
+    }
+
+    /**
+     * Describes every phase of every command that has run at least once,
+     * e.g. <code>todo     execute  n=12  p50=41.0 us  p99=95.2 us  max=96.1 us</code>
+     *
+     * @return One line per phase, in the order of the commands and phases.
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<Command, Map<Phase, LatencyHistogram>> commandEntry : this.histograms.entrySet()) {
+            for (Map.Entry<Phase, LatencyHistogram> phaseEntry : commandEntry.getValue().entrySet()) {
+                LatencyHistogram histogram = phaseEntry.getValue();
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+
+                lines.add(String.format(
+                        "%-8s %-8s n=%d  p50=%s  p99=%s  max=%s",
+                        commandEntry.getKey().name().toLowerCase(Locale.ROOT),
+                        phaseEntry.getKey().name().toLowerCase(Locale.ROOT),
+                        histogram.getCount(),
+                        formatNanos(histogram.getPercentileNanos(0.5)),
+                        formatNanos(histogram.getPercentileNanos(0.99)),
+                        formatNanos(histogram.getMaxNanos())
+                ));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the description of all histograms to a file, replacing the previous one in a single step,
+     * so that a reader never sees a partially written file.
+     *
+     * @param file The file to write to.
+     * @throws EclipseException If the file cannot be written.
+     */
+    public void writeTo(Path file) throws EclipseException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.write(tempFile, this.describe(), StandardCharsets.UTF_8);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new EclipseException("Failed when trying to write the command statistics to: " + file, e);
+        }
+    }
+
+    /**
+     * Formats a duration in the largest unit that keeps it at or above 1, e.g. <code>41.0 us</code>
+     *
+     * @param nanos The duration in nanoseconds.
+     * @return The formatted duration.
+     */
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + " ns";
+        } else if (nanos < 1_000_000) {
+            return String.format("%.1f us", nanos / 1e3);
+        } else {
+            return String.format("%.1f ms", nanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package eclipse.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in nanoseconds into log-linear buckets without locking, so recording is cheap enough
+ * to be left on permanently and safe from any thread.
+ * Each power of two is split into {@link #SUB_BUCKET_COUNT} equal buckets, so a percentile is reported
+ * within about 6% of the true latency, while the maximum is tracked exactly.
+ * Latencies beyond {@link #MAX_TRACKABLE_NANOS} are counted in the last bucket.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The largest latency bucketed precisely, about 18 minutes.
+     */
+    private static final long MAX_TRACKABLE_NANOS = (1L << 40) - 1;
+
+    private static final int BUCKET_COUNT = bucketOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos The latency in nanoseconds, negative values are counted as 0.
+     */
+    public void record(long nanos) {
+        long clampedNanos = Math.max(0, nanos);
+        this.bucketCounts.incrementAndGet(bucketOf(Math.min(clampedNanos, MAX_TRACKABLE_NANOS)));
+        this.count.incrementAndGet();
+
+        long currMax = this.maxNanos.get();
+        while (clampedNanos > currMax && !this.maxNanos.compareAndSet(currMax, clampedNanos)) {
+            currMax = this.maxNanos.get();
+        }
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Returns the largest latency recorded.
+     *
+     * @return The maximum in nanoseconds, 0 if nothing was recorded.
+     */
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    /**
+     * Returns the latency at or below which the given fraction of the recorded latencies fall.
+     * Latencies recorded concurrently may or may not be included.
+     *
+     * @param fraction The fraction of interest, e.g. 0.99 for the 99th percentile.
+     * @return The upper bound of the bucket holding the percentile, at most the maximum, in nanoseconds,
+     *         or 0 if nothing was recorded.
+     */
+    public long getPercentileNanos(double fraction) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] = this.bucketCounts.get(bucket);
+            total += counts[bucket];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), this.getMaxNanos());
+            }
+        }
+        return this.getMaxNanos();
+    }
+
+    /**
+     * Returns the bucket of a latency: values below {@link #SUB_BUCKET_COUNT} get a bucket each,
+     * larger ones share a bucket with the values agreeing on their highest {@link #SUB_BUCKET_BITS} + 1 bits.
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest latency falling into a bucket.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+
+        int highestBit = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT;
+        long lowerBound = (1L << highestBit) | (subBucket << (highestBit - SUB_BUCKET_BITS));
+        return lowerBound + (1L << (highestBit - SUB_BUCKET_BITS)) - 1;
+    }
+}
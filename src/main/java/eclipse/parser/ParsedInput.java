@@ -2,6 +2,7 @@ package eclipse.parser;
 
 import eclipse.exceptions.EclipseException;
 import eclipse.Command;
+import eclipse.task.Recurrence;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -9,48 +10,64 @@ import java.util.Optional;
 /**
  * Encapsulates the results of parsing a user command.
  * Stores the command type and any associated parameters like descriptions,
- * start dates, end dates, or deadlines.
+ * start dates, end dates, deadlines, or how a task recurs.
+ * Fields that were not present in the input are stored as null rather than wrapped in {@link Optional},
+ * as one instance is created for every line of input.
  */
 public class ParsedInput {
-    private Command command;
-    private final Optional<String> optionalParams;
-    private final Optional<LocalDate> optionalFrom;
-    private final Optional<LocalDate> optionalTo;
-    private final Optional<LocalDate> optionalBy;
+    private final Command command;
+    private final String params;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final LocalDate by;
+    private final Recurrence recurrence;
 
     /**
      * Initializes a ParsedInput with all possible fields.
      *
-     * @param command        The command type identified.
-     * @param optionalParams The main description or parameters of the command.
-     * @param optionalFrom   The start date for event tasks.
-     * @param optionalTo     The end date for event tasks.
-     * @param optionalBy     The deadline date for deadline tasks.
+     * @param command    The command type identified.
+     * @param params     The main description or parameters of the command, or null if absent.
+     * @param from       The start date for event tasks, or null if absent.
+     * @param to         The end date for event tasks, or null if absent.
+     * @param by         The deadline date for deadline tasks, or null if absent.
+     * @param recurrence How a deadline or event task recurs, or null if it happens once.
      */
     public ParsedInput(
             Command command,
-            Optional<String> optionalParams,
-            Optional<LocalDate> optionalFrom,
-            Optional<LocalDate> optionalTo,
-            Optional<LocalDate> optionalBy
-    ) {
+            String params,
+            LocalDate from,
+            LocalDate to,
+            LocalDate by,
+            Recurrence recurrence) {
         this.command = command;
-        this.optionalParams = optionalParams;
-        this.optionalFrom = optionalFrom;
-        this.optionalTo = optionalTo;
-        this.optionalBy = optionalBy;
+        this.params = params;
+        this.from = from;
+        this.to = to;
+        this.by = by;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Initializes a ParsedInput with all possible fields of a task that happens once.
+     *
+     * @param command The command type identified.
+     * @param params  The main description or parameters of the command, or null if absent.
+     * @param from    The start date for event tasks, or null if absent.
+     * @param to      The end date for event tasks, or null if absent.
+     * @param by      The deadline date for deadline tasks, or null if absent.
+     */
+    public ParsedInput(Command command, String params, LocalDate from, LocalDate to, LocalDate by) {
+        this(command, params, from, to, by, null);
     }
 
     /**
      * Initializes a ParsedInput for commands that only require a description (e.g., TODO).
      *
-     * @param command        The command type.
-     * @param optionalParams The task description.
+     * @param command The command type.
+     * @param params  The task description, or null if absent.
      */
-    public ParsedInput(
-            Command command,
-            Optional<String> optionalParams) {
-        this(command, optionalParams, Optional.empty(), Optional.empty(), Optional.empty());
+    public ParsedInput(Command command, String params) {
+        this(command, params, null, null, null);
     }
 
     /**
@@ -66,7 +83,7 @@ public class ParsedInput {
             String params,
             LocalDate from,
             LocalDate to) {
-        this(command, Optional.of(params), Optional.of(from), Optional.of(to), Optional.empty());
+        this(command, params, from, to, null);
     }
 
     /**
@@ -80,7 +97,7 @@ public class ParsedInput {
             Command command,
             String params,
             LocalDate by) {
-        this(command, Optional.of(params), Optional.empty(), Optional.empty(), Optional.of(by));
+        this(command, params, null, null, by);
     }
 
     /**
@@ -93,12 +110,12 @@ public class ParsedInput {
     }
 
     /**
-     * Returns the raw optional containing the command parameters.
+     * Returns an optional containing the command parameters.
      *
      * @return An Optional containing the parameter string if present.
      */
     public Optional<String> getOptionalParams() {
-        return this.optionalParams;
+        return Optional.ofNullable(this.params);
     }
 
     /**
@@ -108,11 +125,19 @@ public class ParsedInput {
      * @throws EclipseException If the parameter field is empty or not detected.
      */
     public String getParams() throws EclipseException {
-        try {
-            return this.optionalParams.orElseThrow();
-        } catch (Exception e) {
-            throw new EclipseException("The parameter is not detected in the parsed output", e);
+        if (this.params == null) {
+            throw new EclipseException("The parameter is not detected in the parsed output");
         }
+        return this.params;
+    }
+
+    /**
+     * Returns an optional containing how the task recurs.
+     *
+     * @return An Optional containing the recurrence if the task repeats.
+     */
+    public Optional<Recurrence> getOptionalRecurrence() {
+        return Optional.ofNullable(this.recurrence);
     }
 
     /**
@@ -122,11 +147,10 @@ public class ParsedInput {
      * @throws EclipseException If the 'by' field is not present in the parsed output.
      */
     public LocalDate getBy() throws EclipseException {
-        try {
-            return this.optionalBy.orElseThrow();
-        } catch (Exception e) {
-            throw new EclipseException("The 'by' field is not detected in parsed output", e);
+        if (this.by == null) {
+            throw new EclipseException("The 'by' field is not detected in parsed output");
         }
+        return this.by;
     }
 
     /**
@@ -136,11 +160,10 @@ public class ParsedInput {
      * @throws EclipseException If the 'to' field is not present in the parsed output.
      */
     public LocalDate getTo() throws EclipseException {
-        try {
-            return this.optionalTo.orElseThrow();
-        } catch (Exception e) {
-            throw new EclipseException("The 'to' field is not detected in parsed output", e);
+        if (this.to == null) {
+            throw new EclipseException("The 'to' field is not detected in parsed output");
         }
+        return this.to;
     }
 
     /**
@@ -150,10 +173,9 @@ public class ParsedInput {
      * @throws EclipseException If the 'from' field is not present in the parsed output.
      */
     public LocalDate getFrom() throws EclipseException {
-        try {
-            return this.optionalFrom.orElseThrow();
-        } catch (Exception e) {
-            throw new EclipseException("The 'from' field is not detected in parsed output", e);
+        if (this.from == null) {
+            throw new EclipseException("The 'from' field is not detected in parsed output");
         }
+        return this.from;
     }
-}
\ No newline at end of file
+}
@@ -2,50 +2,28 @@ package eclipse.parser;
 
 import eclipse.exceptions.EclipseException;
 import eclipse.*;
+import eclipse.task.Recurrence;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Handles the parsing of user input strings into executable {@link ParsedInput} objects.
- * This class uses <code> regular expressions(Regex) <code/> to
- * identify commands and extract their parameters.
+ * This class scans the input once to split off the command word,
+ * then searches the parameters for the <code>/by</code>, <code>/from</code> and <code>/to</code> markers.
+ * Whitespace and line terminators are treated the same way as the regular expressions
+ * <code>\s*(\S+)(?:\s+(.*?))?\s*</code>, <code>(.*?)\s+/by\s+(.*?)\s*</code>
+ * and <code>(.*?)\s+/from\s+(.*?)\s+/to\s+(.*?)\s*</code> would.
+ * A deadline or an event recurs if its last date is followed by <code>/every day</code> or <code>/every week</code>,
+ * optionally followed by <code>/until</code> and the last date an occurrence may start on.
  */
 public class Parser {
-
-    /**
-     * Pattern for initial splitting of input.
-     * Captures the first word as "command" and the rest as "params".
-     * The "params" group uses a lazy quantifier to avoid capturing trailing spaces.
-     */
-    private static final Pattern inputPattern = Pattern.compile(
-            "\\s*"     // spaces (zero or more times)
-                    + "(?<command>\\S+)" // optional non-space command (one or more times)
-                    + "(?:" // A non-captured group
-                    + "\\s+" // spaces (one or more times) as prefix
-                    + "(?<params>.*?)" // optional params, of any character, any length(lazy)
-                    + ")?" // This non-captured group is optional
-                    + "\\s*" // spaces (zero or more times)
-    );
-
-    /**
-     * Pattern to extract the task description and deadline date.
-     */
-    private static final Pattern deadlinePattern = Pattern.compile(
-            // return book /by 2019-10-15
-            "(?<subject>.*?)\\s+/by\\s+(?<date>.*?)\\s*"
-    );
-
-    /**
-     * Pattern to extract the event description, start date, and end date.
-     */
-    private static final Pattern eventPattern = Pattern.compile(
-            // project meeting /from 2019-10-15 /to 2019-10-16
-            "(?<subject>.*?)\\s+/from\\s+(?<fromDate>.*?)\\s+/to\\s+(?<toDate>.*?)\\s*"
-    );
+    private static final String BY_MARKER = "/by";
+    private static final String FROM_MARKER = "/from";
+    private static final String TO_MARKER = "/to";
+    private static final String EVERY_MARKER = "/every";
+    private static final String UNTIL_MARKER = "/until";
 
     /**
      * Parses the raw user input and converts it into a {@link ParsedInput}.
@@ -58,74 +36,335 @@ public class Parser {
      *                          do not follow the yyyy-mm-dd format.
      */
     public static ParsedInput parse(String input) throws EclipseException {
-        Matcher inputPatternMatcher = inputPattern.matcher(input);
+        int inputLength = input.length();
+        int commandStart = skipSpaces(input, 0);
+        int commandEnd = commandStart;
+        while (commandEnd < inputLength && !isSpace(input.charAt(commandEnd))) {
+            commandEnd++;
+        }
 
-        if (!inputPatternMatcher.matches()) {
+        if (commandStart == commandEnd) {
             throw new EclipseException("Failed to parse, invalid input format detected: '" + input + "'");
         }
 
-        String commandStr = inputPatternMatcher.group("command");
-        Optional<String> maybeParams = Optional.ofNullable(inputPatternMatcher.group("params"));
+        // Params are everything after the command, without surrounding whitespace,
+        // and are absent altogether if nothing follows the command
+        String params = null;
+        if (commandEnd < inputLength) {
+            int paramsStart = skipSpaces(input, commandEnd);
+            int paramsEnd = inputLength;
+            while (paramsEnd > paramsStart && isSpace(input.charAt(paramsEnd - 1))) {
+                paramsEnd--;
+            }
 
-        return switch (commandStr) {
-            case "bye" -> new ParsedInput(Command.BYE, maybeParams);
-            case "list" -> new ParsedInput(Command.LIST, maybeParams);
-            case "mark" -> new ParsedInput(Command.MARK, maybeParams);
-            case "unmark" -> new ParsedInput(Command.UNMARK, maybeParams);
-            case "delete" -> new ParsedInput(Command.DELETE, maybeParams);
-            case "todo" -> new ParsedInput(Command.TODO, maybeParams);
-            case "deadline" -> {
-                Matcher deadlinePatternMatcher = deadlinePattern.matcher(maybeParams.orElseThrow());
-                if (!deadlinePatternMatcher.matches()) {
-                    throw new EclipseException(
-                            "Invalid input format for command type 'deadline': " + maybeParams.orElseThrow()
-                    );
+            for (int charIdx = paramsStart; charIdx < paramsEnd; charIdx++) {
+                if (isLineTerminator(input.charAt(charIdx))) {
+                    throw new EclipseException("Failed to parse, invalid input format detected: '" + input + "'");
                 }
+            }
+            params = input.substring(paramsStart, paramsEnd);
+        }
 
-                String dateString = deadlinePatternMatcher.group("date");
-                try {
-                    LocalDate date = LocalDate.parse(dateString);
-                    yield new ParsedInput(
-                            Command.DEADLINE,
-                            deadlinePatternMatcher.group("subject"),
-                            date
-                    );
-                } catch (DateTimeParseException e) {
-                    throw new EclipseException(
-                            "Invalid date format for attribute 'by' in 'deadline' task: " + dateString,
-                            e
-                    );
-                }
+        return switch (input.substring(commandStart, commandEnd)) {
+            case "bye" -> new ParsedInput(Command.BYE, params);
+            case "list" -> new ParsedInput(Command.LIST, params);
+            case "mark" -> new ParsedInput(Command.MARK, params);
+            case "unmark" -> new ParsedInput(Command.UNMARK, params);
+            case "delete" -> new ParsedInput(Command.DELETE, params);
+            case "todo" -> new ParsedInput(Command.TODO, params);
+            case "deadline" -> parseDeadline(params == null ? "" : params);
+            case "event" -> parseEvent(params == null ? "" : params);
+            case "find" -> new ParsedInput(Command.FIND, params);
+            case "due" -> new ParsedInput(Command.DUE, params, parseQueryDate("due", params));
+            case "on" -> {
+                LocalDate date = parseQueryDate("on", params);
+                yield new ParsedInput(Command.ON, params, date, date);
             }
-            case "event" -> {
-                Matcher eventPatternMatcher = eventPattern.matcher(maybeParams.orElseThrow());
-                if (!eventPatternMatcher.matches()) {
-                    throw new EclipseException(
-                            "Invalid input format for command type 'event': " + maybeParams.orElseThrow()
-                    );
-                }
+            case "between" -> parseBetween(params == null ? "" : params);
+            case "convert" -> new ParsedInput(Command.CONVERT, params);
+            case "run" -> new ParsedInput(Command.RUN, params);
+            case "stats" -> new ParsedInput(Command.STATS, params);
+            case "workspace" -> new ParsedInput(Command.WORKSPACE, params);
+            case "skip" -> parseSkip(params == null ? "" : params);
+            case "next" -> new ParsedInput(Command.NEXT, params);
+            case "sort" -> new ParsedInput(Command.SORT, params);
+            default -> new ParsedInput(Command.INVALID, params);
+        };
+    }
+
+    /**
+     * Parses the parameters of a deadline command, e.g. <code>return book /by 2019-10-15</code>
+     * or <code>pay rent /by 2025-01-06 /every week</code>
+     * The description ends at the first <code>/by</code> surrounded by whitespace.
+     *
+     * @param params The parameters of the command, without surrounding whitespace.
+     * @return A {@link ParsedInput} holding the description, the deadline date and how it recurs, if it does.
+     * @throws EclipseException If the marker is missing, the date is not in the yyyy-mm-dd format
+     *                          or the recurrence is invalid.
+     */
+    private static ParsedInput parseDeadline(String params) throws EclipseException {
+        int byIdx = findMarker(params, BY_MARKER, 0);
+        if (byIdx < 0) {
+            throw new EclipseException("Invalid input format for command type 'deadline': " + params);
+        }
+
+        String subject = params.substring(0, skipSpacesBackwards(params, byIdx));
+        int dateStart = skipSpaces(params, byIdx + BY_MARKER.length());
+        int everyIdx = findMarker(params, EVERY_MARKER, dateStart + 1);
+        String dateString = params.substring(
+                dateStart,
+                everyIdx < 0 ? params.length() : skipSpacesBackwards(params, everyIdx)
+        );
+        LocalDate date;
+        try {
+            date = LocalDate.parse(dateString);
+        } catch (DateTimeParseException e) {
+            throw new EclipseException(
+                    "Invalid date format for attribute 'by' in 'deadline' task: " + dateString,
+                    e
+            );
+        }
 
-                String from = eventPatternMatcher.group("fromDate");
-                String to = eventPatternMatcher.group("toDate");
+        if (everyIdx < 0) {
+            return new ParsedInput(Command.DEADLINE, subject, date);
+        }
+        Recurrence recurrence = parseRecurrence(params, everyIdx, date);
+        return new ParsedInput(Command.DEADLINE, subject, null, null, date, recurrence);
+    }
+
+    /**
+     * Parses the parameters of an event command, e.g. <code>project meeting /from 2019-10-15 /to 2019-10-16</code>
+     * The description ends at the first <code>/from</code> that is followed by a <code>/to</code>,
+     * and the start date ends at the first <code>/to</code> after it, each marker surrounded by whitespace.
+     *
+     * @param params The parameters of the command, without surrounding whitespace.
+     * @return A {@link ParsedInput} holding the description, the start date and the end date.
+     * @throws EclipseException If the markers are missing or a date is not in the yyyy-mm-dd format.
+     */
+    private static ParsedInput parseEvent(String params) throws EclipseException {
+        int fromIdx = findMarker(params, FROM_MARKER, 0);
+        while (fromIdx >= 0) {
+            int spacesStart = fromIdx + FROM_MARKER.length();
+            int fromDateStart = skipSpaces(params, spacesStart);
+            int toIdx = findMarker(params, TO_MARKER, fromDateStart + 1);
+            int fromDateEnd = toIdx < 0 ? -1 : skipSpacesBackwards(params, toIdx);
+
+            boolean isEmptyFromDate = fromDateStart - spacesStart >= 2
+                    && isMarkerAt(params, TO_MARKER, fromDateStart);
+            if (toIdx < 0 && isEmptyFromDate) {
+                // "/from  /to": one space belongs to each marker, leaving an empty start date
+                toIdx = fromDateStart;
+                fromDateEnd = fromDateStart;
+            }
+
+            if (toIdx >= 0) {
+                String subject = params.substring(0, skipSpacesBackwards(params, fromIdx));
+                String from = params.substring(fromDateStart, fromDateEnd);
+                int toDateStart = skipSpaces(params, toIdx + TO_MARKER.length());
+                int everyIdx = findMarker(params, EVERY_MARKER, toDateStart + 1);
+                String to = params.substring(
+                        toDateStart,
+                        everyIdx < 0 ? params.length() : skipSpacesBackwards(params, everyIdx)
+                );
+                LocalDate fromDate;
+                LocalDate toDate;
                 try {
-                    LocalDate fromDate = LocalDate.parse(from);
-                    LocalDate toDate = LocalDate.parse(to);
-                    yield new ParsedInput(
-                            Command.EVENT,
-                            eventPatternMatcher.group("subject"),
-                            fromDate,
-                            toDate
-                    );
+                    fromDate = LocalDate.parse(from);
+                    toDate = LocalDate.parse(to);
                 } catch (DateTimeParseException e) {
                     throw new EclipseException(
                             "Invalid date format for attribute 'from' or 'to' in 'event' task: " + from + "/" + to,
                             e
                     );
                 }
+
+                if (everyIdx < 0) {
+                    return new ParsedInput(Command.EVENT, subject, fromDate, toDate);
+                }
+                Recurrence recurrence = parseRecurrence(params, everyIdx, fromDate);
+                return new ParsedInput(Command.EVENT, subject, fromDate, toDate, null, recurrence);
             }
-            case "find" -> new ParsedInput(Command.FIND, maybeParams);
-            default -> new ParsedInput(Command.INVALID, maybeParams);
-        };
+
+            fromIdx = findMarker(params, FROM_MARKER, fromIdx + 1);
+        }
+
+        throw new EclipseException("Invalid input format for command type 'event': " + params);
+    }
+
+    /**
+     * Parses how a deadline or an event recurs, e.g. <code>/every week /until 2025-03-31</code>
+     *
+     * @param params   The parameters of the command, without surrounding whitespace.
+     * @param everyIdx The index of the <code>/every</code> marker.
+     * @param start    The date of the first occurrence.
+     * @return The recurrence.
+     * @throws EclipseException If the frequency is neither <code>day</code> nor <code>week</code>,
+     *                          or the last date is invalid or before the first occurrence.
+     */
+    private static Recurrence parseRecurrence(String params, int everyIdx, LocalDate start) throws EclipseException {
+        int frequencyStart = skipSpaces(params, everyIdx + EVERY_MARKER.length());
+        int untilIdx = findMarker(params, UNTIL_MARKER, frequencyStart + 1);
+        String word = params.substring(
+                frequencyStart,
+                untilIdx < 0 ? params.length() : skipSpacesBackwards(params, untilIdx)
+        );
+        Recurrence.Frequency frequency = Recurrence.Frequency.fromWord(word).orElseThrow(() -> new EclipseException(
+                "Invalid recurrence, expected '/every day' or '/every week': " + params.substring(everyIdx)
+        ));
+        if (untilIdx < 0) {
+            return new Recurrence(frequency, null);
+        }
+
+        String untilString = params.substring(skipSpaces(params, untilIdx + UNTIL_MARKER.length()));
+        LocalDate until;
+        try {
+            until = LocalDate.parse(untilString);
+        } catch (DateTimeParseException e) {
+            throw new EclipseException(
+                    "Invalid date format for attribute 'until' of a recurring task: " + untilString,
+                    e
+            );
+        }
+        if (until.isBefore(start)) {
+            throw new EclipseException(
+                    "The recurrence ends before its first occurrence: " + params.substring(everyIdx)
+            );
+        }
+        return new Recurrence(frequency, until);
+    }
+
+    /**
+     * Parses the parameters of a skip command, e.g. <code>3 2025-01-13</code>,
+     * the number of a recurring task in the list and the start date of the occurrence to skip.
+     *
+     * @param params The parameters of the command, without surrounding whitespace.
+     * @return A {@link ParsedInput} holding the task number as its parameters, and the date as its range.
+     * @throws EclipseException If the task number or the date is missing, or the date is not in the yyyy-mm-dd format.
+     */
+    private static ParsedInput parseSkip(String params) throws EclipseException {
+        int numberEnd = 0;
+        while (numberEnd < params.length() && !isSpace(params.charAt(numberEnd))) {
+            numberEnd++;
+        }
+        int dateStart = skipSpaces(params, numberEnd);
+        if (numberEnd == 0 || dateStart == params.length()) {
+            throw new EclipseException("Invalid input format for command type 'skip', expected 'skip <index> <date>': "
+                    + params);
+        }
+
+        LocalDate date = parseQueryDate("skip", params.substring(dateStart));
+        return new ParsedInput(Command.SKIP, params.substring(0, numberEnd), date, date);
+    }
+
+    /**
+     * Parses the single date taken by a date query, e.g. <code>due 2019-10-15</code>
+     *
+     * @param commandName The name of the command, used in the error message.
+     * @param params      The parameters of the command, or null if absent.
+     * @return The date.
+     * @throws EclipseException If the date is missing or not in the yyyy-mm-dd format.
+     */
+    private static LocalDate parseQueryDate(String commandName, String params) throws EclipseException {
+        if (params == null) {
+            throw new EclipseException("Missing date for command type '" + commandName + "'");
+        }
+
+        try {
+            return LocalDate.parse(params);
+        } catch (DateTimeParseException e) {
+            throw new EclipseException(
+                    "Invalid date format for command type '" + commandName + "', expected yyyy-mm-dd: " + params,
+                    e
+            );
+        }
+    }
+
+    /**
+     * Parses the parameters of a between command, e.g. <code>between 2019-10-14 2019-10-20</code>
+     *
+     * @param params The parameters of the command, without surrounding whitespace.
+     * @return A {@link ParsedInput} holding the first and the last date of the range.
+     * @throws EclipseException If there are not exactly two dates in the yyyy-mm-dd format,
+     *                          or the range ends before it starts.
+     */
+    private static ParsedInput parseBetween(String params) throws EclipseException {
+        int fromEnd = 0;
+        while (fromEnd < params.length() && !isSpace(params.charAt(fromEnd))) {
+            fromEnd++;
+        }
+        int toStart = skipSpaces(params, fromEnd);
+        if (fromEnd == 0 || toStart == params.length()) {
+            throw new EclipseException("Invalid input format for command type 'between': " + params);
+        }
+
+        LocalDate from = parseQueryDate("between", params.substring(0, fromEnd));
+        LocalDate to = parseQueryDate("between", params.substring(toStart));
+        if (to.isBefore(from)) {
+            throw new EclipseException("The range of command type 'between' ends before it starts: " + params);
+        }
+        return new ParsedInput(Command.BETWEEN, params, from, to);
+    }
+
+    /**
+     * Finds the first occurrence of a marker that has whitespace directly before and after it.
+     *
+     * @param params    The string to search.
+     * @param marker    The marker to find, e.g. <code>/by</code>
+     * @param fromIdx   The index to start searching from.
+     * @return The index of the marker, or -1 if there is no such occurrence.
+     */
+    private static int findMarker(String params, String marker, int fromIdx) {
+        int markerIdx = params.indexOf(marker, Math.max(fromIdx, 1));
+        while (markerIdx >= 0 && !isMarkerAt(params, marker, markerIdx)) {
+            markerIdx = params.indexOf(marker, markerIdx + 1);
+        }
+        return markerIdx;
+    }
+
+    /**
+     * Checks for a marker with whitespace directly before and after it at the given index.
+     */
+    private static boolean isMarkerAt(String params, String marker, int markerIdx) {
+        int afterIdx = markerIdx + marker.length();
+        return markerIdx >= 1
+                && afterIdx < params.length()
+                && isSpace(params.charAt(markerIdx - 1))
+                && isSpace(params.charAt(afterIdx))
+                && params.startsWith(marker, markerIdx);
+    }
+
+    /**
+     * Returns the index of the first non-whitespace character at or after the given index.
+     */
+    private static int skipSpaces(String str, int idx) {
+        while (idx < str.length() && isSpace(str.charAt(idx))) {
+            idx++;
+        }
+        return idx;
+    }
+
+    /**
+     * Returns the start index of the run of whitespace that ends right before the given index.
+     */
+    private static int skipSpacesBackwards(String str, int idx) {
+        while (idx > 0 && isSpace(str.charAt(idx - 1))) {
+            idx--;
+        }
+        return idx;
+    }
+
+    /**
+     * Checks whether a character is whitespace, as matched by <code>\s</code> in a regular expression.
+     */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Checks whether a character ends a line, as excluded by <code>.</code> in a regular expression.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
     /**
@@ -156,4 +395,30 @@ public class Parser {
 
         return inputIndexParsed - 1;
     }
+
+    /**
+     * Converts the number of tasks given to <code>next</code>, if any, into an integer.
+     *
+     * @param maybeCount   The number of tasks as typed by the user, or empty if none was given.
+     * @param defaultCount The number of tasks to show if none was given.
+     * @return The number of tasks to show.
+     * @throws EclipseException If the number is not an integer or not positive.
+     */
+    public static int parseNextCount(Optional<String> maybeCount, int defaultCount) throws EclipseException {
+        // A command followed only by spaces has empty params
+        if (maybeCount.filter(count -> !count.isEmpty()).isEmpty()) {
+            return defaultCount;
+        }
+
+        int count;
+        try {
+            count = Integer.parseInt(maybeCount.get());
+        } catch (NumberFormatException e) {
+            throw new EclipseException("Invalid number of tasks for command type 'next': " + maybeCount.get(), e);
+        }
+        if (count <= 0) {
+            throw new EclipseException("The number of tasks for command type 'next' must be positive: " + count);
+        }
+        return count;
+    }
 }
@@ -0,0 +1,126 @@
+package eclipse.server;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+
+import eclipse.Command;
+import eclipse.Eclipse;
+import eclipse.InputHandler;
+import eclipse.Ui;
+import eclipse.exceptions.EclipseException;
+import eclipse.parser.Parser;
+
+/**
+ * A connection to a single client, answering each command through a {@link Ui} writing to the socket.
+ * Reading the next command does not hold any lock, so an idle session never blocks the others.
+ * An idle session only holds its socket and a small read buffer:
+ * the UI and the encoder behind it are created for each command, as they take tens of kilobytes.
+ * Commands reaching into the file system of the server, <code>run</code> and <code>convert</code>,
+ * are refused, as only the user at the console may run them.
+ */
+class ClientSession implements Runnable {
+    private static final int READ_BUFFER_SIZE = 512;
+
+    /**
+     * The longest line accepted from a client, past which the session is closed.
+     */
+    private static final int MAX_LINE_BYTES = 1024 * 1024;
+
+    /**
+     * Commands only the console may run: <code>run</code> reads any file the server can,
+     * and <code>convert</code> rewrites the task file under every other session.
+     */
+    private static final Set<Command> CONSOLE_ONLY_COMMANDS = EnumSet.of(Command.RUN, Command.CONVERT);
+
+    private final Socket socket;
+    private final InputHandler handler;
+
+    /**
+     * Constructs a ClientSession for an accepted connection.
+     *
+     * @param socket  The connection to the client.
+     * @param handler The handler of the commands of the session.
+     */
+    ClientSession(Socket socket, InputHandler handler) {
+        this.socket = socket;
+        this.handler = handler;
+    }
+
+    @Override
+    public void run() {
+        try (Socket socket = this.socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream(), READ_BUFFER_SIZE);
+            OutputStream out = socket.getOutputStream();
+            createUi(out).greet(Eclipse.CHATBOT_NAME);
+
+            String input;
+            while ((input = readLine(in)) != null) {
+                Ui commandUi = createUi(out);
+                if (isConsoleOnly(input)) {
+                    commandUi.showRecoverableError(new EclipseException(
+                            "This command can only be run from the console of the server: " + input));
+                    continue;
+                }
+                if (!this.handler.handleInput(input, commandUi)) {
+                    commandUi.exit();
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // The client went away, nothing is left to answer
+        }
+    }
+
+    /**
+     * Returns whether the input is a command clients may not run.
+     * Input that cannot be parsed is left to the handler, which reports the error.
+     */
+    private static boolean isConsoleOnly(String input) {
+        try {
+            return CONSOLE_ONLY_COMMANDS.contains(Parser.parse(input).getCommand());
+        } catch (EclipseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a UI writing to the client, which is shown output as it arrives, like a terminal.
+     */
+    private static Ui createUi(OutputStream out) {
+        return new Ui(new PrintStream(out, false, StandardCharsets.UTF_8), true);
+    }
+
+    /**
+     * Reads a line sent by the client, without its line terminator, which may be <code>\n</code> or <code>\r\n</code>.
+     *
+     * @return The line, or null once the client has closed the connection.
+     * @throws IOException If reading fails or the line is too long.
+     */
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int currByte;
+        while ((currByte = in.read()) != '\n') {
+            if (currByte == -1) {
+                return line.size() == 0 ? null : line.toString(StandardCharsets.UTF_8);
+            }
+            if (line.size() >= MAX_LINE_BYTES) {
+                throw new IOException("Line from client exceeds " + MAX_LINE_BYTES + " bytes");
+            }
+            line.write(currByte);
+        }
+
+        String decodedLine = line.toString(StandardCharsets.UTF_8);
+        if (decodedLine.endsWith("\r")) {
+            return decodedLine.substring(0, decodedLine.length() - 1);
+        }
+        return decodedLine;
+    }
+}
@@ -0,0 +1,102 @@
+package eclipse.server;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import eclipse.Eclipse;
+import eclipse.InputHandler;
+import eclipse.Ui;
+import eclipse.exceptions.EclipseException;
+
+/**
+ * Serves task lists to many clients over TCP on the loopback interface.
+ * Every connection is a session of its own, reading one command per line and answering with the same output
+ * the console would show, until the client sends <code>bye</code> or disconnects.
+ * Each session hands its commands to an {@link InputHandler}: either a session of a single {@link Eclipse}
+ * shared by all sessions, which runs their commands in turn, or a {@link eclipse.workspace.WorkspaceSession}
+ * of its own.
+ * <p>
+ * Each session runs on a virtual thread when the JVM supports them, so that thousands of idle sessions
+ * cost little more than their sockets, and on a thread of a cached pool otherwise.
+ */
+public class TaskServer {
+    private static final int BACKLOG = 1024;
+
+    private final Supplier<InputHandler> sessionHandlers;
+    private final Ui consoleUi;
+    private final int port;
+
+    /**
+     * Constructs a TaskServer.
+     *
+     * @param sessionHandlers Creates the handler of the commands of each new session.
+     * @param consoleUi       The UI of the console, where the server reports that it has started.
+     * @param port            The port to listen on, or 0 for any free port.
+     */
+    public TaskServer(Supplier<InputHandler> sessionHandlers, Ui consoleUi, int port) {
+        this.sessionHandlers = sessionHandlers;
+        this.consoleUi = consoleUi;
+        this.port = port;
+    }
+
+    /**
+     * Accepts connections until the JVM exits, starting a session for each of them.
+     *
+     * @throws EclipseException If the port cannot be listened on, or accepting connections fails.
+     */
+    public void run() throws EclipseException {
+        ExecutorService sessionExecutor = createVirtualThreadExecutor();
+        boolean isUsingVirtualThreads = sessionExecutor != null;
+        if (!isUsingVirtualThreads) {
+            sessionExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "eclipse-session");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        try (ServerSocket serverSocket = new ServerSocket()) {
+            serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), this.port), BACKLOG);
+            this.consoleUi.showBorder();
+            this.consoleUi.showContent(String.format(
+                    "Serving the task list on %s, each session on %s.",
+                    serverSocket.getLocalSocketAddress(),
+                    isUsingVirtualThreads ? "a virtual thread" : "a pooled platform thread"
+            ));
+            this.consoleUi.showBorder();
+            this.consoleUi.endOutput();
+            this.consoleUi.flush();
+
+            while (true) {
+                Socket socket = serverSocket.accept();
+                sessionExecutor.execute(new ClientSession(socket, this.sessionHandlers.get()));
+            }
+        } catch (IOException e) {
+            throw new EclipseException("Failed to serve on port " + this.port, e);
+        } finally {
+            sessionExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates an executor starting a virtual thread per session.
+     * It is looked up reflectively, so that the application still builds and runs on JDKs without virtual threads.
+     *
+     * @return The executor, or null if virtual threads are not available.
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
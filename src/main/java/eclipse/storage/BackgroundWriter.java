@@ -0,0 +1,194 @@
+package eclipse.storage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import eclipse.exceptions.EclipseException;
+
+/**
+ * Persists changes on a dedicated thread, so that commands do not wait for the disk.
+ * Callers mark the task list as dirty after each change, and the writer coalesces a burst of changes
+ * into a single flush: it waits until no change has been made for the debounce interval,
+ * but never longer than the maximum delay after the first unsaved change.
+ * A failed flush is retried after a backoff, which doubles with every consecutive failure
+ * up to {@link #MAX_RETRY_BACKOFF_MILLIS}, so the changes are never left waiting for the next change to be saved.
+ * Closing the writer performs a final flush of anything still unsaved, which is not retried.
+ */
+public class BackgroundWriter implements AutoCloseable {
+    /**
+     * The action that writes the unsaved changes to storage.
+     */
+    @FunctionalInterface
+    public interface FlushAction {
+        void flush() throws EclipseException;
+    }
+
+    /**
+     * The longest the writer waits before retrying a failed flush.
+     */
+    public static final long MAX_RETRY_BACKOFF_MILLIS = 30_000;
+
+    private final FlushAction flushAction;
+    private final Consumer<EclipseException> errorHandler;
+    private final long debounceNanos;
+    private final long maxDelayNanos;
+    private final Thread writerThread;
+
+    private boolean isDirty = false;
+    private boolean isClosed = false;
+    private long firstDirtyNanos;
+    private long lastDirtyNanos;
+
+    /**
+     * The wait before the next retry if the next flush fails too, or 0 if the last flush succeeded.
+     */
+    private long retryBackoffNanos = 0;
+    private long retryNotBeforeNanos;
+
+    /**
+     * Constructs a BackgroundWriter and starts its writer thread.
+     *
+     * @param flushAction    The action that writes the unsaved changes to storage.
+     * @param errorHandler   Receives the errors raised by flushes on the writer thread.
+     * @param debounceMillis How long the list has to stay unchanged before it is flushed.
+     * @param maxDelayMillis The longest a change may stay unsaved while changes keep coming in.
+     */
+    public BackgroundWriter(
+            FlushAction flushAction,
+            Consumer<EclipseException> errorHandler,
+            long debounceMillis,
+            long maxDelayMillis
+    ) {
+        this.flushAction = flushAction;
+        this.errorHandler = errorHandler;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+
+        this.writerThread = new Thread(this::runWriterLoop, "eclipse-background-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Records that the task list has unsaved changes and returns immediately.
+     */
+    public synchronized void markDirty() {
+        long now = System.nanoTime();
+        if (!this.isDirty) {
+            this.isDirty = true;
+            this.firstDirtyNanos = now;
+        }
+        this.lastDirtyNanos = now;
+        this.notifyAll();
+    }
+
+    /**
+     * Stops the writer thread after a final flush of any unsaved changes.
+     * Calling this more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            this.isClosed = true;
+            this.notifyAll();
+        }
+
+        try {
+            this.writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for unsaved changes and flushes them once the burst of changes is over.
+     */
+    private void runWriterLoop() {
+        while (true) {
+            boolean shouldFlush;
+            boolean shouldStop;
+            long flushedFirstDirtyNanos;
+
+            synchronized (this) {
+                try {
+                    this.awaitFlushDeadline();
+                } catch (InterruptedException e) {
+                    // Flush what we have and stop, as if the writer was closed
+                    this.isClosed = true;
+                }
+                shouldFlush = this.isDirty;
+                shouldStop = this.isClosed;
+                flushedFirstDirtyNanos = this.firstDirtyNanos;
+                this.isDirty = false;
+            }
+
+            if (shouldFlush) {
+                try {
+                    this.flushAction.flush();
+                    synchronized (this) {
+                        this.retryBackoffNanos = 0;
+                    }
+                } catch (EclipseException e) {
+                    this.errorHandler.accept(e);
+                    this.scheduleRetry(flushedFirstDirtyNanos);
+                }
+            }
+
+            if (shouldStop) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Marks the changes of a failed flush as unsaved again, to be flushed once the backoff has passed.
+     * They still count as unsaved since their first change, so the maximum delay is not restarted.
+     *
+     * @param flushedFirstDirtyNanos When the first of the changes that failed to be flushed was made.
+     */
+    private synchronized void scheduleRetry(long flushedFirstDirtyNanos) {
+        long now = System.nanoTime();
+        if (this.isDirty) {
+            // Changes made during the flush keep their latest time, but are now as old as the failed ones
+            this.firstDirtyNanos = Math.min(this.firstDirtyNanos, flushedFirstDirtyNanos);
+        } else {
+            this.isDirty = true;
+            this.firstDirtyNanos = flushedFirstDirtyNanos;
+            this.lastDirtyNanos = now;
+        }
+
+        long maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(MAX_RETRY_BACKOFF_MILLIS);
+        this.retryBackoffNanos = this.retryBackoffNanos == 0
+                ? Math.max(this.debounceNanos, TimeUnit.MILLISECONDS.toNanos(1))
+                : Math.min(this.retryBackoffNanos * 2, maxBackoffNanos);
+        this.retryNotBeforeNanos = now + this.retryBackoffNanos;
+    }
+
+    /**
+     * Blocks until there are unsaved changes and either the debounce interval has passed since the last change,
+     * the maximum delay has passed since the first unsaved change, or the writer is closed.
+     * After a failed flush, also waits until the backoff has passed.
+     *
+     * @throws InterruptedException If the writer thread is interrupted while waiting.
+     */
+    private void awaitFlushDeadline() throws InterruptedException {
+        while (!this.isDirty && !this.isClosed) {
+            this.wait();
+        }
+
+        while (!this.isClosed) {
+            long deadline = Math.min(
+                    this.lastDirtyNanos + this.debounceNanos,
+                    this.firstDirtyNanos + this.maxDelayNanos
+            );
+            if (this.retryBackoffNanos > 0 && this.retryNotBeforeNanos - deadline > 0) {
+                deadline = this.retryNotBeforeNanos;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package eclipse.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+/**
+ * Reads and writes snapshots of the task list in a compact, versioned binary format.
+ * <pre>
+ * header: 'E' 'C' 'L' 'B' | version (1 byte) | task count (int)
+ * task:   type 'T'/'D'/'E'/'R' (1 byte) | flags, bit 0 is done (1 byte)
+ *         | by (int) for deadlines, or from (int) and to (int) for events, as epoch days
+ *         | the rule of recurring tasks, see below
+ *         | description length (varint) | description (UTF-8 bytes)
+ * rule:   start (int) | end (int) if flag bit 1, for events
+ *         | days between occurrences (1 byte) | until (int) if flag bit 2
+ *         | skipped count (varint) | skipped start dates (int each)
+ * </pre>
+ * Integers are big-endian, the varint stores 7 bits per byte with the high bit set on all but the last byte.
+ * Version 2 added recurring tasks, files of version 1 are still read.
+ */
+public class BinaryTaskCodec {
+    private static final byte[] MAGIC = {'E', 'C', 'L', 'B'};
+    private static final byte VERSION = 2;
+    private static final byte FIRST_READABLE_VERSION = 1;
+    private static final int DONE_FLAG = 1;
+    private static final int EVENT_SERIES_FLAG = 2;
+    private static final int UNTIL_FLAG = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Checks whether a file starts with the header of this format.
+     *
+     * @param file The file to check.
+     * @return True if the file holds a binary snapshot.
+     * @throws EclipseException If the file exists but cannot be read.
+     */
+    public static boolean isBinary(File file) throws EclipseException {
+        if (!file.exists()) {
+            return false;
+        }
+
+        byte[] header = new byte[MAGIC.length];
+        try (InputStream inputStream = new FileInputStream(file)) {
+            if (inputStream.readNBytes(header, 0, header.length) < header.length) {
+                return false;
+            }
+        } catch (IOException e) {
+            throw new EclipseException("Failed to read the task file: " + file.getAbsolutePath(), e);
+        }
+
+        for (int byteIdx = 0; byteIdx < MAGIC.length; byteIdx++) {
+            if (header[byteIdx] != MAGIC[byteIdx]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the given list of tasks to a file, overwriting any existing content.
+     *
+     * @param file  The file to write to.
+     * @param tasks The list of {@link Task} objects to be saved.
+     * @throws EclipseException If an I/O error occurs while writing.
+     */
+    public static void write(File file, List<Task> tasks) throws EclipseException {
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+            output.write(MAGIC);
+            output.writeByte(VERSION);
+            output.writeInt(tasks.size());
+
+            for (Task task : tasks) {
+                writeTask(output, task);
+            }
+        } catch (IOException e) {
+            throw new EclipseException("Failed when trying to write to the file: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Reads all tasks from a file written by {@link #write(File, List)}.
+     *
+     * @param file The file to read from.
+     * @return The tasks, in the order they were written.
+     * @throws EclipseException If the file does not start with the header, is corrupted,
+     *                          of an unsupported version, or cannot be read.
+     */
+    public static List<Task> read(File file) throws EclipseException {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE))) {
+            byte[] header = new byte[MAGIC.length];
+            input.readFully(header);
+            if (!Arrays.equals(header, MAGIC)) {
+                throw new EclipseException("Not a binary task file, invalid header: " + file);
+            }
+            byte version = input.readByte();
+            if (version < FIRST_READABLE_VERSION || version > VERSION) {
+                throw new EclipseException("Unsupported binary task file version " + version + ": " + file);
+            }
+
+            int taskCount = input.readInt();
+            if (taskCount < 0) {
+                throw new EclipseException("Corrupted binary task file, invalid task count: " + file);
+            }
+
+            // Do not trust a corrupted count with a huge allocation up front
+            List<Task> tasks = new ArrayList<>(Math.min(taskCount, 1 << 16));
+            for (int taskIdx = 0; taskIdx < taskCount; taskIdx++) {
+                tasks.add(readTask(input));
+            }
+            return tasks;
+        } catch (EOFException e) {
+            throw new EclipseException("Corrupted binary task file, unexpected end of file: " + file, e);
+        } catch (IOException e) {
+            throw new EclipseException("Failed to read the task file: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    private static void writeTask(DataOutputStream output, Task task) throws IOException {
+        int flags = task.isDone() ? DONE_FLAG : 0;
+
+        if (task instanceof RecurringTask) {
+            writeRecurringTask(output, (RecurringTask) task, flags);
+        } else if (task instanceof Deadline) {
+            output.writeByte('D');
+            output.writeByte(flags);
+            output.writeInt((int) ((Deadline) task).getBy().toEpochDay());
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            output.writeByte('E');
+            output.writeByte(flags);
+            output.writeInt((int) event.getFrom().toEpochDay());
+            output.writeInt((int) event.getTo().toEpochDay());
+        } else {
+            output.writeByte('T');
+            output.writeByte(flags);
+        }
+
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        writeVarInt(output, description.length);
+        output.write(description);
+    }
+
+    private static void writeRecurringTask(DataOutputStream output, RecurringTask task, int flags)
+            throws IOException {
+        Recurrence recurrence = task.getRecurrence();
+        if (task.isEventSeries()) {
+            flags |= EVENT_SERIES_FLAG;
+        }
+        if (recurrence.getUntil().isPresent()) {
+            flags |= UNTIL_FLAG;
+        }
+
+        output.writeByte('R');
+        output.writeByte(flags);
+        output.writeInt((int) task.getStart().toEpochDay());
+        if (task.isEventSeries()) {
+            output.writeInt((int) task.getEnd().get().toEpochDay());
+        }
+        output.writeByte(recurrence.getFrequency().getDays());
+        if (recurrence.getUntil().isPresent()) {
+            output.writeInt((int) recurrence.getUntil().get().toEpochDay());
+        }
+        LocalDate[] skippedDates = recurrence.getSkippedDates();
+        writeVarInt(output, skippedDates.length);
+        for (LocalDate skippedDate : skippedDates) {
+            output.writeInt((int) skippedDate.toEpochDay());
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream output, int val) throws IOException {
+        while ((val & ~0x7F) != 0) {
+            output.writeByte((val & 0x7F) | 0x80);
+            val >>>= 7;
+        }
+        output.writeByte(val);
+    }
+
+    private static int readVarInt(DataInputStream input) throws IOException, EclipseException {
+        int val = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int currByte = input.readUnsignedByte();
+            val |= (currByte & 0x7F) << shift;
+            if ((currByte & 0x80) == 0) {
+                return val;
+            }
+        }
+        throw new EclipseException("Corrupted binary task file, varint is too long");
+    }
+
+    private static Task readTask(DataInputStream input) throws IOException, EclipseException {
+        byte type = input.readByte();
+        int flags = input.readByte();
+        boolean isDone = (flags & DONE_FLAG) != 0;
+
+        switch (type) {
+        case 'T':
+            return new Todo(readDescription(input), isDone);
+        case 'D': {
+            LocalDate by = LocalDate.ofEpochDay(input.readInt());
+            return new Deadline(readDescription(input), isDone, by);
+        }
+        case 'E': {
+            LocalDate from = LocalDate.ofEpochDay(input.readInt());
+            LocalDate to = LocalDate.ofEpochDay(input.readInt());
+            return new Event(readDescription(input), isDone, from, to);
+        }
+        case 'R':
+            return readRecurringTask(input, flags, isDone);
+        default:
+            throw new EclipseException("Corrupted binary task file, unknown task type: " + type);
+        }
+    }
+
+    private static RecurringTask readRecurringTask(DataInputStream input, int flags, boolean isDone)
+            throws IOException, EclipseException {
+        LocalDate start = LocalDate.ofEpochDay(input.readInt());
+        LocalDate end = (flags & EVENT_SERIES_FLAG) != 0 ? LocalDate.ofEpochDay(input.readInt()) : null;
+
+        int stepDays = input.readUnsignedByte();
+        Recurrence.Frequency frequency = null;
+        for (Recurrence.Frequency candidate : Recurrence.Frequency.values()) {
+            if (candidate.getDays() == stepDays) {
+                frequency = candidate;
+            }
+        }
+        if (frequency == null) {
+            throw new EclipseException("Corrupted binary task file, unknown recurrence of " + stepDays + " days");
+        }
+
+        LocalDate until = (flags & UNTIL_FLAG) != 0 ? LocalDate.ofEpochDay(input.readInt()) : null;
+        Recurrence recurrence = new Recurrence(frequency, until);
+        int skippedCount = readVarInt(input);
+        for (int skippedIdx = 0; skippedIdx < skippedCount; skippedIdx++) {
+            recurrence = recurrence.withSkipped(LocalDate.ofEpochDay(input.readInt()));
+        }
+
+        String description = readDescription(input);
+        return end == null
+                ? new RecurringTask(description, isDone, start, recurrence)
+                : new RecurringTask(description, isDone, start, end, recurrence);
+    }
+
+    private static String readDescription(DataInputStream input) throws IOException, EclipseException {
+        int length = readVarInt(input);
+        if (length < 0) {
+            throw new EclipseException("Corrupted binary task file, invalid description length: " + length);
+        }
+
+        // Reads in steps rather than allocating a corrupted length up front
+        byte[] description = input.readNBytes(length);
+        if (description.length < length) {
+            throw new EOFException();
+        }
+        return new String(description, StandardCharsets.UTF_8);
+    }
+}
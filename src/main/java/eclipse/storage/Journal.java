@@ -0,0 +1,214 @@
+package eclipse.storage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.jfr.FlightRecording;
+import eclipse.jfr.JournalAppendEvent;
+
+/**
+ * Manages the append-only journal file used by {@link JournaledStorage}.
+ * The first line of the journal is a header naming the snapshot the records apply to,
+ * every following line is one {@link Mutation} in the order it was made.
+ * Example:
+ * <pre>
+ * # snapshot 92 1a2b3c4d
+ * ADD T | 0 | borrow book
+ * MARK 0
+ * </pre>
+ */
+public class Journal {
+    private static final String HEADER_PREFIX = "# snapshot ";
+
+    private final File journalFile;
+    private int recordCount = 0;
+
+    /**
+     * Constructs a Journal backed by the given file.
+     *
+     * @param journalFile The file holding the journal records.
+     */
+    public Journal(File journalFile) {
+        this.journalFile = journalFile;
+    }
+
+    /**
+     * Returns the number of records appended since the journal was last reset.
+     *
+     * @return The number of records in the journal.
+     */
+    public int getRecordCount() {
+        return this.recordCount;
+    }
+
+    /**
+     * Reads the records of the journal, provided that it was written against the given snapshot.
+     * A journal whose header names a different snapshot has already been folded into the snapshot
+     * (or belongs to a snapshot that was replaced), so none of its records are returned.
+     * A final line that is missing its line separator or cannot be parsed is treated as a write torn by a crash.
+     * It is dropped, and cut from the file so that the next append does not continue it.
+     *
+     * @param snapshotFingerprint The fingerprint of the snapshot that was just loaded.
+     * @param storageParser       The parser used to validate ADD records.
+     * @return The mutations to replay on top of the snapshot, in order.
+     * @throws EclipseException If the file cannot be read, or a record other than the last one is corrupted.
+     */
+    public List<Mutation> readRecords(String snapshotFingerprint, StorageParser storageParser)
+            throws EclipseException {
+        List<Mutation> mutations = new ArrayList<>();
+        if (!this.journalFile.exists()) {
+            return mutations;
+        }
+
+        String content;
+        try {
+            content = Files.readString(this.journalFile.toPath());
+        } catch (IOException e) {
+            throw new EclipseException("Failed to read the journal file: " + this.journalFile.getAbsolutePath(), e);
+        }
+
+        List<String> lines = new ArrayList<>(content.lines().toList());
+        if (lines.isEmpty() || !lines.get(0).equals(HEADER_PREFIX + snapshotFingerprint)) {
+            return mutations;
+        }
+
+        // Every record is written with its line separator, so a last line without one was cut short
+        boolean isTailTorn = !content.endsWith("\n");
+        for (int lineIdx = 1; lineIdx < lines.size(); lineIdx++) {
+            String line = lines.get(lineIdx);
+            boolean isLastLine = lineIdx == lines.size() - 1;
+            if (isLastLine && isTailTorn) {
+                break;
+            }
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            try {
+                mutations.add(Mutation.fromJournalRecord(line, storageParser));
+            } catch (EclipseException e) {
+                if (isLastLine) {
+                    isTailTorn = true;
+                    break;
+                }
+                throw e;
+            }
+        }
+
+        if (isTailTorn) {
+            this.rewrite(lines.subList(0, lines.size() - 1));
+        }
+        this.recordCount = mutations.size();
+        return mutations;
+    }
+
+    /**
+     * Appends the given mutations to the journal.
+     * The cost of this is proportional to the number of mutations, not the size of the task list.
+     *
+     * @param mutations The mutations to be recorded, in order.
+     * @throws EclipseException If an I/O error occurs while writing.
+     */
+    public void append(List<Mutation> mutations) throws EclipseException {
+        if (mutations.isEmpty()) {
+            return;
+        }
+        if (!FlightRecording.isRecorderRunning()) {
+            this.appendRecords(mutations);
+            return;
+        }
+
+        JournalAppendEvent event = new JournalAppendEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            this.appendRecords(mutations);
+            isSuccessful = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = this.journalFile.getPath();
+                event.recordCount = mutations.size();
+                event.journalRecordCount = this.recordCount;
+                event.isSuccessful = isSuccessful;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Appends the records of the mutations, cutting the journal back to its length before the append if it fails,
+     * so that the caller can save the same mutations again without any of them being replayed twice.
+     */
+    private void appendRecords(List<Mutation> mutations) throws EclipseException {
+        long lengthBefore = this.journalFile.length();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(this.journalFile, true))) {
+            for (Mutation mutation : mutations) {
+                writer.write(mutation.toJournalRecord());
+                writer.write("\n");
+            }
+        } catch (IOException e) {
+            EclipseException appendFailure = new EclipseException(
+                    "Failed when trying to append to the journal file: " + this.journalFile.getAbsolutePath(),
+                    e);
+            try (FileChannel channel = FileChannel.open(this.journalFile.toPath(), StandardOpenOption.WRITE)) {
+                channel.truncate(lengthBefore);
+            } catch (IOException truncateFailure) {
+                appendFailure.addSuppressed(truncateFailure);
+            }
+            throw appendFailure;
+        }
+
+        this.recordCount += mutations.size();
+    }
+
+    /**
+     * Replaces the journal with an empty one that applies to the given snapshot.
+     * The new journal is written to a temporary file first and moved into place,
+     * so a crash never leaves a journal without its header.
+     *
+     * @param snapshotFingerprint The fingerprint of the snapshot the new journal applies to.
+     * @throws EclipseException If an I/O error occurs while writing.
+     */
+    public void reset(String snapshotFingerprint) throws EclipseException {
+        Path journalPath = this.journalFile.toPath();
+        Path tempPath = journalPath.resolveSibling(this.journalFile.getName() + ".tmp");
+
+        try {
+            Files.writeString(tempPath, HEADER_PREFIX + snapshotFingerprint + "\n");
+            Files.move(tempPath, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new EclipseException("Failed to reset the journal file: " + this.journalFile.getAbsolutePath(), e);
+        }
+
+        this.recordCount = 0;
+    }
+
+    /**
+     * Replaces the journal with the given lines, the same way as {@link #reset(String)}.
+     *
+     * @param lines The header and the records to keep.
+     * @throws EclipseException If an I/O error occurs while writing.
+     */
+    private void rewrite(List<String> lines) throws EclipseException {
+        Path journalPath = this.journalFile.toPath();
+        Path tempPath = journalPath.resolveSibling(this.journalFile.getName() + ".tmp");
+
+        try {
+            Files.writeString(tempPath, String.join("\n", lines) + "\n");
+            Files.move(tempPath, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new EclipseException("Failed to repair the journal file: " + this.journalFile.getAbsolutePath(), e);
+        }
+    }
+}
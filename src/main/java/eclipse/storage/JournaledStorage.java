@@ -0,0 +1,151 @@
+package eclipse.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.exceptions.StorageCompactionException;
+import eclipse.task.Task;
+
+/**
+ * A {@link Storage} that appends each change to a journal instead of rewriting the task file on every save.
+ * On startup, the snapshot in <code>tasks.txt</code> is loaded and the journal is replayed on top of it.
+ * Once the journal grows past a threshold, it is folded back into a fresh snapshot (compaction).
+ */
+public class JournaledStorage extends Storage {
+    /**
+     * The default number of journal records after which the journal is compacted.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private final Journal journal;
+    private final int compactionThreshold;
+
+    /**
+     * Constructs a JournaledStorage instance with a parser, a directory path and a compaction threshold.
+     *
+     * @param parser              The {@link StorageParser} used to parse stored task data.
+     * @param dirPathString       The relative path to the directory where tasks should be saved.
+     * @param compactionThreshold The number of journal records after which the journal is compacted.
+     */
+    public JournaledStorage(StorageParser parser, String dirPathString, int compactionThreshold) {
+        super(parser, dirPathString);
+        this.journal = new Journal(new File(dirPathString + "/tasks.journal"));
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Reads the snapshot from the local storage file and replays the journal on top of it.
+     * If the journal has grown past the compaction threshold, it is compacted right away.
+     *
+     * @return A list of {@link Task} objects reflecting every change recorded so far.
+     * @throws EclipseException If the snapshot or the journal is corrupted, or if I/O errors occur.
+     */
+    @Override
+    public List<Task> readTasks() throws EclipseException {
+        List<Task> tasks = super.readTasks();
+        String snapshotFingerprint = fingerprint(this.getTaskStorageFile());
+
+        List<Mutation> mutations = this.journal.readRecords(snapshotFingerprint, this.getStorageParser());
+        if (mutations.isEmpty()) {
+            // Either there is no journal yet, or it was already folded into this snapshot
+            this.journal.reset(snapshotFingerprint);
+            return tasks;
+        }
+
+        for (Mutation mutation : mutations) {
+            mutation.applyTo(tasks, this.getStorageParser());
+        }
+
+        if (this.journal.getRecordCount() > this.compactionThreshold) {
+            this.storeTasks(tasks);
+        }
+        return tasks;
+    }
+
+    /**
+     * Appends the given mutations to the journal,
+     * compacting the journal into a fresh snapshot once it grows past the threshold.
+     * Once appended, the mutations are saved even if compacting fails,
+     * and the compaction is tried again with the next save.
+     *
+     * @param tasks     The current list of {@link Task} objects, only read when compacting.
+     * @param mutations The changes made since the last save, in order.
+     * @throws StorageCompactionException If the mutations were saved, but compacting the journal failed.
+     * @throws EclipseException           If an I/O error occurs while appending, in which case nothing was saved.
+     */
+    @Override
+    public void save(List<Task> tasks, List<Mutation> mutations) throws EclipseException {
+        this.journal.append(mutations);
+
+        if (this.journal.getRecordCount() > this.compactionThreshold) {
+            try {
+                this.storeTasks(tasks);
+            } catch (EclipseException e) {
+                throw new StorageCompactionException(
+                        "Saved the changes, but failed to compact the journal: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes a fresh snapshot of all tasks and starts a new, empty journal for it.
+     * The snapshot is written to a temporary file and moved into place before the journal is reset,
+     * so a crash at any point leaves either the old snapshot with its journal,
+     * or the new snapshot whose fingerprint no longer matches the stale journal.
+     *
+     * @param tasks The list of {@link Task} objects to be saved.
+     * @throws EclipseException If an I/O error occurs during the file writing process.
+     */
+    @Override
+    public void storeTasks(List<Task> tasks) throws EclipseException {
+        File taskStorageFile = this.getTaskStorageFile();
+        File tempFile = new File(taskStorageFile.getPath() + ".tmp");
+
+        this.writeTasks(tempFile, tasks);
+        try {
+            Files.move(
+                    tempFile.toPath(),
+                    taskStorageFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new EclipseException("Failed to replace the task file: " + taskStorageFile.getAbsolutePath(), e);
+        }
+
+        this.journal.reset(fingerprint(taskStorageFile));
+    }
+
+    /**
+     * Computes a fingerprint of a snapshot file from its length and CRC32 checksum.
+     * The journal records which snapshot it applies to with this fingerprint.
+     *
+     * @param file The snapshot file.
+     * @return The fingerprint, e.g. <code>92 1a2b3c4d</code>.
+     * @throws EclipseException If the file cannot be read.
+     */
+    private static String fingerprint(File file) throws EclipseException {
+        Path path = file.toPath();
+        CRC32 checksum = new CRC32();
+        long length = 0;
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            byte[] buffer = new byte[64 * 1024];
+            int bytesRead;
+            while ((bytesRead = inputStream.read(buffer)) != -1) {
+                checksum.update(buffer, 0, bytesRead);
+                length += bytesRead;
+            }
+        } catch (IOException e) {
+            throw new EclipseException("Failed to read the task file: " + file.getAbsolutePath(), e);
+        }
+
+        return length + " " + Long.toHexString(checksum.getValue());
+    }
+}
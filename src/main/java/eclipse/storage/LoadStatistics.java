@@ -0,0 +1,90 @@
+package eclipse.storage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how a task file was loaded: how much was read, how long it took and how many threads were used.
+ */
+public class LoadStatistics {
+    private final long byteCount;
+    private final long lineCount;
+    private final int taskCount;
+    private final int chunkCount;
+    private final int parallelism;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a LoadStatistics instance.
+     *
+     * @param byteCount    The size of the loaded file in bytes.
+     * @param lineCount    The number of lines (or binary records) read, including blank lines.
+     * @param taskCount    The number of tasks parsed.
+     * @param chunkCount   The number of chunks the file was split into, 1 for a sequential load.
+     * @param parallelism  The number of threads available for parsing, 1 for a sequential load.
+     * @param elapsedNanos The time taken to load the file in nanoseconds.
+     */
+    public LoadStatistics(
+            long byteCount,
+            long lineCount,
+            int taskCount,
+            int chunkCount,
+            int parallelism,
+            long elapsedNanos
+    ) {
+        this.byteCount = byteCount;
+        this.lineCount = lineCount;
+        this.taskCount = taskCount;
+        this.chunkCount = chunkCount;
+        this.parallelism = parallelism;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    public long getLineCount() {
+        return this.lineCount;
+    }
+
+    public int getTaskCount() {
+        return this.taskCount;
+    }
+
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Returns the throughput of the load.
+     *
+     * @return The number of lines read per second.
+     */
+    public double getLinesPerSecond() {
+        if (this.elapsedNanos == 0) {
+            return 0;
+        }
+        return this.lineCount * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+    }
+
+    // Loaded 3 tasks from 102 bytes (3 lines, 1 chunk) in 1.20 ms: 2,500 lines/s on 1 thread
+    @Override
+    public String toString() {
+        return String.format(
+                "Loaded %d tasks from %d bytes (%d lines, %d chunk%s) in %.2f ms: %,.0f lines/s on %d thread%s",
+                this.taskCount,
+                this.byteCount,
+                this.lineCount,
+                this.chunkCount,
+                this.chunkCount == 1 ? "" : "s",
+                this.elapsedNanos / 1e6,
+                this.getLinesPerSecond(),
+                this.parallelism,
+                this.parallelism == 1 ? "" : "s"
+        );
+    }
+}
@@ -0,0 +1,199 @@
+package eclipse.storage;
+
+import java.util.List;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.task.Task;
+
+/**
+ * Represents a single change made to the task list, such as adding, deleting, marking or replacing a task.
+ * Mutations are recorded by the chatbot as commands are executed,
+ * so that a {@link Storage} can persist only what changed instead of the whole list.
+ */
+public class Mutation {
+    /**
+     * The kinds of changes that can be made to the task list.
+     */
+    public enum Type {
+        ADD,
+        DELETE,
+        MARK,
+        UNMARK,
+        REPLACE
+    }
+
+    private final Type type;
+    private final int idx;
+    private final String taskStorageString;
+
+    private Mutation(Type type, int idx, String taskStorageString) {
+        this.type = type;
+        this.idx = idx;
+        this.taskStorageString = taskStorageString;
+    }
+
+    /**
+     * Creates a mutation recording that a task was appended to the list.
+     * The task is captured in its storage form, so later changes to the task do not affect the record.
+     *
+     * @param task The task that was added.
+     * @return The mutation describing the addition.
+     */
+    public static Mutation add(Task task) {
+        return new Mutation(Type.ADD, -1, task.toStorageString());
+    }
+
+    /**
+     * Creates a mutation recording that the task at the given index was removed.
+     *
+     * @param idx The 0-based index of the removed task.
+     * @return The mutation describing the deletion.
+     */
+    public static Mutation delete(int idx) {
+        return new Mutation(Type.DELETE, idx, null);
+    }
+
+    /**
+     * Creates a mutation recording that the task at the given index was marked as done.
+     *
+     * @param idx The 0-based index of the marked task.
+     * @return The mutation describing the change.
+     */
+    public static Mutation mark(int idx) {
+        return new Mutation(Type.MARK, idx, null);
+    }
+
+    /**
+     * Creates a mutation recording that the task at the given index was marked as not done.
+     *
+     * @param idx The 0-based index of the unmarked task.
+     * @return The mutation describing the change.
+     */
+    public static Mutation unmark(int idx) {
+        return new Mutation(Type.UNMARK, idx, null);
+    }
+
+    /**
+     * Creates a mutation recording that the task at the given index was replaced,
+     * e.g. by a copy of a recurring task skipping one more occurrence.
+     * The new task is captured in its storage form, as for {@link #add(Task)}.
+     *
+     * @param idx  The 0-based index of the replaced task.
+     * @param task The task now at that index.
+     * @return The mutation describing the change.
+     */
+    public static Mutation replace(int idx, Task task) {
+        return new Mutation(Type.REPLACE, idx, task.toStorageString());
+    }
+
+    /**
+     * Returns the kind of change this mutation represents.
+     *
+     * @return The mutation type.
+     */
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * Converts this mutation into a single line of the journal file.
+     * Example: <code>ADD T | 0 | borrow book</code>, <code>DELETE 3</code>
+     * or <code>REPLACE 2 R | 0 | pay rent | 2025-01-06 | every week skip 2025-01-13</code>
+     *
+     * @return The journal record, without a trailing line separator.
+     */
+    public String toJournalRecord() {
+        if (this.type == Type.ADD) {
+            return this.type + " " + this.taskStorageString;
+        }
+        if (this.type == Type.REPLACE) {
+            return this.type + " " + this.idx + " " + this.taskStorageString;
+        }
+        return this.type + " " + this.idx;
+    }
+
+    /**
+     * Reconstructs a mutation from a single line of the journal file.
+     *
+     * @param record        The journal record, as produced by {@link #toJournalRecord()}.
+     * @param storageParser The parser used to validate the task of an ADD or REPLACE record.
+     * @return The reconstructed mutation.
+     * @throws EclipseException If the record is malformed.
+     */
+    public static Mutation fromJournalRecord(String record, StorageParser storageParser) throws EclipseException {
+        int separatorIdx = record.indexOf(' ');
+        if (separatorIdx < 0) {
+            throw new EclipseException("Malformed journal record: " + record);
+        }
+
+        String typeString = record.substring(0, separatorIdx);
+        String payload = record.substring(separatorIdx + 1);
+
+        Type type;
+        try {
+            type = Type.valueOf(typeString);
+        } catch (IllegalArgumentException e) {
+            throw new EclipseException("Unknown journal record type: " + record, e);
+        }
+
+        if (type == Type.ADD) {
+            // Parse once to reject corrupted records before they reach the task list
+            Task task = storageParser.parseStoredLine(payload);
+            return new Mutation(type, -1, task.toStorageString());
+        }
+
+        if (type == Type.REPLACE) {
+            int taskIdx = payload.indexOf(' ');
+            if (taskIdx < 0) {
+                throw new EclipseException("Malformed journal record: " + record);
+            }
+            Task task = storageParser.parseStoredLine(payload.substring(taskIdx + 1));
+            try {
+                return new Mutation(type, Integer.parseInt(payload.substring(0, taskIdx)), task.toStorageString());
+            } catch (NumberFormatException e) {
+                throw new EclipseException("Invalid index in journal record: " + record, e);
+            }
+        }
+
+        try {
+            return new Mutation(type, Integer.parseInt(payload), null);
+        } catch (NumberFormatException e) {
+            throw new EclipseException("Invalid index in journal record: " + record, e);
+        }
+    }
+
+    /**
+     * Applies this mutation to a list of tasks, as if the original command was executed again.
+     *
+     * @param tasks         The list of tasks to be changed in place.
+     * @param storageParser The parser used to rebuild the task of an ADD or REPLACE record.
+     * @throws EclipseException If the recorded index does not exist in the list.
+     */
+    public void applyTo(List<Task> tasks, StorageParser storageParser) throws EclipseException {
+        if (this.type == Type.ADD) {
+            tasks.add(storageParser.parseStoredLine(this.taskStorageString));
+            return;
+        }
+
+        if (this.idx < 0 || this.idx >= tasks.size()) {
+            throw new EclipseException(
+                    "Journal record refers to index " + this.idx + " but the list has " + tasks.size() + " tasks"
+            );
+        }
+
+        switch (this.type) {
+        case DELETE:
+            tasks.remove(this.idx);
+            break;
+        case MARK:
+            tasks.get(this.idx).markAsDone();
+            break;
+        case REPLACE:
+            tasks.set(this.idx, storageParser.parseStoredLine(this.taskStorageString));
+            break;
+        default:
+            tasks.get(this.idx).markAsNotDone();
+            break;
+        }
+    }
+}
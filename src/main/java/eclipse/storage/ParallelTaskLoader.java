@@ -0,0 +1,262 @@
+package eclipse.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.task.Task;
+
+/**
+ * Loads a task file by memory-mapping it, splitting it into chunks at line boundaries
+ * and parsing the chunks in parallel on a {@link ForkJoinPool}.
+ * The parsed tasks are stitched back together in their original order.
+ */
+public class ParallelTaskLoader {
+    /**
+     * The default number of bytes per chunk, a chunk is extended to the end of the line it ends in.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private final StorageParser storageParser;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    private LoadStatistics lastLoadStatistics;
+
+    /**
+     * Constructs a ParallelTaskLoader parsing on the common pool with the default chunk size.
+     *
+     * @param storageParser The {@link StorageParser} used to parse each line.
+     */
+    public ParallelTaskLoader(StorageParser storageParser) {
+        this(storageParser, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a ParallelTaskLoader.
+     *
+     * @param storageParser The {@link StorageParser} used to parse each line.
+     * @param pool          The pool the chunks are parsed on.
+     * @param chunkSize     The number of bytes per chunk.
+     */
+    public ParallelTaskLoader(StorageParser storageParser, ForkJoinPool pool, int chunkSize) {
+        this.storageParser = storageParser;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the statistics of the last completed load.
+     *
+     * @return The load statistics, or null if nothing has been loaded yet.
+     */
+    public LoadStatistics getLastLoadStatistics() {
+        return this.lastLoadStatistics;
+    }
+
+    /**
+     * Loads all tasks from the given file.
+     * If several lines are corrupted, the error of the first one in the file is reported.
+     *
+     * @param file The task file, in the format produced by {@link Task#toStorageString()}.
+     * @return The parsed tasks, in the order they appear in the file.
+     * @throws EclipseException If the file cannot be read or is too large to map, or a line is corrupted.
+     */
+    public List<Task> load(File file) throws EclipseException {
+        long startNanos = System.nanoTime();
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new EclipseException("Task file is too large to be mapped: " + file.getAbsolutePath());
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new EclipseException("Failed to map the task file: " + file.getAbsolutePath(), e);
+        }
+
+        int[] chunkStarts = findChunkStarts(buffer, this.chunkSize);
+        Chunk[] chunks = new Chunk[chunkStarts.length - 1];
+        for (int chunkIdx = 0; chunkIdx < chunks.length; chunkIdx++) {
+            chunks[chunkIdx] = new Chunk(buffer, chunkStarts[chunkIdx], chunkStarts[chunkIdx + 1]);
+        }
+
+        this.pool.invoke(new ParseChunksAction(chunks, 0, chunks.length, this.storageParser));
+
+        int taskCount = 0;
+        long lineCount = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk.error != null) {
+                throw chunk.error;
+            }
+            taskCount += chunk.tasks.size();
+            lineCount += chunk.lineCount;
+        }
+
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (Chunk chunk : chunks) {
+            tasks.addAll(chunk.tasks);
+        }
+
+        this.lastLoadStatistics = new LoadStatistics(
+                buffer.capacity(),
+                lineCount,
+                taskCount,
+                chunks.length,
+                this.pool.getParallelism(),
+                System.nanoTime() - startNanos
+        );
+        return tasks;
+    }
+
+    /**
+     * Splits the buffer into chunks of roughly the given size, each ending right after a newline.
+     *
+     * @param buffer    The mapped file.
+     * @param chunkSize The target number of bytes per chunk.
+     * @return The start offsets of the chunks, followed by the end offset of the buffer.
+     */
+    private static int[] findChunkStarts(MappedByteBuffer buffer, int chunkSize) {
+        int limit = buffer.capacity();
+        List<Integer> chunkStarts = new ArrayList<>();
+        chunkStarts.add(0);
+
+        int nextStart = 0;
+        while (nextStart < limit) {
+            int boundary = (int) Math.min((long) nextStart + chunkSize, limit);
+            while (boundary < limit && buffer.get(boundary - 1) != '\n') {
+                boundary++;
+            }
+            chunkStarts.add(boundary);
+            nextStart = boundary;
+        }
+
+        if (chunkStarts.size() == 1) {
+            // An empty file still has one empty chunk
+            chunkStarts.add(0);
+        }
+        return chunkStarts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A range of whole lines of the mapped file, together with the result of parsing it.
+     */
+    private static class Chunk {
+        private final MappedByteBuffer buffer;
+        private final int start;
+        private final int end;
+
+        private List<Task> tasks = List.of();
+        private long lineCount = 0;
+        private EclipseException error;
+
+        private Chunk(MappedByteBuffer buffer, int start, int end) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Decodes and parses the lines of this chunk, skipping blank lines like {@link Storage#readTasks()}.
+         *
+         * @param storageParser The parser used for each line.
+         */
+        private void parse(StorageParser storageParser) {
+            // Decode with the charset the task file was written with by FileWriter
+            String content = Charset.defaultCharset()
+                    .decode(this.buffer.slice(this.start, this.end - this.start))
+                    .toString();
+
+            List<Task> parsedTasks = new ArrayList<>();
+            int lineStart = 0;
+            try {
+                for (int charIdx = 0; charIdx <= content.length(); charIdx++) {
+                    boolean isEndOfContent = charIdx == content.length();
+                    if (!isEndOfContent && !isLineSeparator(content.charAt(charIdx))) {
+                        continue;
+                    }
+                    if (isEndOfContent && lineStart == charIdx) {
+                        break;
+                    }
+
+                    this.lineCount++;
+                    String line = content.substring(lineStart, charIdx);
+                    if (isCrLfAt(content, charIdx)) {
+                        charIdx++;
+                    }
+                    lineStart = charIdx + 1;
+
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    parsedTasks.add(storageParser.parseStoredLine(line));
+                }
+            } catch (EclipseException e) {
+                this.error = e;
+                return;
+            }
+            this.tasks = parsedTasks;
+        }
+
+        /**
+         * Returns whether the character ends a line, using the same separators as {@link java.util.Scanner}.
+         */
+        private static boolean isLineSeparator(char c) {
+            return c == '\n' || c == '\r' || c == '\u2028' || c == '\u2029' || c == '\u0085';
+        }
+
+        /**
+         * Returns whether a <code>\r\n</code> starts at the index,
+         * which ends a single line like in {@link java.util.Scanner}.
+         * Chunks end right after a <code>\n</code>, so the pair is never split between two chunks.
+         */
+        private static boolean isCrLfAt(String content, int charIdx) {
+            return charIdx + 1 < content.length()
+                    && content.charAt(charIdx) == '\r'
+                    && content.charAt(charIdx + 1) == '\n';
+        }
+    }
+
+    /**
+     * Parses a range of chunks, splitting the range in half until a single chunk remains.
+     */
+    private static class ParseChunksAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Chunk[] chunks;
+        private final int from;
+        private final int to;
+        private final StorageParser storageParser;
+
+        private ParseChunksAction(Chunk[] chunks, int from, int to, StorageParser storageParser) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.storageParser = storageParser;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= 1) {
+                if (this.from < this.to) {
+                    this.chunks[this.from].parse(this.storageParser);
+                }
+                return;
+            }
+
+            int mid = (this.from + this.to) >>> 1;
+            invokeAll(
+                    new ParseChunksAction(this.chunks, this.from, mid, this.storageParser),
+                    new ParseChunksAction(this.chunks, mid, this.to, this.storageParser)
+            );
+        }
+    }
+}
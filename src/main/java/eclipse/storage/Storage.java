@@ -11,17 +11,28 @@ import java.util.List;
 import java.util.Scanner;
 
 import eclipse.exceptions.EclipseException;
+import eclipse.jfr.FlightRecording;
+import eclipse.jfr.StorageReadEvent;
+import eclipse.jfr.StorageWriteEvent;
 import eclipse.task.Task;
 
 /**
  * Handles the loading and saving of task data to a local file.
  * This class manages directory and file creation, as well as storing tasks in the file,
  * reading lines from the file, parsing them into {@link Task} objects using a {@link StorageParser}.
+ * The file can be in either {@link StorageFormat}, which is detected when reading.
  */
 public class Storage {
+    /**
+     * Task files at least this large are loaded in parallel by a {@link ParallelTaskLoader}.
+     */
+    public static final long PARALLEL_LOAD_THRESHOLD_BYTES = 4L * ParallelTaskLoader.DEFAULT_CHUNK_SIZE;
+
     private final StorageParser storageParser;
     private final String dirPathString;
-    private final File taskStorageFile;
+    private File taskStorageFile;
+    private StorageFormat format = StorageFormat.TEXT;
+    private LoadStatistics lastLoadStatistics;
 
     /**
      * Constructs a Storage instance with a parser and a directory path.
@@ -32,7 +43,56 @@ public class Storage {
     public Storage(StorageParser parser, String dirPathString) {
         this.storageParser = parser;
         this.dirPathString = dirPathString;
-        this.taskStorageFile = new File(dirPathString + "/tasks.txt");
+        this.taskStorageFile = new File(dirPathString + "/" + StorageFormat.TEXT.getFileName());
+    }
+
+    /**
+     * Returns the format the tasks are currently stored in.
+     *
+     * @return The storage format.
+     */
+    public StorageFormat getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Returns the file holding the stored tasks.
+     *
+     * @return The task storage file.
+     */
+    protected File getTaskStorageFile() {
+        return this.taskStorageFile;
+    }
+
+    /**
+     * Returns the statistics of the last call to {@link #readTasks()}.
+     *
+     * @return The load statistics, or null if no tasks have been read yet.
+     */
+    public LoadStatistics getLastLoadStatistics() {
+        return this.lastLoadStatistics;
+    }
+
+    /**
+     * Returns the parser used to convert stored lines into {@link Task} objects.
+     *
+     * @return The storage parser.
+     */
+    protected StorageParser getStorageParser() {
+        return this.storageParser;
+    }
+
+    /**
+     * Persists the changes made to the task list since the last save.
+     * This implementation ignores the individual changes and rewrites the whole file,
+     * subclasses may persist only the given mutations instead.
+     *
+     * @param tasks     The current list of {@link Task} objects.
+     * @param mutations The changes made since the last save, in order.
+     * @throws EclipseException If an I/O error occurs while saving.
+     */
+    public void save(List<Task> tasks, List<Mutation> mutations) throws EclipseException {
+        this.storeTasks(tasks);
     }
 
     /**
@@ -43,29 +103,96 @@ public class Storage {
      * @throws EclipseException If an I/O error occurs during the file writing process.
      */
     public void storeTasks(List<Task> tasks) throws EclipseException {
+        this.writeTasks(this.taskStorageFile, tasks);
+    }
+
+    /**
+     * Rewrites the stored tasks in another format and removes the file in the previous format.
+     *
+     * @param targetFormat The format to convert to.
+     * @param tasks        The current list of {@link Task} objects.
+     * @return The file now holding the tasks.
+     * @throws EclipseException If an I/O error occurs while writing or removing the files.
+     */
+    public File convertTo(StorageFormat targetFormat, List<Task> tasks) throws EclipseException {
+        File previousFile = this.taskStorageFile;
+
+        this.format = targetFormat;
+        this.taskStorageFile = new File(this.dirPathString + "/" + targetFormat.getFileName());
+        this.storeTasks(tasks);
+
+        if (!previousFile.equals(this.taskStorageFile)) {
+            try {
+                Files.deleteIfExists(previousFile.toPath());
+            } catch (IOException e) {
+                throw new EclipseException("Failed to remove the previous task file: " + previousFile, e);
+            }
+        }
+        return this.taskStorageFile;
+    }
+
+    /**
+     * Writes the given list of tasks to a file in the current format.
+     * Overwrites any existing content in the file.
+     *
+     * @param file  The file to write to.
+     * @param tasks The list of {@link Task} objects to be saved.
+     * @throws EclipseException If an I/O error occurs during the file writing process.
+     */
+    protected void writeTasks(File file, List<Task> tasks) throws EclipseException {
+        if (!FlightRecording.isRecorderRunning()) {
+            this.writeTasksInFormat(file, tasks);
+            return;
+        }
+
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+        boolean isSuccessful = false;
         try {
-            taskStorageFile.createNewFile();
+            this.writeTasksInFormat(file, tasks);
+            isSuccessful = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = file.getPath();
+                event.format = this.format.name();
+                event.byteCount = file.length();
+                event.lineCount = tasks.size();
+                event.isSuccessful = isSuccessful;
+                event.commit();
+            }
+        }
+    }
+
+    private void writeTasksInFormat(File file, List<Task> tasks) throws EclipseException {
+        if (this.format == StorageFormat.BINARY) {
+            BinaryTaskCodec.write(file, tasks);
+            return;
+        }
+
+        try {
+            file.createNewFile();
         } catch (IOException e) {
             throw new EclipseException(
-                    "Failed to create a new file with path" + taskStorageFile.getAbsolutePath(),
+                    "Failed to create a new file with path" + file.getAbsolutePath(),
                     e);
         }
 
-        try (FileWriter fileWriter = new FileWriter(this.taskStorageFile)) {
+        try (FileWriter fileWriter = new FileWriter(file)) {
             fileWriter.write("");
         } catch (IOException e) {
             throw new EclipseException(
-                    "Failed to clear the content in the file: " + taskStorageFile.getAbsolutePath(),
+                    "Failed to clear the content in the file: " + file.getAbsolutePath(),
                     e);
         }
 
-        try (FileWriter fileWriter = new FileWriter(this.taskStorageFile, true)) {
+        try (FileWriter fileWriter = new FileWriter(file, true)) {
             for (Task task : tasks) {
                 fileWriter.write(task.toStorageString() + "\n");
             }
         } catch (IOException e) {
             throw new EclipseException(
-                    "Failed when trying to write to the file: " + taskStorageFile.getAbsolutePath(),
+                    "Failed when trying to write to the file: " + file.getAbsolutePath(),
                     e);
         }
     }
@@ -73,11 +200,42 @@ public class Storage {
     /**
      * Reads tasks from the local storage file and rebuilds the task list.
      * If the directory or file does not exist, they will be created.
+     * A binary <code>tasks.bin</code> takes precedence over <code>tasks.txt</code>,
+     * and the format of the file is detected from its header rather than its name.
+     * Large text files are split into chunks which are parsed in parallel.
      *
      * @return A list of {@link Task} objects loaded from the file.
      * @throws EclipseException If the file exists but is corrupted, or if I/O errors occur.
      */
     public List<Task> readTasks() throws EclipseException {
+        if (!FlightRecording.isRecorderRunning()) {
+            return this.readTasksFromFile();
+        }
+
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+        List<Task> loadedTasks = null;
+        try {
+            loadedTasks = this.readTasksFromFile();
+            return loadedTasks;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = this.taskStorageFile.getPath();
+                event.format = this.format.name();
+                // The statistics are only updated once the whole file has been loaded
+                if (loadedTasks != null) {
+                    event.byteCount = this.lastLoadStatistics.getByteCount();
+                    event.lineCount = this.lastLoadStatistics.getLineCount();
+                    event.taskCount = loadedTasks.size();
+                }
+                event.isSuccessful = loadedTasks != null;
+                event.commit();
+            }
+        }
+    }
+
+    private List<Task> readTasksFromFile() throws EclipseException {
         List<Task> newTasks = new ArrayList<>();
 
         Scanner s;
@@ -90,6 +248,11 @@ public class Storage {
             throw new EclipseException("Failed to create directory with path: " + dirPath, e);
         }
 
+        File binaryFile = new File(this.dirPathString + "/" + StorageFormat.BINARY.getFileName());
+        if (binaryFile.exists()) {
+            this.taskStorageFile = binaryFile;
+        }
+
         try {
             // create if the file does not exist
             // return false if it already exists
@@ -98,6 +261,32 @@ public class Storage {
             throw new EclipseException("Failed to create a file to hold the tasks: " + taskStorageFile, e);
         }
 
+        if (BinaryTaskCodec.isBinary(this.taskStorageFile)) {
+            this.format = StorageFormat.BINARY;
+            long startNanos = System.nanoTime();
+            List<Task> loadedTasks = BinaryTaskCodec.read(this.taskStorageFile);
+            this.lastLoadStatistics = new LoadStatistics(
+                    this.taskStorageFile.length(),
+                    loadedTasks.size(),
+                    loadedTasks.size(),
+                    1,
+                    1,
+                    System.nanoTime() - startNanos
+            );
+            return loadedTasks;
+        }
+        this.format = StorageFormat.TEXT;
+
+        if (this.taskStorageFile.length() >= PARALLEL_LOAD_THRESHOLD_BYTES) {
+            ParallelTaskLoader loader = new ParallelTaskLoader(this.storageParser);
+            List<Task> loadedTasks = loader.load(this.taskStorageFile);
+            this.lastLoadStatistics = loader.getLastLoadStatistics();
+            return loadedTasks;
+        }
+
+        long startNanos = System.nanoTime();
+        long lineCount = 0;
+
         try {
             s = new Scanner(this.taskStorageFile);
         } catch (FileNotFoundException e) {
@@ -106,6 +295,7 @@ public class Storage {
 
         while (s.hasNext()) {
             String currLine = s.nextLine();
+            lineCount++;
 
             if (currLine.trim().isEmpty()) {
                 continue;
@@ -114,6 +304,16 @@ public class Storage {
             Task currTask = this.storageParser.parseStoredLine(currLine);
             newTasks.add(currTask);
         }
+        s.close();
+
+        this.lastLoadStatistics = new LoadStatistics(
+                this.taskStorageFile.length(),
+                lineCount,
+                newTasks.size(),
+                1,
+                1,
+                System.nanoTime() - startNanos
+        );
         return newTasks;
     }
 }
@@ -0,0 +1,31 @@
+package eclipse.storage;
+
+/**
+ * The formats a snapshot of the task list can be stored in.
+ */
+public enum StorageFormat {
+    /**
+     * One line per task, as produced by {@link eclipse.task.Task#toStorageString()}, stored in <code>tasks.txt</code>
+     */
+    TEXT("tasks.txt"),
+
+    /**
+     * The compact format read and written by {@link BinaryTaskCodec}, stored in <code>tasks.bin</code>
+     */
+    BINARY("tasks.bin");
+
+    private final String fileName;
+
+    StorageFormat(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns the name of the file a snapshot in this format is stored in.
+     *
+     * @return The file name, relative to the data directory.
+     */
+    public String getFileName() {
+        return this.fileName;
+    }
+}
@@ -1,11 +1,16 @@
 package eclipse.storage;
 
 import eclipse.exceptions.EclipseException;
+import eclipse.jfr.FlightRecording;
+import eclipse.jfr.ParseFailureEvent;
 import eclipse.task.Deadline;
 import eclipse.task.Event;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
 import eclipse.task.Task;
 import eclipse.task.Todo;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.regex.Matcher;
@@ -28,7 +33,7 @@ public class StorageParser {
      * Example: D | 0 | return book | 2024-12-01
      */
     private static final Pattern storageTaskPattern = Pattern.compile(
-            "(?<taskType>[TDE])"  // Starting with T/D/E as task type
+            "(?<taskType>[TDER])"  // Starting with T/D/E/R as task type
                     + BAR_BETWEEN_SPACES
                     + "(?<isDone>[01])"  // 0 or 1
                     + BAR_BETWEEN_SPACES
@@ -57,14 +62,221 @@ public class StorageParser {
                     + "(?<to>[^|]*)"
     );
 
+    /**
+     * Pattern for the specific recurring task parameter structure: TaskDescription | start[=>end] | rule
+     * Example: team meeting | 2025-01-06=>2025-01-06 | every week until 2025-03-31 skip 2025-01-13
+     */
+    private static final Pattern storageRecurringPattern = Pattern.compile(
+            "(?<taskDescription>[^|]*)"
+                    + BAR_BETWEEN_SPACES
+                    + "(?<start>[^|]*?)"
+                    + "(=>(?<end>[^|]*))?"  // Only events have an end
+                    + BAR_BETWEEN_SPACES
+                    + "every (?<frequency>\\S+)"
+                    + "( until (?<until>\\S+))?"
+                    + "( skip (?<skipped>[^|]+))?"
+    );
+
+    /**
+     * The length of the prefix shared by all stored tasks, e.g. <code>T | 0 | </code>
+     */
+    private static final int PREFIX_LENGTH = 8;
+
+    /**
+     * The length of a stored ISO date, e.g. <code>2024-12-01</code>
+     */
+    private static final int DATE_LENGTH = 10;
+
     /**
      * Converts a single line from the storage file into a {@link Task} object.
+     * Well-formed lines are decoded by a single pass over the characters,
+     * anything else is left to the regex-based parser, which produces the error messages.
      *
      * @param storedLine The raw string line read from the storage file.
-     * @return The reconstructed {@link Task} (Todo, Deadline, or Event).
+     * @return The reconstructed {@link Task} (Todo, Deadline, Event or RecurringTask).
      * @throws EclipseException If the line format is invalid or the line is empty.
      */
     public Task parseStoredLine(String storedLine) throws EclipseException {
+        Task decodedTask = decodeStoredLine(storedLine);
+        if (decodedTask != null) {
+            return decodedTask;
+        }
+
+        try {
+            return parseStoredLineWithRegex(storedLine);
+        } catch (EclipseException e) {
+            if (FlightRecording.isRecorderRunning()) {
+                ParseFailureEvent event = new ParseFailureEvent();
+                if (event.shouldCommit()) {
+                    event.line = storedLine;
+                    event.message = e.getMessage();
+                    event.commit();
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes a well-formed stored line by scanning its characters directly, without regex.
+     * Only accepts the exact format written by {@link Task#toStorageString()},
+     * i.e. single spaces around each bar and <code>yyyy-mm-dd</code> dates.
+     * Recurring tasks are rare enough to always be left to the regex-based parser.
+     *
+     * @param storedLine The raw string line read from the storage file.
+     * @return The decoded {@link Task}, or null if the line has to be handled by the regex-based parser.
+     */
+    static Task decodeStoredLine(String storedLine) {
+        // Bounds of the line without surrounding whitespace, as String.trim() would compute them
+        int start = 0;
+        int end = storedLine.length();
+        while (start < end && storedLine.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && storedLine.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (end - start < PREFIX_LENGTH
+                || !isBarBetweenSpaces(storedLine, start + 1)
+                || !isBarBetweenSpaces(storedLine, start + 5)) {
+            return null;
+        }
+
+        char taskType = storedLine.charAt(start);
+        char isDoneChar = storedLine.charAt(start + 4);
+        if (isDoneChar != '0' && isDoneChar != '1') {
+            return null;
+        }
+        boolean isDone = isDoneChar == '1';
+
+        // Locate the only bar allowed in deadline and event content, rejecting line terminators on the way
+        int contentStart = start + PREFIX_LENGTH;
+        int barIdx = -1;
+        for (int charIdx = contentStart; charIdx < end; charIdx++) {
+            char c = storedLine.charAt(charIdx);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return null;
+            }
+            if (c == '|') {
+                if (barIdx >= 0 && taskType != 'T') {
+                    return null;
+                }
+                barIdx = charIdx;
+            }
+        }
+
+        if (taskType != 'T' && barIdx - 1 < contentStart) {
+            // The space before the bar must belong to the content, not to the prefix
+            return null;
+        }
+
+        switch (taskType) {
+        case 'T':
+            return new Todo(storedLine.substring(contentStart, end), isDone);
+        case 'D': {
+            if (!isBarBetweenSpaces(storedLine, barIdx - 1) || end - (barIdx + 2) != DATE_LENGTH) {
+                return null;
+            }
+            LocalDate by = decodeIsoDate(storedLine, barIdx + 2);
+            if (by == null) {
+                return null;
+            }
+            return new Deadline(storedLine.substring(contentStart, barIdx - 1), isDone, by);
+        }
+        case 'E': {
+            int fromIdx = barIdx + 2;
+            int toIdx = end - DATE_LENGTH;
+            int arrowIdx = fromIdx + DATE_LENGTH;
+            if (!isBarBetweenSpaces(storedLine, barIdx - 1)
+                    || toIdx != arrowIdx + 2
+                    || storedLine.charAt(arrowIdx) != '='
+                    || storedLine.charAt(arrowIdx + 1) != '>') {
+                return null;
+            }
+            LocalDate from = decodeIsoDate(storedLine, fromIdx);
+            LocalDate to = decodeIsoDate(storedLine, toIdx);
+            if (from == null || to == null) {
+                return null;
+            }
+            return new Event(storedLine.substring(contentStart, barIdx - 1), isDone, from, to);
+        }
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Checks for the <code> | </code> separator at the given position.
+     *
+     * @param line The line being decoded.
+     * @param idx  The position of the space before the bar.
+     * @return True if the separator is present.
+     */
+    private static boolean isBarBetweenSpaces(String line, int idx) {
+        return idx >= 0
+                && idx + 2 < line.length()
+                && line.charAt(idx) == ' '
+                && line.charAt(idx + 1) == '|'
+                && line.charAt(idx + 2) == ' ';
+    }
+
+    /**
+     * Decodes a <code>yyyy-mm-dd</code> date by arithmetic on its digits.
+     *
+     * @param line The line being decoded.
+     * @param idx  The position of the first digit of the year.
+     * @return The decoded date, or null if the characters are not a valid date.
+     */
+    private static LocalDate decodeIsoDate(String line, int idx) {
+        if (line.charAt(idx + 4) != '-' || line.charAt(idx + 7) != '-') {
+            return null;
+        }
+
+        int year = decodeDigits(line, idx, 4);
+        int month = decodeDigits(line, idx + 5, 2);
+        int day = decodeDigits(line, idx + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            // e.g. 2026-02-30, left for the regex-based parser to report
+            return null;
+        }
+    }
+
+    /**
+     * Decodes a run of ASCII digits into a number.
+     *
+     * @param line  The line being decoded.
+     * @param idx   The position of the first digit.
+     * @param count The number of digits.
+     * @return The decoded number, or -1 if a character is not a digit.
+     */
+    private static int decodeDigits(String line, int idx, int count) {
+        int val = 0;
+        for (int charIdx = idx; charIdx < idx + count; charIdx++) {
+            int digit = line.charAt(charIdx) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            val = val * 10 + digit;
+        }
+        return val;
+    }
+
+    /**
+     * Converts a single line from the storage file into a {@link Task} object using regular expressions.
+     * This is the fallback of {@link #parseStoredLine(String)} and reports why a line is invalid.
+     *
+     * @param storedLine The raw string line read from the storage file.
+     * @return The reconstructed {@link Task} (Todo, Deadline, Event or RecurringTask).
+     * @throws EclipseException If the line format is invalid or the line is empty.
+     */
+    Task parseStoredLineWithRegex(String storedLine) throws EclipseException {
         String trimmedLine = storedLine.trim();
 
         if (trimmedLine.isEmpty()) {
@@ -84,6 +296,7 @@ public class StorageParser {
         return switch (taskType) {
             case "T" -> new Todo(taskContent, isDone);
             case "D" -> parseDeadlineContent(taskContent, isDone);
+            case "R" -> parseRecurringContent(taskContent, isDone);
             default -> parseEventContent(taskContent, isDone);
         };
     }
@@ -156,4 +369,57 @@ public class StorageParser {
             );
         }
     }
+
+    /**
+     * Extracts the dates and the recurrence of a recurring task from the task content string.
+     *
+     * @param recurringContent The content string containing description, dates and recurrence.
+     * @param isDone           The completion status of the task.
+     * @return A reconstructed {@link RecurringTask} object.
+     * @throws EclipseException If a date or the frequency is invalid, a skipped date is not an occurrence,
+     *                          or the regex fails to match.
+     */
+    private static RecurringTask parseRecurringContent(String recurringContent, boolean isDone)
+            throws EclipseException {
+        Matcher storedRecurringMatcher = storageRecurringPattern.matcher(recurringContent);
+
+        if (!storedRecurringMatcher.matches()) {
+            throw new EclipseException(
+                    "eclipse.storage.StorageParser failed to parse this content as eclipse.task.RecurringTask : \n"
+                            + recurringContent
+            );
+        }
+
+        String description = storedRecurringMatcher.group("taskDescription");
+        String frequencyWord = storedRecurringMatcher.group("frequency");
+        Recurrence.Frequency frequency = Recurrence.Frequency.fromWord(frequencyWord).orElseThrow(
+                () -> new EclipseException("Invalid recurrence detected in the storage file: every " + frequencyWord)
+        );
+
+        String dateString = storedRecurringMatcher.group("start");
+        try {
+            LocalDate start = LocalDate.parse(dateString);
+            dateString = storedRecurringMatcher.group("until");
+            LocalDate until = dateString == null ? null : LocalDate.parse(dateString);
+            dateString = storedRecurringMatcher.group("end");
+            RecurringTask task = dateString == null
+                    ? new RecurringTask(description, isDone, start, new Recurrence(frequency, until))
+                    : new RecurringTask(description, isDone, start, LocalDate.parse(dateString),
+                            new Recurrence(frequency, until));
+
+            String skippedDates = storedRecurringMatcher.group("skipped");
+            if (skippedDates != null) {
+                for (String skippedDate : skippedDates.trim().split("\\s+")) {
+                    dateString = skippedDate;
+                    task = task.withSkipped(LocalDate.parse(skippedDate));
+                }
+            }
+            return task;
+        } catch (DateTimeParseException e) {
+            throw new EclipseException(
+                    "Invalid date format detected in the storage file for a recurring task: " + dateString,
+                    e
+            );
+        }
+    }
 }
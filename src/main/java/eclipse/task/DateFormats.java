@@ -0,0 +1,43 @@
+package eclipse.task;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the formatters shared by all tasks, and caches the display string of each date,
+ * as the same few dates are rendered over and over again when listing tasks.
+ */
+public class DateFormats {
+    /**
+     * The format dates are displayed in, e.g. <code>Oct 15 2019</code>
+     */
+    public static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy");
+
+    /**
+     * Dates are only cached up to this many, so that a list spanning many dates cannot grow the cache without bound.
+     */
+    private static final int MAX_CACHED_DATES = 4096;
+
+    private static final Map<LocalDate, String> displayStrings = new ConcurrentHashMap<>();
+
+    /**
+     * Formats a date in the {@link #DISPLAY_FORMAT}, reusing the string from an earlier call if there was one.
+     *
+     * @param date The date to format.
+     * @return The formatted date.
+     */
+    public static String toDisplayString(LocalDate date) {
+        String displayString = displayStrings.get(date);
+        if (displayString != null) {
+            return displayString;
+        }
+
+        displayString = date.format(DISPLAY_FORMAT);
+        if (displayStrings.size() < MAX_CACHED_DATES) {
+            displayStrings.put(date, displayString);
+        }
+        return displayString;
+    }
+}
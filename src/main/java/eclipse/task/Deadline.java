@@ -1,7 +1,6 @@
 package eclipse.task;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class Deadline extends Task {
     protected LocalDate by;
@@ -16,20 +15,25 @@ public class Deadline extends Task {
         this.by = by;
     }
 
+    public LocalDate getBy() {
+        return this.by;
+    }
+
     // [D][ ] return book (by: Sunday)
     @Override
-    public String toString() {
-        return String.format(
-                "[D]%s (by: %s)",
-                super.toString(),
-                this.by.format(DateTimeFormatter.ofPattern("MMM d yyyy"))
-        );
+    protected String renderDisplayString(boolean isDone) {
+        return "[D]" + super.renderDisplayString(isDone) + " (by: " + DateFormats.toDisplayString(this.by) + ")";
     }
 
 
     // D | 0 | return book | June 6th
     @Override
-    public String toStorageString() {
-        return String.format("%s | %s | %s", "D", super.toStorageString(), this.by);
+    protected String renderStorageString(boolean isDone) {
+        return "D | " + super.renderStorageString(isDone) + " | " + this.by;
+    }
+
+    @Override
+    public long estimateMemoryBytes() {
+        return super.estimateMemoryBytes() + DATE_BYTES;
     }
 }
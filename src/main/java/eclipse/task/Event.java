@@ -1,7 +1,6 @@
 package eclipse.task;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 
 public class Event extends Task {
     protected LocalDate from;
@@ -20,20 +19,30 @@ public class Event extends Task {
         this.to = to;
     }
 
+    public LocalDate getFrom() {
+        return this.from;
+    }
+
+    public LocalDate getTo() {
+        return this.to;
+    }
+
     // [E][ ] project meeting (from: Mon 2pm to: 4pm)
     @Override
-    public String toString() {
-        return String.format(
-                "[E]%s (from: %s to: %s)",
-                super.toString(),
-                this.from.format(DateTimeFormatter.ofPattern("MMM d yyyy")),
-                this.to.format(DateTimeFormatter.ofPattern("MMM d yyyy"))
-        );
+    protected String renderDisplayString(boolean isDone) {
+        return "[E]" + super.renderDisplayString(isDone)
+                + " (from: " + DateFormats.toDisplayString(this.from)
+                + " to: " + DateFormats.toDisplayString(this.to) + ")";
     }
 
 
     @Override
-    public String toStorageString() {
-        return String.format("%s | %s | %s=>%s", "E", super.toStorageString(), this.from, this.to);
+    protected String renderStorageString(boolean isDone) {
+        return "E | " + super.renderStorageString(isDone) + " | " + this.from + "=>" + this.to;
+    }
+
+    @Override
+    public long estimateMemoryBytes() {
+        return super.estimateMemoryBytes() + 2 * DATE_BYTES;
     }
 }
@@ -0,0 +1,214 @@
+package eclipse.task;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * How a {@link RecurringTask} repeats: every day or every week from its first occurrence,
+ * optionally until a last date, except on the dates of occurrences that were skipped.
+ * Only the rule and the skipped dates are kept, never the occurrences themselves,
+ * so a recurrence takes the same memory however far ahead it is looked at.
+ * Recurrences are immutable, skipping an occurrence creates a new one.
+ */
+public class Recurrence {
+    /**
+     * The period between two occurrences.
+     */
+    public enum Frequency {
+        DAILY("day", 1),
+        WEEKLY("week", 7);
+
+        private final String word;
+        private final int days;
+
+        Frequency(String word, int days) {
+            this.word = word;
+            this.days = days;
+        }
+
+        /**
+         * Returns the word the frequency is written as after <code>every</code>, e.g. <code>week</code>
+         *
+         * @return The word.
+         */
+        public String getWord() {
+            return this.word;
+        }
+
+        /**
+         * Returns the number of days between the starts of two occurrences.
+         *
+         * @return The number of days.
+         */
+        public int getDays() {
+            return this.days;
+        }
+
+        /**
+         * Finds the frequency written as the given word.
+         *
+         * @param word The word, e.g. <code>day</code> or <code>week</code>
+         * @return The frequency, or empty if no frequency is written that way.
+         */
+        public static Optional<Frequency> fromWord(String word) {
+            for (Frequency frequency : values()) {
+                if (frequency.word.equals(word)) {
+                    return Optional.of(frequency);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static final long[] NO_SKIPPED_DAYS = new long[0];
+    private static final int OBJECT_BYTES = 24;
+
+    private final Frequency frequency;
+
+    /**
+     * The last date an occurrence may start on, or null if the task repeats forever.
+     */
+    private final LocalDate until;
+
+    /**
+     * The start dates of the skipped occurrences as epoch days, sorted.
+     */
+    private final long[] skippedDays;
+
+    /**
+     * Constructs a Recurrence without skipped occurrences.
+     *
+     * @param frequency The period between two occurrences.
+     * @param until     The last date an occurrence may start on, or null if the task repeats forever.
+     */
+    public Recurrence(Frequency frequency, LocalDate until) {
+        this(frequency, until, NO_SKIPPED_DAYS);
+    }
+
+    private Recurrence(Frequency frequency, LocalDate until, long[] skippedDays) {
+        this.frequency = frequency;
+        this.until = until;
+        this.skippedDays = skippedDays;
+    }
+
+    public Frequency getFrequency() {
+        return this.frequency;
+    }
+
+    public Optional<LocalDate> getUntil() {
+        return Optional.ofNullable(this.until);
+    }
+
+    /**
+     * Returns the start dates of the skipped occurrences.
+     *
+     * @return The dates, from the earliest.
+     */
+    public LocalDate[] getSkippedDates() {
+        LocalDate[] skippedDates = new LocalDate[this.skippedDays.length];
+        for (int dayIdx = 0; dayIdx < this.skippedDays.length; dayIdx++) {
+            skippedDates[dayIdx] = LocalDate.ofEpochDay(this.skippedDays[dayIdx]);
+        }
+        return skippedDates;
+    }
+
+    /**
+     * Returns a copy of this recurrence that also skips the occurrence starting on the given date.
+     * The caller checks that an occurrence starts on that date.
+     *
+     * @param date The start date of the occurrence.
+     * @return The new recurrence, or this one if the occurrence is already skipped.
+     */
+    public Recurrence withSkipped(LocalDate date) {
+        long day = date.toEpochDay();
+        int searchIdx = Arrays.binarySearch(this.skippedDays, day);
+        if (searchIdx >= 0) {
+            return this;
+        }
+
+        int insertIdx = -searchIdx - 1;
+        long[] newSkippedDays = new long[this.skippedDays.length + 1];
+        System.arraycopy(this.skippedDays, 0, newSkippedDays, 0, insertIdx);
+        newSkippedDays[insertIdx] = day;
+        System.arraycopy(
+                this.skippedDays,
+                insertIdx,
+                newSkippedDays,
+                insertIdx + 1,
+                this.skippedDays.length - insertIdx
+        );
+        return new Recurrence(this.frequency, this.until, newSkippedDays);
+    }
+
+    /**
+     * Checks whether the occurrence starting on the given day is skipped.
+     *
+     * @param day The start date of the occurrence as an epoch day.
+     * @return True if it is skipped.
+     */
+    public boolean isSkipped(long day) {
+        return Arrays.binarySearch(this.skippedDays, day) >= 0;
+    }
+
+    /**
+     * Counts the skipped occurrences starting within a range of days, in O(log s) time.
+     *
+     * @param fromDay The first day of the range as an epoch day, inclusive.
+     * @param toDay   The last day of the range as an epoch day, inclusive.
+     * @return The number of skipped occurrences.
+     */
+    public int countSkippedBetween(long fromDay, long toDay) {
+        return lowerBound(toDay + 1) - lowerBound(fromDay);
+    }
+
+    private int lowerBound(long day) {
+        int searchIdx = Arrays.binarySearch(this.skippedDays, day);
+        return searchIdx >= 0 ? searchIdx : -searchIdx - 1;
+    }
+
+    /**
+     * Estimates the heap taken by this recurrence, see {@link Task#estimateMemoryBytes()}.
+     *
+     * @return The estimated size in bytes.
+     */
+    public long estimateMemoryBytes() {
+        long bytes = OBJECT_BYTES + 16 + 8L * this.skippedDays.length;
+        return this.until == null ? bytes : bytes + Task.DATE_BYTES;
+    }
+
+    /**
+     * Renders the recurrence as it is displayed, e.g. <code>every week until Mar 31 2025, 2 skipped</code>
+     *
+     * @return The display string.
+     */
+    public String toDisplayString() {
+        String displayString = "every " + this.frequency.word;
+        if (this.until != null) {
+            displayString += " until " + DateFormats.toDisplayString(this.until);
+        }
+        if (this.skippedDays.length > 0) {
+            displayString += ", " + this.skippedDays.length + " skipped";
+        }
+        return displayString;
+    }
+
+    /**
+     * Renders the recurrence as it is stored, e.g. <code>every week until 2025-03-31 skip 2025-01-13 2025-01-20</code>
+     *
+     * @return The storage string.
+     */
+    public String toStorageString() {
+        StringBuilder storageString = new StringBuilder("every ").append(this.frequency.word);
+        if (this.until != null) {
+            storageString.append(" until ").append(this.until);
+        }
+        if (this.skippedDays.length > 0) {
+            storageString.append(" skip");
+            for (long skippedDay : this.skippedDays) {
+                storageString.append(' ').append(LocalDate.ofEpochDay(skippedDay));
+            }
+        }
+        return storageString.toString();
+    }
+}
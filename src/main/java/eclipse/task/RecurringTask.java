@@ -0,0 +1,257 @@
+package eclipse.task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import eclipse.exceptions.EclipseException;
+
+/**
+ * A deadline or an event that repeats following a {@link Recurrence}.
+ * Only its first occurrence and the rule are kept, and the occurrences falling within a range of dates
+ * are computed when asked for, as {@link Deadline} or {@link Event} objects that are not kept either.
+ * Counting occurrences takes O(log s) time for s skipped occurrences, however wide the range,
+ * and listing them takes time proportional to the number listed.
+ * <p>
+ * The done state applies to the whole series. Changing the recurrence, e.g. to skip an occurrence,
+ * creates a new task, so that a task never changes once added other than being marked.
+ */
+public class RecurringTask extends Task {
+    private final LocalDate start;
+
+    /**
+     * The last day of the first occurrence of an event, or null for a series of deadlines.
+     */
+    private final LocalDate end;
+    private final Recurrence recurrence;
+
+    /**
+     * Constructs a series of deadlines, the first due on <code>start</code>.
+     *
+     * @param description The description of every occurrence.
+     * @param isDone      Whether the series is done.
+     * @param start       The due date of the first occurrence.
+     * @param recurrence  How the deadline repeats.
+     */
+    public RecurringTask(String description, boolean isDone, LocalDate start, Recurrence recurrence) {
+        this(description, isDone, start, null, recurrence);
+    }
+
+    /**
+     * Constructs a series of events, the first from <code>start</code> to <code>end</code>.
+     * An end before the start is treated as lasting only the first day, as for {@link Event}.
+     *
+     * @param description The description of every occurrence.
+     * @param isDone      Whether the series is done.
+     * @param start       The first day of the first occurrence.
+     * @param end         The last day of the first occurrence.
+     * @param recurrence  How the event repeats.
+     */
+    public RecurringTask(String description, boolean isDone, LocalDate start, LocalDate end, Recurrence recurrence) {
+        super(description, isDone);
+        this.start = start;
+        this.end = end;
+        this.recurrence = recurrence;
+    }
+
+    public LocalDate getStart() {
+        return this.start;
+    }
+
+    public Optional<LocalDate> getEnd() {
+        return Optional.ofNullable(this.end);
+    }
+
+    public Recurrence getRecurrence() {
+        return this.recurrence;
+    }
+
+    public boolean isEventSeries() {
+        return this.end != null;
+    }
+
+    /**
+     * Returns a copy of this task in the given done state, with the same internal ID.
+     *
+     * @param isDone Whether the copy is done.
+     * @return The copy.
+     */
+    public RecurringTask copyWithDone(boolean isDone) {
+        return this.copyWith(isDone, this.recurrence);
+    }
+
+    /**
+     * Returns a copy of this task without the occurrence starting on the given date, with the same internal ID.
+     *
+     * @param date The start date of the occurrence to skip.
+     * @return The copy.
+     * @throws EclipseException If no occurrence starts on that date, or it is already skipped.
+     */
+    public RecurringTask withSkipped(LocalDate date) throws EclipseException {
+        long day = date.toEpochDay();
+        long offset = day - this.start.toEpochDay();
+        boolean isOccurrence = offset >= 0
+                && offset % this.getStepDays() == 0
+                && this.recurrence.getUntil().map(until -> !date.isAfter(until)).orElse(true);
+        if (!isOccurrence) {
+            throw new EclipseException(
+                    "No occurrence of '" + this.getDescription() + "' starts on " + DateFormats.toDisplayString(date)
+            );
+        }
+        if (this.recurrence.isSkipped(day)) {
+            throw new EclipseException(
+                    "The occurrence on " + DateFormats.toDisplayString(date) + " is already skipped"
+            );
+        }
+        return this.copyWith(this.isDone(), this.recurrence.withSkipped(date));
+    }
+
+    private RecurringTask copyWith(boolean isDone, Recurrence recurrence) {
+        RecurringTask copy = new RecurringTask(this.getDescription(), isDone, this.start, this.end, recurrence);
+        copy.setId(this.getId());
+        return copy;
+    }
+
+    /**
+     * Counts the occurrences taking place on at least one day of a range, without visiting them.
+     *
+     * @param from The first date of the range, inclusive.
+     * @param to   The last date of the range, inclusive.
+     * @return The number of occurrences.
+     */
+    public long countOccurrencesBetween(LocalDate from, LocalDate to) {
+        long firstIdx = this.firstOccurrenceIdxFrom(from.toEpochDay());
+        long lastIdx = this.lastOccurrenceIdxUntil(to.toEpochDay());
+        if (lastIdx < firstIdx) {
+            return 0;
+        }
+
+        long startDay = this.start.toEpochDay();
+        long stepDays = this.getStepDays();
+        return lastIdx - firstIdx + 1 - this.recurrence.countSkippedBetween(
+                startDay + firstIdx * stepDays,
+                startDay + lastIdx * stepDays
+        );
+    }
+
+    /**
+     * Lists the occurrences taking place on at least one day of a range, from the earliest, up to a limit.
+     *
+     * @param from  The first date of the range, inclusive.
+     * @param to    The last date of the range, inclusive.
+     * @param limit The most occurrences to list.
+     * @return The occurrences, as deadlines or events sharing the description and done state of the series.
+     */
+    public List<Task> getOccurrencesBetween(LocalDate from, LocalDate to, int limit) {
+        long firstIdx = this.firstOccurrenceIdxFrom(from.toEpochDay());
+        long lastIdx = this.lastOccurrenceIdxUntil(to.toEpochDay());
+        long startDay = this.start.toEpochDay();
+        long stepDays = this.getStepDays();
+
+        List<Task> occurrences = new ArrayList<>();
+        for (long occurrenceIdx = firstIdx; occurrenceIdx <= lastIdx && occurrences.size() < limit; occurrenceIdx++) {
+            long day = startDay + occurrenceIdx * stepDays;
+            if (!this.recurrence.isSkipped(day)) {
+                occurrences.add(this.createOccurrence(LocalDate.ofEpochDay(day)));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the earliest occurrence that has not ended before the given date.
+     *
+     * @param date The date of interest.
+     * @return The occurrence, or empty if the series has ended by then.
+     */
+    public Optional<Task> getNextOccurrence(LocalDate date) {
+        List<Task> occurrences = this.getOccurrencesBetween(date, LocalDate.MAX, 1);
+        return occurrences.isEmpty() ? Optional.empty() : Optional.of(occurrences.get(0));
+    }
+
+    /**
+     * Returns the start date of the earliest occurrence starting on or after the given date.
+     * Skipped occurrences are passed over one by one, so this takes O(k log s) time for k skipped in a row.
+     *
+     * @param date The date of interest.
+     * @return The start date, or empty if no occurrence starts on or after that date.
+     */
+    public Optional<LocalDate> getNextStart(LocalDate date) {
+        long startDay = this.start.toEpochDay();
+        long stepDays = this.getStepDays();
+        long offset = date.toEpochDay() - startDay;
+        long lastIdx = this.lastOccurrenceIdxUntil(Long.MAX_VALUE / 2);
+        for (long occurrenceIdx = offset <= 0 ? 0 : (offset + stepDays - 1) / stepDays;
+                occurrenceIdx <= lastIdx;
+                occurrenceIdx++) {
+            long day = startDay + occurrenceIdx * stepDays;
+            if (!this.recurrence.isSkipped(day)) {
+                return Optional.of(LocalDate.ofEpochDay(day));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Task createOccurrence(LocalDate occurrenceStart) {
+        if (this.end == null) {
+            return new Deadline(this.getDescription(), this.isDone(), occurrenceStart);
+        }
+        LocalDate occurrenceEnd = occurrenceStart.plusDays(this.getDurationDays());
+        return new Event(this.getDescription(), this.isDone(), occurrenceStart, occurrenceEnd);
+    }
+
+    private long getStepDays() {
+        return this.recurrence.getFrequency().getDays();
+    }
+
+    /**
+     * Returns the number of days an occurrence lasts after its first day.
+     */
+    private long getDurationDays() {
+        return this.end == null ? 0 : Math.max(0, this.end.toEpochDay() - this.start.toEpochDay());
+    }
+
+    /**
+     * Returns the position in the series of the first occurrence not ending before the given day.
+     */
+    private long firstOccurrenceIdxFrom(long fromDay) {
+        long offset = fromDay - this.getDurationDays() - this.start.toEpochDay();
+        return offset <= 0 ? 0 : (offset + this.getStepDays() - 1) / this.getStepDays();
+    }
+
+    /**
+     * Returns the position in the series of the last occurrence starting on or before the given day and its end,
+     * or -1 if there is none.
+     */
+    private long lastOccurrenceIdxUntil(long toDay) {
+        long lastDay = this.recurrence.getUntil().map(until -> Math.min(toDay, until.toEpochDay())).orElse(toDay);
+        long offset = lastDay - this.start.toEpochDay();
+        return offset < 0 ? -1 : offset / this.getStepDays();
+    }
+
+    // [R][ ] team meeting (from: Jan 6 2025 to: Jan 6 2025, every week)
+    @Override
+    protected String renderDisplayString(boolean isDone) {
+        String dates = this.end == null
+                ? "by: " + DateFormats.toDisplayString(this.start)
+                : "from: " + DateFormats.toDisplayString(this.start) + " to: " + DateFormats.toDisplayString(this.end);
+        return "[R]" + super.renderDisplayString(isDone)
+                + " (" + dates + ", " + this.recurrence.toDisplayString() + ")";
+    }
+
+    // R | 0 | team meeting | 2025-01-06=>2025-01-06 | every week skip 2025-01-13
+    @Override
+    protected String renderStorageString(boolean isDone) {
+        String dates = this.end == null ? this.start.toString() : this.start + "=>" + this.end;
+        return "R | " + super.renderStorageString(isDone)
+                + " | " + dates
+                + " | " + this.recurrence.toStorageString();
+    }
+
+    @Override
+    public long estimateMemoryBytes() {
+        long dateBytes = this.end == null ? DATE_BYTES : 2 * DATE_BYTES;
+        return super.estimateMemoryBytes() + dateBytes + this.recurrence.estimateMemoryBytes();
+    }
+}
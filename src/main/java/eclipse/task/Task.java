@@ -1,9 +1,51 @@
 package eclipse.task;
 
+/**
+ * A task in the list, with a description and whether it is done.
+ * Its display and storage strings are rendered once and cached,
+ * as only {@link #markAsDone()} and {@link #markAsNotDone()} can change them.
+ * Subclasses define the strings through {@link #renderDisplayString(boolean)}
+ * and {@link #renderStorageString(boolean)}.
+ */
 public class Task {
+    /**
+     * The estimated sizes of a task object, which has room for the fields of every subclass,
+     * of a cached rendering without its string, and of a {@link java.time.LocalDate}.
+     */
+    private static final int OBJECT_BYTES = 40;
+    private static final int RENDERING_BYTES = 16;
+    protected static final int DATE_BYTES = 24;
+
     private boolean isDone = false;
     private String description;
 
+    /**
+     * The internal ID assigned by the task list, stable for as long as the task stays in it.
+     * IDs are not stored, so they may differ between runs.
+     */
+    private int id = -1;
+
+    /**
+     * The cached strings, or null until they are first rendered or after the task is marked.
+     */
+    private Rendering displayRendering;
+    private Rendering storageRendering;
+
+    /**
+     * A rendered string together with the done state it was rendered for.
+     * The state is checked on every use, so that a string rendered on another thread
+     * while the task was being marked is never returned for the wrong state.
+     */
+    private static final class Rendering {
+        private final boolean isDone;
+        private final String text;
+
+        private Rendering(boolean isDone, String text) {
+            this.isDone = isDone;
+            this.text = text;
+        }
+    }
+
     public Task(String description) {
         this.description = description;
     }
@@ -15,25 +57,108 @@ public class Task {
 
     public void markAsDone() {
         this.isDone = true;
+        this.invalidateRenderings();
     }
 
     public void markAsNotDone() {
         this.isDone = false;
+        this.invalidateRenderings();
+    }
+
+    private void invalidateRenderings() {
+        this.displayRendering = null;
+        this.storageRendering = null;
     }
 
     public String getDescription() {
         return this.description;
     }
 
+    public boolean isDone() {
+        return this.isDone;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
     @Override
-    public String toString() {
-        String mark = this.isDone ? "X" : " ";
-        return String.format("[%s] %s", mark, this.description);
+    public final String toString() {
+        boolean isDone = this.isDone;
+        Rendering rendering = this.displayRendering;
+        if (rendering == null || rendering.isDone != isDone) {
+            rendering = new Rendering(isDone, this.renderDisplayString(isDone));
+            this.displayRendering = rendering;
+        }
+        return rendering.text;
+    }
+
+    /**
+     * Returns the string this task is stored as, see {@link #renderStorageString(boolean)}.
+     *
+     * @return The storage string.
+     */
+    public final String toStorageString() {
+        boolean isDone = this.isDone;
+        Rendering rendering = this.storageRendering;
+        if (rendering == null || rendering.isDone != isDone) {
+            rendering = new Rendering(isDone, this.renderStorageString(isDone));
+            this.storageRendering = rendering;
+        }
+        return rendering.text;
     }
 
+    /**
+     * Estimates the heap taken by this task, including its description and any cached strings,
+     * assuming compressed references and descriptions of single-byte characters.
+     * Subclasses add the dates they hold.
+     *
+     * @return The estimated size in bytes.
+     */
+    public long estimateMemoryBytes() {
+        long bytes = OBJECT_BYTES + estimateStringBytes(this.description);
+        Rendering displayRendering = this.displayRendering;
+        if (displayRendering != null) {
+            bytes += RENDERING_BYTES + estimateStringBytes(displayRendering.text);
+        }
+        Rendering storageRendering = this.storageRendering;
+        if (storageRendering != null) {
+            bytes += RENDERING_BYTES + estimateStringBytes(storageRendering.text);
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimates the heap taken by a string of single-byte characters: the string object and its byte array.
+     *
+     * @param str The string.
+     * @return The estimated size in bytes.
+     */
+    public static long estimateStringBytes(String str) {
+        return 24 + (16 + str.length() + 7) / 8 * 8;
+    }
+
+    /**
+     * Renders the string this task is displayed as.
+     *
+     * @param isDone Whether the task is done.
+     * @return The display string, e.g. <code>[X] read book</code>
+     */
+    protected String renderDisplayString(boolean isDone) {
+        return (isDone ? "[X] " : "[ ] ") + this.description;
+    }
 
-    // 1 | read book
-    public String toStorageString() {
-        return String.format("%s | %s", isDone ? "1" : "0", this.description);
+    /**
+     * Renders the string this task is stored as.
+     *
+     * @param isDone Whether the task is done.
+     * @return The storage string, e.g. <code>1 | read book</code>
+     */
+    protected String renderStorageString(boolean isDone) {
+        return (isDone ? "1 | " : "0 | ") + this.description;
     }
-}
\ No newline at end of file
+}
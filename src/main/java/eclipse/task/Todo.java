@@ -12,13 +12,13 @@ public class Todo extends Task {
 
     // [T][ ] borrow book
     @Override
-    public String toString() {
-        return String.format("[T]%s", super.toString());
+    protected String renderDisplayString(boolean isDone) {
+        return "[T]" + super.renderDisplayString(isDone);
     }
 
     // T | 1 | read book
     @Override
-    public String toStorageString() {
-        return String.format("%s | %s", "T", super.toStorageString());
+    protected String renderStorageString(boolean isDone) {
+        return "T | " + super.renderStorageString(isDone);
     }
 }
@@ -0,0 +1,202 @@
+package eclipse.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A set of closed intervals <code>[start, end]</code>, each carrying a value,
+ * that finds every interval overlapping a query range in O(log n + k) expected time.
+ * Intervals are kept in a treap ordered by their start,
+ * and every node also records the largest end in its subtree,
+ * so that subtrees ending before the query range are skipped entirely.
+ * Values are compared by identity, so the same interval may be stored for several values.
+ *
+ * @param <T> The type of the values stored with the intervals.
+ */
+public class IntervalTree<T> {
+    private final Random random = new Random();
+    private Node<T> root;
+    private int size;
+
+    private static class Node<T> {
+        private final long start;
+        private final long end;
+        private final T value;
+        private final int priority;
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, T value, int priority) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            this.maxEnd = this.end;
+            if (this.left != null) {
+                this.maxEnd = Math.max(this.maxEnd, this.left.maxEnd);
+            }
+            if (this.right != null) {
+                this.maxEnd = Math.max(this.maxEnd, this.right.maxEnd);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of intervals stored.
+     *
+     * @return The number of intervals.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds an interval.
+     *
+     * @param start The start of the interval, inclusive.
+     * @param end   The end of the interval, inclusive, not before the start.
+     * @param value The value stored with the interval.
+     * @throws IllegalArgumentException If the interval ends before it starts.
+     */
+    public void add(long start, long end, T value) {
+        if (end < start) {
+            throw new IllegalArgumentException("Interval ends before it starts: [" + start + ", " + end + "]");
+        }
+        this.root = insert(this.root, new Node<>(start, end, value, this.random.nextInt()));
+        this.size++;
+    }
+
+    /**
+     * Removes an interval previously added with the same start and value.
+     *
+     * @param start The start of the interval.
+     * @param value The value stored with the interval.
+     * @return True if the interval was found and removed.
+     */
+    public boolean remove(long start, T value) {
+        int sizeBefore = this.size;
+        this.root = remove(this.root, start, value);
+        return this.size < sizeBefore;
+    }
+
+    /**
+     * Finds the values of all intervals sharing at least one point with the query range.
+     *
+     * @param from The start of the query range, inclusive.
+     * @param to   The end of the query range, inclusive.
+     * @return The values, ordered by the start of their intervals.
+     */
+    public List<T> findOverlapping(long from, long to) {
+        List<T> values = new ArrayList<>();
+        collectOverlapping(this.root, from, to, values);
+        return values;
+    }
+
+    private static <T> Node<T> insert(Node<T> node, Node<T> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+
+        if (newNode.start < node.start) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<T> remove(Node<T> node, long start, T value) {
+        if (node == null) {
+            return null;
+        }
+
+        if (node.start == start && node.value == value) {
+            this.size--;
+            return merge(node.left, node.right);
+        }
+
+        // Rotations may leave intervals with an equal start on either side, so both are searched
+        if (start <= node.start) {
+            int sizeBefore = this.size;
+            node.left = remove(node.left, start, value);
+            if (this.size < sizeBefore) {
+                node.update();
+                return node;
+            }
+        }
+        if (start >= node.start) {
+            node.right = remove(node.right, start, value);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Joins two treaps where every start in the left one is at most every start in the right one.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static <T> void collectOverlapping(Node<T> node, long from, long to, List<T> values) {
+        // Nothing in this subtree ends late enough to reach the query range
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+
+        collectOverlapping(node.left, from, to, values);
+        if (node.start > to) {
+            // This node and everything to its right start after the query range
+            return;
+        }
+        if (node.end >= from) {
+            values.add(node.value);
+        }
+        collectOverlapping(node.right, from, to, values);
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+}
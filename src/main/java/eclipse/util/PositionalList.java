@@ -0,0 +1,362 @@
+package eclipse.util;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * A list with O(log n) expected time get, insert and remove at any position,
+ * and O(log n) lookup of the position of an element.
+ * Elements are kept in an implicit treap: an in-order traversal gives the list order,
+ * and every node records the size of its subtree, so positions are found by counting rather than searching.
+ * Nodes also link to their parents, so the position of an element is found by climbing from its node to the root.
+ * Elements are compared by identity and must be distinct, the same instance cannot be in the list twice.
+ *
+ * @param <T> The type of the elements.
+ */
+public class PositionalList<T> extends AbstractList<T> {
+    private final Random random = new Random();
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private Node<T> root;
+
+    private static class Node<T> {
+        private T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+        private Node<T> parent;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        /**
+         * Recomputes the size of the subtree and points the children back to this node,
+         * to be called whenever the children change.
+         */
+        private void update() {
+            this.size = 1 + sizeOf(this.left) + sizeOf(this.right);
+            if (this.left != null) {
+                this.left.parent = this;
+            }
+            if (this.right != null) {
+                this.right.parent = this;
+            }
+        }
+    }
+
+    /**
+     * The two halves of a treap split at a position.
+     */
+    private static class Split<T> {
+        private Node<T> left;
+        private Node<T> right;
+    }
+
+    /**
+     * Initializes an empty list.
+     */
+    public PositionalList() {
+    }
+
+    /**
+     * Initializes a list holding the given elements, in order.
+     *
+     * @param elements The initial elements.
+     * @throws IllegalArgumentException If the same instance appears more than once.
+     */
+    public PositionalList(Collection<? extends T> elements) {
+        this.addAll(elements);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(this.root);
+    }
+
+    @Override
+    public T get(int index) {
+        return this.nodeAt(index).value;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        Node<T> node = this.nodeAt(index);
+        T oldValue = node.value;
+        if (oldValue == element) {
+            return oldValue;
+        }
+        if (this.nodes.containsKey(element)) {
+            throw new IllegalArgumentException("Element is already in the list: " + element);
+        }
+
+        this.nodes.remove(oldValue);
+        this.nodes.put(element, node);
+        node.value = element;
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + this.size());
+        }
+        if (this.nodes.containsKey(element)) {
+            throw new IllegalArgumentException("Element is already in the list: " + element);
+        }
+
+        Node<T> node = new Node<>(element, this.random.nextInt());
+        this.nodes.put(element, node);
+        this.root = insert(this.root, index, node);
+        this.root.parent = null;
+        this.modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        Node<T> node = this.nodeAt(index);
+        this.removeNode(node);
+        return node.value;
+    }
+
+    @Override
+    public void clear() {
+        this.root = null;
+        this.nodes.clear();
+        this.modCount++;
+    }
+
+    /**
+     * Returns the position of an element in the list.
+     *
+     * @param element The element to look for, compared by identity.
+     * @return The 0-based position of the element, or -1 if it is not in the list.
+     */
+    public int positionOf(T element) {
+        Node<T> node = this.nodes.get(element);
+        if (node == null) {
+            return -1;
+        }
+
+        int position = sizeOf(node.left);
+        while (node.parent != null) {
+            if (node == node.parent.right) {
+                position += sizeOf(node.parent.left) + 1;
+            }
+            node = node.parent;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the first position whose element is not before the given one, for a list kept sorted in an order,
+     * in O(log n) time by descending the treap rather than by a binary search over positions.
+     * Inserting at that position keeps the list sorted.
+     *
+     * @param element The element to be placed.
+     * @param order   The order the list is sorted in.
+     * @return The 0-based position, which is the size of the list if every element is before the given one.
+     */
+    public int lowerBound(T element, Comparator<? super T> order) {
+        int position = 0;
+        Node<T> node = this.root;
+        while (node != null) {
+            if (order.compare(node.value, element) < 0) {
+                position += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Iterates over the elements in order in O(n) total time, rather than one O(log n) lookup per element.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return this.iteratorFrom(0);
+    }
+
+    /**
+     * Iterates over the elements in order, starting at a position.
+     * Finding the start takes O(log n) time, and each step after it O(1) amortized,
+     * so visiting a window of k elements takes O(log n + k) time.
+     *
+     * @param index The position of the first element returned, which may be the size of the list.
+     * @return An iterator over the elements from the position onwards.
+     * @throws IndexOutOfBoundsException If the position is negative or past the end of the list.
+     */
+    public Iterator<T> iteratorFrom(int index) {
+        if (index < 0 || index > this.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + this.size());
+        }
+        Node<T> first = index == this.size() ? null : this.nodeAt(index);
+
+        return new Iterator<>() {
+            private Node<T> next = first;
+            private final int expectedModCount = PositionalList.this.modCount;
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public T next() {
+                if (PositionalList.this.modCount != this.expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (this.next == null) {
+                    throw new NoSuchElementException();
+                }
+
+                T value = this.next.value;
+                this.next = successor(this.next);
+                return value;
+            }
+        };
+    }
+
+    private Node<T> nodeAt(int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + this.size());
+        }
+
+        Node<T> node = this.root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    private void removeNode(Node<T> node) {
+        Node<T> replacement = merge(node.left, node.right);
+        Node<T> parent = node.parent;
+        if (parent == null) {
+            this.root = replacement;
+            if (replacement != null) {
+                replacement.parent = null;
+            }
+        } else if (parent.left == node) {
+            parent.left = replacement;
+        } else {
+            parent.right = replacement;
+        }
+
+        for (Node<T> ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.update();
+        }
+        this.nodes.remove(node.value);
+        this.modCount++;
+    }
+
+    private static <T> Node<T> insert(Node<T> subtree, int index, Node<T> node) {
+        if (subtree == null) {
+            return node;
+        }
+
+        if (node.priority > subtree.priority) {
+            Split<T> split = new Split<>();
+            split(subtree, index, split);
+            node.left = split.left;
+            node.right = split.right;
+            node.update();
+            return node;
+        }
+
+        int leftSize = sizeOf(subtree.left);
+        if (index <= leftSize) {
+            subtree.left = insert(subtree.left, index, node);
+        } else {
+            subtree.right = insert(subtree.right, index - leftSize - 1, node);
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    /**
+     * Splits a treap into its first <code>index</code> elements and the rest.
+     */
+    private static <T> void split(Node<T> subtree, int index, Split<T> split) {
+        if (subtree == null) {
+            split.left = null;
+            split.right = null;
+            return;
+        }
+
+        int leftSize = sizeOf(subtree.left);
+        if (index <= leftSize) {
+            split(subtree.left, index, split);
+            subtree.left = split.right;
+            subtree.update();
+            split.right = subtree;
+        } else {
+            split(subtree.right, index - leftSize - 1, split);
+            subtree.right = split.left;
+            subtree.update();
+            split.left = subtree;
+        }
+    }
+
+    /**
+     * Joins two treaps, with every element of the left one coming before every element of the right one.
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static <T> Node<T> leftmost(Node<T> node) {
+        if (node == null) {
+            return null;
+        }
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private static <T> Node<T> successor(Node<T> node) {
+        if (node.right != null) {
+            return leftmost(node.right);
+        }
+        while (node.parent != null && node == node.parent.right) {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+}
@@ -0,0 +1,335 @@
+package eclipse.workspace;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import eclipse.Eclipse;
+import eclipse.exceptions.EclipseException;
+import eclipse.metrics.CommandMetrics;
+import eclipse.metrics.LatencyHistogram;
+
+/**
+ * Keeps the task lists of the most recently used workspaces loaded, up to a fixed number of them.
+ * Each workspace is an {@link Eclipse} over a data directory of its own, named after the workspace,
+ * under a common root directory, and is loaded on first use.
+ * <p>
+ * Sessions hold on to a workspace from {@link #acquire(String)} to {@link #release(String)} while running
+ * a command in it. Once more workspaces are loaded than the cache holds, the least recently used ones
+ * no session holds are evicted: their changes are saved through their own storage and their threads stopped,
+ * see {@link Eclipse#close()}. A workspace held by a session is never evicted,
+ * so the cache may briefly hold more workspaces than its capacity.
+ * <p>
+ * Workspaces are loaded and evicted workspaces are closed outside of the cache,
+ * so that reading or saving a large task list never holds up sessions in other workspaces.
+ * A session acquiring a workspace still being loaded waits for it, so that it is never loaded twice,
+ * and one acquiring a workspace still being closed waits for it, so that it is never read back
+ * before it has been saved. Commands themselves run outside of the cache,
+ * so sessions in different workspaces never wait for each other.
+ */
+public class WorkspaceCache {
+    /**
+     * Loads the chatbot of a workspace from its data directory.
+     */
+    public interface Loader {
+        Eclipse load(Path dirPath);
+    }
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final Path rootDirPath;
+    private final int capacity;
+    private final Loader loader;
+
+    /**
+     * The loaded workspaces by name, from the least to the most recently used.
+     */
+    private final LinkedHashMap<String, Workspace> workspaces = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The names of the workspaces being loaded, which are only in {@link #workspaces} once they are.
+     */
+    private final Set<String> loadingNames = new HashSet<>();
+
+    /**
+     * The names of the workspaces evicted but not closed yet, which are not loaded again until they are.
+     */
+    private final Set<String> closingNames = new HashSet<>();
+
+    private final LatencyHistogram loadLatencies = new LatencyHistogram();
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * A loaded workspace, with the number of sessions holding it.
+     */
+    private static final class Workspace {
+        private final Eclipse chatbot;
+        private final long loadNanos;
+        private int holderCount = 0;
+
+        private Workspace(Eclipse chatbot, long loadNanos) {
+            this.chatbot = chatbot;
+            this.loadNanos = loadNanos;
+        }
+    }
+
+    /**
+     * Constructs an empty WorkspaceCache.
+     *
+     * @param rootDirPath The directory holding the data directory of every workspace.
+     * @param capacity    The most workspaces kept loaded while no session holds them.
+     * @param loader      Loads the chatbot of a workspace from its data directory.
+     */
+    public WorkspaceCache(Path rootDirPath, int capacity, Loader loader) {
+        this.rootDirPath = rootDirPath;
+        this.capacity = capacity;
+        this.loader = loader;
+    }
+
+    /**
+     * Checks that a workspace name is safe to use as a directory name.
+     *
+     * @param name The name of the workspace.
+     * @throws EclipseException If the name is not made of 1 to 64 letters, digits, dashes and underscores.
+     */
+    public static void checkName(String name) throws EclipseException {
+        if (name == null || !NAME_PATTERN.matcher(name).matches()) {
+            throw new EclipseException(
+                    "Invalid workspace name, use 1 to 64 letters, digits, dashes and underscores: " + name
+            );
+        }
+    }
+
+    /**
+     * Returns the chatbot of a workspace, loading it if it is not loaded yet,
+     * and holds the workspace until it is released.
+     *
+     * @param name The name of the workspace.
+     * @return The chatbot of the workspace.
+     * @throws EclipseException If the name is invalid,
+     *                          or the thread is interrupted while the workspace is loading or closing.
+     */
+    public Eclipse acquire(String name) throws EclipseException {
+        checkName(name);
+
+        synchronized (this) {
+            // A workspace being loaded is taken once it is in the cache,
+            // and one being closed is only loaded again once it has been saved
+            this.awaitSettled(name);
+            Workspace workspace = this.workspaces.get(name);
+            if (workspace != null) {
+                this.hitCount++;
+                workspace.holderCount++;
+                return workspace.chatbot;
+            }
+            this.missCount++;
+            this.loadingNames.add(name);
+        }
+
+        Workspace workspace = this.load(name);
+        Map<String, Workspace> evictedWorkspaces;
+        synchronized (this) {
+            // Published with its holder already counted, so that it is not evicted before it is returned
+            workspace.holderCount++;
+            this.workspaces.put(name, workspace);
+            this.loadingNames.remove(name);
+            this.notifyAll();
+            evictedWorkspaces = this.evictIdleWorkspaces();
+        }
+
+        this.closeEvicted(evictedWorkspaces);
+        return workspace.chatbot;
+    }
+
+    /**
+     * Loads a workspace marked as loading, without holding the cache.
+     * If loading fails, the mark is removed so that other sessions can try again.
+     *
+     * @param name The name of the workspace.
+     * @return The loaded workspace, not in the cache yet.
+     */
+    private Workspace load(String name) {
+        boolean isLoaded = false;
+        try {
+            long startTime = System.nanoTime();
+            Eclipse chatbot = this.loader.load(this.rootDirPath.resolve(name));
+            long loadNanos = System.nanoTime() - startTime;
+            this.loadLatencies.record(loadNanos);
+            isLoaded = true;
+            return new Workspace(chatbot, loadNanos);
+        } finally {
+            if (!isLoaded) {
+                synchronized (this) {
+                    this.loadingNames.remove(name);
+                    this.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops holding a workspace acquired with {@link #acquire(String)}, which may then be evicted.
+     *
+     * @param name The name of the workspace.
+     */
+    public void release(String name) {
+        Map<String, Workspace> evictedWorkspaces;
+        synchronized (this) {
+            Workspace workspace = this.workspaces.get(name);
+            if (workspace == null || workspace.holderCount == 0) {
+                throw new IllegalStateException("Released a workspace that was not acquired: " + name);
+            }
+            workspace.holderCount--;
+            evictedWorkspaces = this.evictIdleWorkspaces();
+        }
+
+        this.closeEvicted(evictedWorkspaces);
+    }
+
+    /**
+     * Evicts the least recently used workspaces no session holds, until the cache is within its capacity.
+     * The evicted workspaces are marked as closing, and must be closed by the caller once it leaves the cache,
+     * see {@link #closeEvicted(Map)}.
+     *
+     * @return The evicted workspaces by name.
+     */
+    private Map<String, Workspace> evictIdleWorkspaces() {
+        Map<String, Workspace> evictedWorkspaces = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, Workspace>> iterator = this.workspaces.entrySet().iterator();
+        while (this.workspaces.size() > this.capacity && iterator.hasNext()) {
+            Map.Entry<String, Workspace> entry = iterator.next();
+            if (entry.getValue().holderCount == 0) {
+                iterator.remove();
+                evictedWorkspaces.put(entry.getKey(), entry.getValue());
+                this.closingNames.add(entry.getKey());
+                this.evictionCount++;
+            }
+        }
+        return evictedWorkspaces;
+    }
+
+    /**
+     * Closes the workspaces evicted by {@link #evictIdleWorkspaces()}, saving their changes,
+     * and lets them be loaded again. Must be called without holding the cache.
+     *
+     * @param evictedWorkspaces The evicted workspaces by name.
+     */
+    private void closeEvicted(Map<String, Workspace> evictedWorkspaces) {
+        for (Map.Entry<String, Workspace> entry : evictedWorkspaces.entrySet()) {
+            try {
+                entry.getValue().chatbot.close();
+            } finally {
+                synchronized (this) {
+                    this.closingNames.remove(entry.getKey());
+                    this.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until the named workspace is no longer being loaded or closed, if it is.
+     * Must be called while holding the cache, which is let go of while waiting.
+     *
+     * @param name The name of the workspace.
+     * @throws EclipseException If the thread is interrupted while waiting.
+     */
+    private void awaitSettled(String name) throws EclipseException {
+        while (this.loadingNames.contains(name) || this.closingNames.contains(name)) {
+            try {
+                this.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EclipseException(
+                        "Interrupted while waiting for workspace " + name + " to be loaded or saved", e);
+            }
+        }
+    }
+
+    /**
+     * Describes how well the cache is doing: its hit ratio, how long loading a workspace takes,
+     * and the number of tasks and estimated heap of every loaded workspace, from the most recently used.
+     * Estimating the heap visits every task of every loaded workspace.
+     *
+     * @return The lines of the description.
+     */
+    public List<String> describe() {
+        List<Map.Entry<String, Workspace>> loadedWorkspaces;
+        List<String> lines = new ArrayList<>();
+        synchronized (this) {
+            loadedWorkspaces = new ArrayList<>(this.workspaces.entrySet());
+            long lookupCount = this.hitCount + this.missCount;
+            lines.add(String.format(
+                    "%d of %d workspaces loaded, %d hits and %d misses (%.1f%% hit ratio), %d evictions",
+                    this.workspaces.size(),
+                    this.capacity,
+                    this.hitCount,
+                    this.missCount,
+                    lookupCount == 0 ? 0.0 : 100.0 * this.hitCount / lookupCount,
+                    this.evictionCount
+            ));
+        }
+        if (this.loadLatencies.getCount() > 0) {
+            lines.add(String.format(
+                    "Loading a workspace: n=%d  p50=%s  p99=%s  max=%s",
+                    this.loadLatencies.getCount(),
+                    CommandMetrics.formatNanos(this.loadLatencies.getPercentileNanos(0.5)),
+                    CommandMetrics.formatNanos(this.loadLatencies.getPercentileNanos(0.99)),
+                    CommandMetrics.formatNanos(this.loadLatencies.getMaxNanos())
+            ));
+        }
+
+        // The heap is estimated outside of the cache, as it takes each workspace in turn
+        for (int workspaceIdx = loadedWorkspaces.size() - 1; workspaceIdx >= 0; workspaceIdx--) {
+            Map.Entry<String, Workspace> entry = loadedWorkspaces.get(workspaceIdx);
+            Eclipse chatbot = entry.getValue().chatbot;
+            lines.add(String.format(
+                    "  %-16s %,9d tasks  ~%s  loaded in %s",
+                    entry.getKey(),
+                    chatbot.getNumberOfTasks(),
+                    formatBytes(chatbot.estimateMemoryBytes()),
+                    CommandMetrics.formatNanos(entry.getValue().loadNanos)
+            ));
+        }
+        return lines;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1_000_000) {
+            return String.format("%.1f KB", bytes / 1e3);
+        }
+        return String.format("%.1f MB", bytes / 1e6);
+    }
+
+    /**
+     * Closes every loaded workspace, saving its changes, e.g. when the application exits,
+     * after waiting for the workspaces being loaded to be in the cache and those evicted before to be closed.
+     */
+    public synchronized void close() {
+        boolean isInterrupted = false;
+        while (!this.loadingNames.isEmpty() || !this.closingNames.isEmpty()) {
+            try {
+                this.wait();
+            } catch (InterruptedException e) {
+                // Still closing the workspaces loaded, which is what matters on the way out
+                isInterrupted = true;
+                break;
+            }
+        }
+        for (Workspace workspace : this.workspaces.values()) {
+            workspace.chatbot.close();
+        }
+        this.workspaces.clear();
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package eclipse.workspace;
+
+import java.util.Optional;
+
+import eclipse.Command;
+import eclipse.Eclipse;
+import eclipse.InputHandler;
+import eclipse.SessionState;
+import eclipse.Ui;
+import eclipse.exceptions.EclipseException;
+import eclipse.parser.ParsedInput;
+import eclipse.parser.Parser;
+
+/**
+ * A session working in one workspace of a {@link WorkspaceCache} at a time, starting in {@link #DEFAULT_WORKSPACE}.
+ * <code>workspace NAME</code> switches the session to another workspace, creating it if needed,
+ * and <code>workspace</code> alone shows how the cache is doing.
+ * Every other command runs in the current workspace, which the session holds for as long as the command runs.
+ * The order set by <code>sort by KEY</code> belongs to the session, and is kept when it switches workspaces.
+ */
+public class WorkspaceSession implements InputHandler {
+    public static final String DEFAULT_WORKSPACE = "default";
+
+    private final WorkspaceCache workspaces;
+    private String workspaceName = DEFAULT_WORKSPACE;
+    private final SessionState state = new SessionState();
+
+    /**
+     * Constructs a WorkspaceSession in the default workspace.
+     *
+     * @param workspaces The workspaces shared by all sessions.
+     */
+    public WorkspaceSession(WorkspaceCache workspaces) {
+        this.workspaces = workspaces;
+    }
+
+    @Override
+    public boolean handleInput(String input, Ui ui) {
+        ParsedInput parsedInput;
+        try {
+            parsedInput = Parser.parse(input);
+        } catch (EclipseException e) {
+            // Left to the workspace, which reports the error and records it in its metrics
+            parsedInput = null;
+        }
+
+        try {
+            if (parsedInput != null && parsedInput.getCommand() == Command.WORKSPACE) {
+                this.handleWorkspaceCommand(parsedInput.getOptionalParams(), ui);
+                return true;
+            }
+
+            Eclipse chatbot = this.workspaces.acquire(this.workspaceName);
+            try {
+                return chatbot.handleInput(input, ui, this.state);
+            } finally {
+                this.workspaces.release(this.workspaceName);
+            }
+        } catch (EclipseException e) {
+            ui.showRecoverableError(e);
+            return true;
+        } finally {
+            ui.flush();
+        }
+    }
+
+    /**
+     * Switches to the named workspace, loading it if needed, or shows the statistics of the cache if no name is given.
+     *
+     * @param maybeName The name of the workspace, if given.
+     * @throws EclipseException If the name is invalid.
+     */
+    private void handleWorkspaceCommand(Optional<String> maybeName, Ui ui) throws EclipseException {
+        if (maybeName.isEmpty()) {
+            ui.showBorder();
+            ui.showContent("You are in workspace: " + this.workspaceName);
+            for (String line : this.workspaces.describe()) {
+                ui.showContent(line);
+            }
+            ui.showBorder();
+            ui.endOutput();
+            return;
+        }
+
+        String name = maybeName.get();
+        Eclipse chatbot = this.workspaces.acquire(name);
+        int taskCount;
+        try {
+            taskCount = chatbot.getNumberOfTasks();
+        } finally {
+            this.workspaces.release(name);
+        }
+        this.workspaceName = name;
+
+        ui.showBorder();
+        ui.showContent(String.format("Now working in workspace %s, with %d tasks in the list.", name, taskCount));
+        ui.showBorder();
+        ui.endOutput();
+    }
+}
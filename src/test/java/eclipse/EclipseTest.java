@@ -0,0 +1,118 @@
+package eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.storage.JournaledStorage;
+import eclipse.storage.Mutation;
+import eclipse.storage.Storage;
+import eclipse.storage.StorageParser;
+import eclipse.task.Task;
+
+public class EclipseTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * A storage whose first saves fail, recording the changes of the saves that succeed.
+     */
+    private static class FlakyStorage extends Storage {
+        private int failuresLeft;
+        private final List<Mutation.Type> savedTypes = new ArrayList<>();
+
+        FlakyStorage(String dirPath, int failures) {
+            super(new StorageParser(), dirPath);
+            this.failuresLeft = failures;
+        }
+
+        @Override
+        public synchronized void save(List<Task> tasks, List<Mutation> mutations) throws EclipseException {
+            if (this.failuresLeft > 0) {
+                this.failuresLeft--;
+                throw new EclipseException("disk full");
+            }
+            for (Mutation mutation : mutations) {
+                this.savedTypes.add(mutation.getType());
+            }
+        }
+    }
+
+    @Test
+    public void close_finalBackgroundSaveFailed_changesSavedOnRetry() {
+        FlakyStorage storage = new FlakyStorage(this.tempDir.toString(), 1);
+        Eclipse chatbot = new Eclipse(storage);
+        // Long enough that the only flush of the writer is its final one, which fails
+        chatbot.startBackgroundSaving(60_000, 60_000);
+
+        chatbot.handleInput("todo borrow book");
+        chatbot.handleInput("mark 1");
+        chatbot.close();
+
+        assertEquals(List.of(Mutation.Type.ADD, Mutation.Type.MARK), storage.savedTypes);
+    }
+
+    @Test
+    public void handleInput_journalCompactionFails_changesNotJournaledTwice() throws EclipseException, IOException {
+        Path blockedTempFile = Files.createDirectory(this.tempDir.resolve("tasks.txt.tmp"));
+        Eclipse chatbot = new Eclipse(new JournaledStorage(new StorageParser(), this.tempDir.toString(), 1));
+
+        chatbot.handleInput("todo a");
+        chatbot.handleInput("todo b");
+        chatbot.handleInput("todo c");
+        chatbot.handleInput("delete 1");
+        chatbot.close();
+        Files.delete(blockedTempFile);
+
+        List<String> reloadedTasks = new ArrayList<>();
+        for (Task task : new JournaledStorage(new StorageParser(), this.tempDir.toString(), 1).readTasks()) {
+            reloadedTasks.add(task.toStorageString());
+        }
+        assertEquals(List.of("T | 0 | b", "T | 0 | c"), reloadedTasks);
+    }
+
+    @Test
+    public void handleInput_sortedInOneSession_otherSessionsKeepListOrder() {
+        Eclipse chatbot = new Eclipse(this.tempDir.toString());
+        chatbot.handleInput("todo borrow book");
+        chatbot.handleInput("todo answer mail");
+        InputHandler sortingSession = chatbot.openSession();
+        InputHandler otherSession = chatbot.openSession();
+
+        sortingSession.handleInput("sort by description", createUi(new ByteArrayOutputStream()));
+        String sortedList = runCommand(sortingSession, "list");
+        String sortedStream = runCommand(sortingSession, "list --stream");
+        String otherList = runCommand(otherSession, "list");
+
+        assertShownInOrder(sortedList, "2. [T][ ] answer mail", "1. [T][ ] borrow book");
+        assertShownInOrder(sortedStream, "2. [T][ ] answer mail", "1. [T][ ] borrow book");
+        assertShownInOrder(otherList, "1. [T][ ] borrow book", "2. [T][ ] answer mail");
+    }
+
+    private static void assertShownInOrder(String output, String firstRow, String secondRow) {
+        int firstIdx = output.indexOf(firstRow);
+        assertTrue(firstIdx >= 0 && firstIdx < output.indexOf(secondRow), output);
+    }
+
+    private static String runCommand(InputHandler session, String input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        session.handleInput(input, createUi(out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Ui createUi(ByteArrayOutputStream out) {
+        return new Ui(new PrintStream(out, false, StandardCharsets.UTF_8), false);
+    }
+}
@@ -0,0 +1,156 @@
+package eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import eclipse.backend.SnapshotTaskStore;
+import eclipse.exceptions.EclipseException;
+import eclipse.parser.ParsedInput;
+import eclipse.task.Task;
+
+public class TaskListConcurrencyTest {
+    private static final int INITIAL_TASKS = 1_000;
+    private static final int WRITERS = 4;
+    private static final int READERS = 8;
+    private static final int OPERATIONS_PER_WRITER = 20_000;
+
+    /**
+     * Writers only append tasks and delete the first one, so in every version of the list the internal IDs
+     * increase along the list, and the first and last IDs a reader sees never go backwards.
+     * Every deleted task must have been the first of the list when it was deleted, and be deleted exactly once.
+     */
+    @Test
+    public void snapshotStore_concurrentReadersAndWriters_linearizableIndices() throws InterruptedException {
+        TaskList tasks = new TaskList(new ArrayList<>(), new SnapshotTaskStore());
+        for (int taskIdx = 0; taskIdx < INITIAL_TASKS; taskIdx++) {
+            addTodo(tasks, "task initial " + taskIdx);
+        }
+
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        List<List<Integer>> deletedIdsByWriter = new ArrayList<>();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int writerIdx = 0; writerIdx < WRITERS; writerIdx++) {
+            List<Integer> deletedIds = new ArrayList<>();
+            deletedIdsByWriter.add(deletedIds);
+            String name = "writer " + writerIdx;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                try {
+                    for (int operationIdx = 0; operationIdx < OPERATIONS_PER_WRITER; operationIdx++) {
+                        if (operationIdx % 3 == 2) {
+                            tasks.setDone(tasks.getNumberOfTasks() - 1, operationIdx % 2 == 0);
+                        } else if (operationIdx % 3 == 1) {
+                            deletedIds.add(tasks.delete(0).getId());
+                        } else {
+                            addTodo(tasks, "task " + name + " " + operationIdx);
+                        }
+                    }
+                } catch (EclipseException | RuntimeException e) {
+                    failures.add(name + " failed: " + e);
+                }
+            }));
+        }
+
+        for (int readerIdx = 0; readerIdx < READERS; readerIdx++) {
+            String name = "reader " + readerIdx;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                int lastFirstId = -1;
+                int lastLastId = -1;
+                try {
+                    while (isWriting.get() && failures.isEmpty()) {
+                        List<Task> version = tasks.getTasks();
+                        int previousId = -1;
+                        for (Task task : version) {
+                            if (task.getId() <= previousId) {
+                                failures.add(name + " saw ID " + task.getId() + " after " + previousId);
+                            }
+                            previousId = task.getId();
+                        }
+                        int firstId = version.get(0).getId();
+                        int lastId = version.get(version.size() - 1).getId();
+                        if (firstId < lastFirstId || lastId < lastLastId) {
+                            failures.add(name + " saw the list go back to IDs " + firstId + ".." + lastId
+                                    + " after " + lastFirstId + ".." + lastLastId);
+                        }
+                        lastFirstId = firstId;
+                        lastLastId = lastId;
+
+                        // Every description matches, so the indices are exactly those of one whole version
+                        List<Integer> indices = tasks.findBySubstring("task");
+                        for (int idx = 0; idx < indices.size(); idx++) {
+                            if (indices.get(idx) != idx) {
+                                failures.add(name + " found index " + indices.get(idx) + " at position " + idx);
+                                break;
+                            }
+                        }
+                        Optional<Task> firstTask = tasks.getTaskById(0);
+                        if (firstTask.isEmpty() || firstTask.get().getId() < firstId) {
+                            failures.add(name + " found a first task older than ID " + firstId);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    failures.add(name + " failed: " + e);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads.subList(0, WRITERS)) {
+            thread.join();
+        }
+        isWriting.set(false);
+        for (Thread thread : threads.subList(WRITERS, threads.size())) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+
+        Set<Integer> seenIds = new HashSet<>();
+        for (List<Integer> deletedIds : deletedIdsByWriter) {
+            for (int deletedIdx = 0; deletedIdx < deletedIds.size(); deletedIdx++) {
+                assertTrue(deletedIdx == 0 || deletedIds.get(deletedIdx) > deletedIds.get(deletedIdx - 1));
+                assertTrue(seenIds.add(deletedIds.get(deletedIdx)), "Deleted twice: " + deletedIds.get(deletedIdx));
+            }
+        }
+        for (Task task : tasks.getTasks()) {
+            assertTrue(seenIds.add(task.getId()), "Deleted but still listed: " + task.getId());
+        }
+        int addCount = INITIAL_TASKS + WRITERS * ((OPERATIONS_PER_WRITER + 2) / 3);
+        assertEquals(addCount, seenIds.size());
+    }
+
+    private static void addTodo(TaskList tasks, String description) {
+        try {
+            tasks.add(new ParsedInput(Command.TODO, description));
+        } catch (EclipseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package eclipse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eclipse.backend.ObjectTaskStore;
+import eclipse.backend.SnapshotTaskStore;
+import eclipse.backend.TaskStore;
+import eclipse.exceptions.EclipseException;
+import eclipse.index.SortedView;
+import eclipse.index.TokenIndex;
+import eclipse.parser.Parser;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+public class TaskListTest {
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+    private static final int SORTED_VIEW_OPERATIONS = 400;
+    private static final int FIND_OPERATIONS = 600;
+    private static final String[] COMMON_WORDS = {"book", "Book", "BOOKS", "read", "re-read", "(library)"};
+    private static final String[] RARE_WORDS = {
+        "bookshelf", "caf\u00e9", "Caf\u00c9", "na\u00efve", "stra\u00dfe", "2025", "ab", "x", "zephyr"
+    };
+    private static final String[] WORD_QUERIES = {
+        "book", "BOOK", "books", "read", "re read", "library", "caf\u00e9", "CAF\u00c9", "stra\u00dfe",
+        "na\u00efve 2025", "ab", "x", "zephyr book", "!!", ""
+    };
+    private static final String[] PREFIX_QUERIES = {
+        "b", "Bo", "book", "BOOKS", "re", "li", "caf", "CAF\u00c9", "na\u00ef", "stra\u00df", "20", "a", "x", "zeph",
+        "  ", "(lib"
+    };
+    private static final String[] SUBSTRING_QUERIES = {
+        "", "a", "e", "ok", "Bo", "\u00e9", "boo", "ook", "Book", "BOOK", "bOOk", "k r", "read", "-re",
+        "caf\u00e9", "f\u00c9", "stra\u00dfe", "zephyr", "no1", "no42", "missing"
+    };
+
+    @Test
+    public void skipOccurrence_indexedStore_occurrenceNoLongerFound() throws EclipseException {
+        this.assertSkipOccurrence(new ObjectTaskStore());
+    }
+
+    @Test
+    public void skipOccurrence_scannedStore_occurrenceNoLongerFound() throws EclipseException {
+        this.assertSkipOccurrence(new SnapshotTaskStore());
+    }
+
+    @Test
+    public void skipOccurrence_notRecurringOrOutOfBounds_exceptionThrown() {
+        TaskList tasks = new TaskList(new ArrayList<>(List.of(new Todo("borrow book"))));
+
+        assertThrows(EclipseException.class, () -> tasks.skipOccurrence(0, MONDAY));
+        assertThrows(EclipseException.class, () -> tasks.skipOccurrence(1, MONDAY));
+    }
+
+    @Test
+    public void getSortedWindow_indexedStoreChanged_matchesFreshSort() throws EclipseException {
+        this.assertSortedWindows(new ObjectTaskStore());
+    }
+
+    @Test
+    public void getSortedWindow_scannedStoreChanged_matchesFreshSort() throws EclipseException {
+        this.assertSortedWindows(new SnapshotTaskStore());
+    }
+
+    /**
+     * Adds, deletes and marks tasks, and checks the finds answered from the token and trigram indexes
+     * against a scan of every description after each change,
+     * so that the indices shown stay correct as deletions shift positions.
+     * Substring keywords include ones too short for a trigram, common ones the index leaves to a scan,
+     * and rare ones from the numbered words only a few descriptions have.
+     */
+    @Test
+    public void find_indexedStoreChanged_matchesScan() throws EclipseException {
+        Random random = new Random(5);
+        TaskList tasks = new TaskList(new ArrayList<>(), new ObjectTaskStore());
+        assertTrue(tasks.buildIndexes());
+
+        for (int operationIdx = 0; operationIdx < FIND_OPERATIONS; operationIdx++) {
+            int choice = random.nextInt(10);
+            int size = tasks.getNumberOfTasks();
+            if (size == 0 || choice < 5) {
+                tasks.add(Parser.parse("todo " + randomDescription(random)));
+            } else if (choice < 7) {
+                tasks.delete(random.nextInt(size));
+            } else {
+                int idx = random.nextInt(size);
+                tasks.setDone(idx, !tasks.getTaskById(idx).get().isDone());
+            }
+
+            String words = WORD_QUERIES[random.nextInt(WORD_QUERIES.length)];
+            assertEquals(scanByWords(tasks.getTasks(), words), tasks.findByWords(words), words);
+            String prefix = PREFIX_QUERIES[random.nextInt(PREFIX_QUERIES.length)];
+            assertEquals(scanByPrefix(tasks.getTasks(), prefix), tasks.findByPrefix(prefix), prefix);
+
+            String keyword = SUBSTRING_QUERIES[random.nextInt(SUBSTRING_QUERIES.length)];
+            assertEquals(scanBySubstring(tasks.getTasks(), keyword), tasks.findBySubstring(keyword), keyword);
+            if (tasks.getNumberOfTasks() == 0) {
+                continue;
+            }
+            String description = tasks.getTaskById(random.nextInt(tasks.getNumberOfTasks())).get().getDescription();
+            int fromIdx = random.nextInt(description.length());
+            String descriptionPart = description.substring(
+                    fromIdx, Math.min(description.length(), fromIdx + 1 + random.nextInt(8))
+            );
+            assertEquals(
+                    scanBySubstring(tasks.getTasks(), descriptionPart),
+                    tasks.findBySubstring(descriptionPart),
+                    descriptionPart
+            );
+        }
+    }
+
+    /**
+     * Builds a view of every order, then adds, deletes, marks and skips occurrences of tasks,
+     * marking and deleting through the indices a window returns, as <code>list --sorted</code> shows them,
+     * and checks every order against a fresh sort of the list after each change.
+     */
+    private void assertSortedWindows(TaskStore store) throws EclipseException {
+        Random random = new Random(11);
+        TaskList tasks = new TaskList(new ArrayList<>(), store);
+        for (SortedView.Order order : SortedView.Order.values()) {
+            assertEquals(List.of(), tasks.getSortedWindow(order, 0, 10));
+        }
+
+        for (int operationIdx = 0; operationIdx < SORTED_VIEW_OPERATIONS; operationIdx++) {
+            int choice = random.nextInt(10);
+            SortedView.Order order = SortedView.Order.values()[random.nextInt(SortedView.Order.values().length)];
+            int size = tasks.getNumberOfTasks();
+            if (size == 0 || choice < 4) {
+                tasks.add(Parser.parse(randomAddCommand(random)));
+            } else if (choice < 6) {
+                int shownIdx = tasks.getSortedWindow(order, random.nextInt(size), 1).get(0);
+                int shownId = tasks.getTaskById(shownIdx).get().getId();
+                assertEquals(shownId, tasks.delete(shownIdx).getId());
+                assertEquals(Optional.empty(), tasks.getTaskWithInternalId(shownId));
+            } else if (choice < 8) {
+                int shownIdx = tasks.getSortedWindow(order, random.nextInt(size), 1).get(0);
+                Task shownTask = tasks.getTaskById(shownIdx).get();
+                boolean isDone = !shownTask.isDone();
+                Task markedTask = tasks.setDone(shownIdx, isDone).get();
+                assertEquals(shownTask.getId(), markedTask.getId());
+                assertEquals(isDone, tasks.getTaskById(shownIdx).get().isDone());
+            } else {
+                int idx = random.nextInt(size);
+                Task task = tasks.getTaskById(idx).get();
+                if (task instanceof RecurringTask) {
+                    Optional<LocalDate> nextStart = ((RecurringTask) task).getNextStart(
+                            MONDAY.plusDays(random.nextInt(60))
+                    );
+                    if (nextStart.isPresent()) {
+                        tasks.skipOccurrence(idx, nextStart.get());
+                    }
+                }
+            }
+
+            for (SortedView.Order checkedOrder : SortedView.Order.values()) {
+                List<Integer> expectedIndices = sortIndices(tasks.getTasks(), checkedOrder);
+                int windowSize = 1 + random.nextInt(7);
+                List<Integer> streamedIndices = new ArrayList<>();
+                Iterator<List<Integer>> windows = tasks.getSortedWindows(checkedOrder, windowSize);
+                while (windows.hasNext()) {
+                    List<Integer> window = windows.next();
+                    assertTrue(!window.isEmpty() && window.size() <= windowSize, checkedOrder.getWord());
+                    streamedIndices.addAll(window);
+                }
+                assertEquals(expectedIndices, streamedIndices, checkedOrder.getWord());
+                int fromRank = random.nextInt(expectedIndices.size() + 1);
+                assertEquals(
+                        expectedIndices.subList(fromRank, Math.min(expectedIndices.size(), fromRank + 5)),
+                        tasks.getSortedWindow(checkedOrder, fromRank, 5),
+                        checkedOrder.getWord()
+                );
+            }
+        }
+    }
+
+    private static String randomAddCommand(Random random) {
+        String description = (random.nextBoolean() ? "task " : "Task ") + random.nextInt(30);
+        LocalDate date = MONDAY.plusDays(random.nextInt(30));
+        switch (random.nextInt(4)) {
+        case 0:
+            return "todo " + description;
+        case 1:
+            return "deadline " + description + " /by " + date;
+        case 2:
+            return "event " + description + " /from " + date + " /to " + date.plusDays(random.nextInt(3));
+        default:
+            return "deadline " + description + " /by " + date + " /every week";
+        }
+    }
+
+    private static List<Integer> sortIndices(List<Task> tasks, SortedView.Order order) {
+        Map<Task, Integer> indicesByTask = new IdentityHashMap<>();
+        for (int idx = 0; idx < tasks.size(); idx++) {
+            indicesByTask.put(tasks.get(idx), idx);
+        }
+        List<Task> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort(order.getComparator());
+        List<Integer> indices = new ArrayList<>();
+        for (Task task : sortedTasks) {
+            indices.add(indicesByTask.get(task));
+        }
+        return indices;
+    }
+
+    private static String randomDescription(Random random) {
+        List<String> words = new ArrayList<>();
+        int wordCount = 1 + random.nextInt(4);
+        for (int wordIdx = 0; wordIdx < wordCount; wordIdx++) {
+            words.add(random.nextInt(4) == 0
+                    ? RARE_WORDS[random.nextInt(RARE_WORDS.length)]
+                    : COMMON_WORDS[random.nextInt(COMMON_WORDS.length)]);
+        }
+        if (random.nextInt(3) == 0) {
+            words.add("no" + random.nextInt(1000));
+        }
+        return String.join(" ", words);
+    }
+
+    private static List<Integer> scanByWords(List<Task> tasks, String words) {
+        List<String> queryTokens = TokenIndex.tokenize(words);
+        List<Integer> indices = new ArrayList<>();
+        for (int idx = 0; idx < tasks.size(); idx++) {
+            List<String> tokens = TokenIndex.tokenize(tasks.get(idx).getDescription());
+            if (!queryTokens.isEmpty() && tokens.containsAll(queryTokens)) {
+                indices.add(idx);
+            }
+        }
+        return indices;
+    }
+
+    private static List<Integer> scanBySubstring(List<Task> tasks, String keyword) {
+        List<Integer> indices = new ArrayList<>();
+        for (int idx = 0; idx < tasks.size(); idx++) {
+            if (tasks.get(idx).getDescription().contains(keyword)) {
+                indices.add(idx);
+            }
+        }
+        return indices;
+    }
+
+    private static List<Integer> scanByPrefix(List<Task> tasks, String prefix) {
+        String normalizedPrefix = prefix.trim().toLowerCase(Locale.ROOT);
+        List<Integer> indices = new ArrayList<>();
+        for (int idx = 0; idx < tasks.size(); idx++) {
+            for (String token : TokenIndex.tokenize(tasks.get(idx).getDescription())) {
+                if (!normalizedPrefix.isEmpty() && token.startsWith(normalizedPrefix)) {
+                    indices.add(idx);
+                    break;
+                }
+            }
+        }
+        return indices;
+    }
+
+    private void assertSkipOccurrence(TaskStore store) throws EclipseException {
+        RecurringTask rent = new RecurringTask(
+                "pay rent", false, MONDAY, new Recurrence(Recurrence.Frequency.WEEKLY, MONDAY.plusDays(21))
+        );
+        TaskList tasks = new TaskList(new ArrayList<>(List.of(new Todo("borrow book"), rent)), store);
+        tasks.buildIndexes();
+        int rentId = tasks.getTaskById(1).get().getId();
+
+        RecurringTask skippedRent = tasks.skipOccurrence(1, MONDAY.plusDays(7));
+
+        assertEquals(rentId, skippedRent.getId());
+        assertEquals(List.of(), tasks.findBetween(MONDAY.plusDays(7), MONDAY.plusDays(7)));
+        assertEquals(List.of(1), tasks.findBetween(MONDAY.plusDays(7), MONDAY.plusDays(14)));
+        assertEquals(List.of(1), tasks.findDueBy(MONDAY));
+        Task storedRent = tasks.getTaskById(1).get();
+        assertTrue(storedRent.toStorageString().endsWith("skip 2025-01-13"), storedRent.toStorageString());
+        assertThrows(EclipseException.class, () -> tasks.skipOccurrence(1, MONDAY.plusDays(7)));
+    }
+}
@@ -0,0 +1,167 @@
+package eclipse.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.storage.StorageParser;
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+public class ColumnarTaskStoreTest {
+    private static final int OPERATIONS = 20_000;
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+
+    /**
+     * Applies the same random changes to a columnar store and to an object store,
+     * and checks that both hold the same tasks throughout, including across arena compactions.
+     */
+    @Test
+    public void randomOperations_matchObjectStore() {
+        Random random = new Random(3);
+        ColumnarTaskStore store = new ColumnarTaskStore();
+        ObjectTaskStore oracle = new ObjectTaskStore();
+
+        for (int operationIdx = 0; operationIdx < OPERATIONS; operationIdx++) {
+            int choice = random.nextInt(10);
+            if (oracle.size() == 0 || choice < 4) {
+                Task task = randomTask(random);
+                store.add(task);
+                oracle.add(copyOf(task));
+            } else if (choice < 7) {
+                int idx = random.nextInt(oracle.size());
+                assertEquals(oracle.remove(idx).toStorageString(), store.remove(idx).toStorageString());
+            } else if (choice < 9) {
+                int idx = random.nextInt(oracle.size());
+                Task task = randomTask(random);
+                assertEquals(oracle.get(idx).toStorageString(), store.set(idx, task).toStorageString());
+                oracle.set(idx, copyOf(task));
+            } else {
+                int idx = random.nextInt(oracle.size());
+                boolean isDone = random.nextBoolean();
+                assertEquals(
+                        oracle.setDone(idx, isDone).toStorageString(),
+                        store.setDone(idx, isDone).toStorageString()
+                );
+            }
+
+            assertEquals(oracle.size(), store.size());
+            if (oracle.size() > 0) {
+                int idx = random.nextInt(oracle.size());
+                assertEquals(oracle.get(idx).toStorageString(), store.get(idx).toStorageString());
+            }
+        }
+
+        assertEquals(toStorageStrings(oracle.iteratorFrom(0)), toStorageStrings(store.iteratorFrom(0)));
+    }
+
+    /**
+     * Replacing descriptions with longer ones moves them to the end of the arena, out of task order,
+     * so the compaction after deleting most tasks has to copy them back into task order.
+     */
+    @Test
+    public void remove_afterLongerDescriptionsSet_compactsOutOfOrderArena() {
+        ColumnarTaskStore store = new ColumnarTaskStore();
+        List<String> expected = new ArrayList<>();
+        for (int taskIdx = 0; taskIdx < 100; taskIdx++) {
+            store.add(new Todo("task " + taskIdx));
+            expected.add("T | 0 | task " + taskIdx);
+        }
+        for (int taskIdx = 0; taskIdx < 100; taskIdx += 3) {
+            store.set(taskIdx, new Todo("a much longer description for task " + taskIdx));
+            expected.set(taskIdx, "T | 0 | a much longer description for task " + taskIdx);
+        }
+        long bytesBeforeDeleting = store.estimateMemoryBytes();
+
+        for (int taskIdx = 99; taskIdx >= 0; taskIdx--) {
+            if (taskIdx % 4 != 0) {
+                store.remove(taskIdx);
+                expected.remove(taskIdx);
+            }
+        }
+        store.add(new Todo("added after compaction"));
+        expected.add("T | 0 | added after compaction");
+
+        assertEquals(expected, toStorageStrings(store.iteratorFrom(0)));
+        assertTrue(store.estimateMemoryBytes() <= bytesBeforeDeleting);
+    }
+
+    @Test
+    public void get_recurringTask_reconstructed() {
+        Recurrence recurrence = new Recurrence(Recurrence.Frequency.WEEKLY, LocalDate.of(2025, 3, 31))
+                .withSkipped(LocalDate.of(2025, 1, 13));
+        RecurringTask series = new RecurringTask("standup", false, START, START.plusDays(1), recurrence);
+        ColumnarTaskStore store = new ColumnarTaskStore();
+        store.add(new Todo("borrow book"));
+        store.add(series);
+
+        Task task = store.get(1);
+
+        assertTrue(task instanceof RecurringTask);
+        RecurringTask readSeries = (RecurringTask) task;
+        assertTrue(readSeries.isEventSeries());
+        assertEquals(series.toStorageString(), readSeries.toStorageString());
+        assertEquals(series.getNextStart(LocalDate.of(2025, 1, 7)), readSeries.getNextStart(LocalDate.of(2025, 1, 7)));
+
+        // Replacing the only recurring task with a plain one must not leave its recurrence behind
+        store.set(1, new Deadline("return book", true, START));
+        assertEquals("D | 1 | return book | 2025-01-06", store.get(1).toStorageString());
+        store.set(0, series.copyWithDone(true));
+        assertEquals(series.copyWithDone(true).toStorageString(), store.get(0).toStorageString());
+    }
+
+    private static Task randomTask(Random random) {
+        // Descriptions of varying lengths, some not ASCII, to move them around the arena
+        String description = "task " + "x".repeat(1 + random.nextInt(30));
+        if (random.nextInt(5) == 0) {
+            description += " \u00e9\u2615";
+        }
+        boolean isDone = random.nextBoolean();
+        LocalDate date = START.plusDays(random.nextInt(100));
+        switch (random.nextInt(5)) {
+        case 0:
+            return new Todo(description, isDone);
+        case 1:
+            return new Deadline(description, isDone, date);
+        case 2:
+            return new Event(description, isDone, date, date.plusDays(random.nextInt(3)));
+        case 3:
+            return new RecurringTask(description, isDone, date, new Recurrence(Recurrence.Frequency.DAILY, null));
+        default:
+            Recurrence recurrence = new Recurrence(Recurrence.Frequency.WEEKLY, date.plusDays(70))
+                    .withSkipped(date.plusDays(7));
+            return new RecurringTask(description, isDone, date, date.plusDays(1), recurrence);
+        }
+    }
+
+    /**
+     * Copies a task through its storage form, so that the oracle never shares a task with the store under test.
+     */
+    private static Task copyOf(Task task) {
+        try {
+            return new StorageParser().parseStoredLine(task.toStorageString());
+        } catch (EclipseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> toStorageStrings(Iterator<Task> iterator) {
+        List<String> storageStrings = new ArrayList<>();
+        while (iterator.hasNext()) {
+            storageStrings.add(iterator.next().toStorageString());
+        }
+        return storageStrings;
+    }
+}
@@ -0,0 +1,209 @@
+package eclipse.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eclipse.TaskList;
+import eclipse.backend.ObjectTaskStore;
+import eclipse.backend.SnapshotTaskStore;
+import eclipse.exceptions.EclipseException;
+import eclipse.parser.Parser;
+import eclipse.storage.StorageParser;
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+public class AgendaIndexTest {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    @Test
+    public void findNext_recurringOccurrencePassed_rekeyedToNextOccurrence() {
+        AgendaIndex index = new AgendaIndex();
+        RecurringTask standUp = createTask(
+                new RecurringTask("stand-up", false, FIRST_DAY, new Recurrence(Recurrence.Frequency.DAILY, day(9))),
+                0
+        );
+        Deadline report = createTask(new Deadline("report", false, day(2)), 1);
+        index.add(standUp);
+        index.add(report);
+
+        assertEquals(List.of(standUp, report), index.findNext(FIRST_DAY, 5));
+        // Coming up on the same day, ordered by internal ID
+        assertEquals(List.of(standUp, report), index.findNext(day(2), 2));
+        assertEquals(List.of(standUp), index.findNext(day(3), 5));
+        assertEquals(List.of(), index.findNext(day(10), 5));
+        // Going back re-keys the series from the earlier date
+        assertEquals(List.of(standUp, report), index.findNext(day(1), 2));
+        assertEquals(List.of(standUp), index.findComingUpBetween(day(1), day(1)));
+    }
+
+    @Test
+    public void remove_skippedRecurringTaskReplaced_nextOccurrenceAfterSkip() throws EclipseException {
+        AgendaIndex index = new AgendaIndex();
+        RecurringTask rent = createTask(
+                new RecurringTask("pay rent", false, FIRST_DAY, new Recurrence(Recurrence.Frequency.WEEKLY, null)),
+                0
+        );
+        Deadline report = createTask(new Deadline("report", false, day(10)), 1);
+        index.add(rent);
+        index.add(report);
+        assertEquals(List.of(rent, report), index.findNext(day(1), 2));
+
+        RecurringTask skippedRent = rent.withSkipped(day(7));
+        index.remove(rent);
+        index.add(skippedRent);
+
+        assertEquals(List.of(report, skippedRent), index.findNext(day(1), 2));
+        index.remove(skippedRent);
+        assertEquals(List.of(report), index.findNext(day(1), 2));
+    }
+
+    /**
+     * Adds, removes, marks and skips random tasks while querying from dates that mostly move forward,
+     * checking every query against the tasks still indexed, sorted by the date they next come up on.
+     */
+    @Test
+    public void findComingUp_randomChanges_matchesSortedScan() throws EclipseException {
+        Random random = new Random(11);
+        AgendaIndex index = new AgendaIndex();
+        List<Task> indexedTasks = new ArrayList<>();
+        LocalDate from = FIRST_DAY;
+
+        for (int operationIdx = 0; operationIdx < 3000; operationIdx++) {
+            int operation = random.nextInt(10);
+            if (indexedTasks.isEmpty() || operation < 4) {
+                Task task = createTask(createRandomTask(random, operationIdx), operationIdx);
+                index.add(task);
+                indexedTasks.add(task);
+            } else if (operation < 6) {
+                index.remove(indexedTasks.remove(random.nextInt(indexedTasks.size())));
+            } else if (operation < 8) {
+                Task task = indexedTasks.get(random.nextInt(indexedTasks.size()));
+                if (task.isDone()) {
+                    task.markAsNotDone();
+                    index.add(task);
+                } else {
+                    task.markAsDone();
+                    index.remove(task);
+                }
+            } else {
+                int taskIdx = random.nextInt(indexedTasks.size());
+                if (indexedTasks.get(taskIdx) instanceof RecurringTask) {
+                    RecurringTask task = (RecurringTask) indexedTasks.get(taskIdx);
+                    Optional<LocalDate> nextStart = task.getNextStart(from);
+                    if (nextStart.isPresent()) {
+                        RecurringTask skippedTask = task.withSkipped(nextStart.get());
+                        index.remove(task);
+                        index.add(skippedTask);
+                        indexedTasks.set(taskIdx, skippedTask);
+                    }
+                }
+            }
+
+            from = random.nextInt(20) == 0 ? from.minusDays(random.nextInt(30)) : from.plusDays(random.nextInt(2));
+            LocalDate to = from.plusDays(random.nextInt(15));
+            int count = 1 + random.nextInt(10);
+            String message = "from " + from + " to " + to;
+            assertEquals(scanComingUp(indexedTasks, from, LocalDate.MAX, count), index.findNext(from, count), message);
+            assertEquals(
+                    scanComingUp(indexedTasks, from, to, Integer.MAX_VALUE),
+                    index.findComingUpBetween(from, to),
+                    message
+            );
+        }
+    }
+
+    /**
+     * Applies the same random changes to a list answering from the agenda index and to a list scanning its store,
+     * which keeps the nearest tasks in a bounded heap, and checks that both find the same tasks coming up.
+     */
+    @Test
+    public void findNext_indexedAndScannedLists_sameIndices() throws EclipseException {
+        Random random = new Random(5);
+        StorageParser storageParser = new StorageParser();
+        List<Task> indexedTasks = new ArrayList<>();
+        List<Task> scannedTasks = new ArrayList<>();
+        for (int taskIdx = 0; taskIdx < 200; taskIdx++) {
+            Task task = createRandomTask(random, taskIdx);
+            indexedTasks.add(task);
+            scannedTasks.add(storageParser.parseStoredLine(task.toStorageString()));
+        }
+        TaskList indexedList = new TaskList(indexedTasks, new ObjectTaskStore());
+        TaskList scannedList = new TaskList(scannedTasks, new SnapshotTaskStore());
+
+        LocalDate from = FIRST_DAY;
+        for (int operationIdx = 0; operationIdx < 500; operationIdx++) {
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                String input = "deadline due " + operationIdx + " /by " + day(random.nextInt(365));
+                indexedList.add(Parser.parse(input));
+                scannedList.add(Parser.parse(input));
+            } else if (operation == 1 && indexedList.getNumberOfTasks() > 0) {
+                int idx = random.nextInt(indexedList.getNumberOfTasks());
+                indexedList.delete(idx);
+                scannedList.delete(idx);
+            } else if (indexedList.getNumberOfTasks() > 0) {
+                int idx = random.nextInt(indexedList.getNumberOfTasks());
+                boolean isDone = random.nextBoolean();
+                indexedList.setDone(idx, isDone);
+                scannedList.setDone(idx, isDone);
+            }
+
+            from = from.plusDays(random.nextInt(3));
+            int count = 1 + random.nextInt(10);
+            assertEquals(scannedList.findNext(from, count), indexedList.findNext(from, count), "from " + from);
+            LocalDate to = from.plusDays(random.nextInt(10));
+            assertEquals(scannedList.findComingUpBetween(from, to), indexedList.findComingUpBetween(from, to));
+        }
+    }
+
+    private static Task createRandomTask(Random random, int taskIdx) {
+        LocalDate start = day(random.nextInt(365));
+        switch (random.nextInt(4)) {
+        case 0:
+            return new Todo("todo " + taskIdx, random.nextInt(4) == 0);
+        case 1:
+            return new Deadline("deadline " + taskIdx, random.nextInt(4) == 0, start);
+        case 2:
+            return new Event("event " + taskIdx, random.nextInt(4) == 0, start, start.plusDays(random.nextInt(3)));
+        default:
+            Recurrence.Frequency frequency = random.nextBoolean()
+                    ? Recurrence.Frequency.DAILY
+                    : Recurrence.Frequency.WEEKLY;
+            LocalDate until = random.nextBoolean() ? null : start.plusDays(random.nextInt(60));
+            return new RecurringTask("series " + taskIdx, false, start, new Recurrence(frequency, until));
+        }
+    }
+
+    private static List<Task> scanComingUp(List<Task> tasks, LocalDate from, LocalDate to, int count) {
+        List<Task> matches = new ArrayList<>();
+        for (Task task : tasks) {
+            if (AgendaIndex.nextDateOf(task, from).filter(date -> !date.isAfter(to)).isPresent()) {
+                matches.add(task);
+            }
+        }
+        matches.sort(Comparator.comparing((Task task) -> AgendaIndex.nextDateOf(task, from).get())
+                .thenComparingInt(Task::getId));
+        return matches.size() > count ? matches.subList(0, count) : matches;
+    }
+
+    private static <T extends Task> T createTask(T task, int id) {
+        task.setId(id);
+        return task;
+    }
+
+    private static LocalDate day(int dayIdx) {
+        return FIRST_DAY.plusDays(dayIdx);
+    }
+}
@@ -0,0 +1,164 @@
+package eclipse.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+public class DateIndexTest {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    @Test
+    public void findBetween_seriesEndedBeforeRange_notFound() {
+        DateIndex index = new DateIndex();
+        RecurringTask endedTask = new RecurringTask(
+                "ended", false, FIRST_DAY, new Recurrence(Recurrence.Frequency.DAILY, FIRST_DAY.plusDays(9))
+        );
+        RecurringTask endlessTask = new RecurringTask(
+                "endless", false, FIRST_DAY, new Recurrence(Recurrence.Frequency.WEEKLY, null)
+        );
+        index.add(endedTask);
+        index.add(endlessTask);
+
+        assertEquals(List.of(endlessTask), index.findBetween(FIRST_DAY.plusDays(14), FIRST_DAY.plusDays(14)));
+        assertEquals(List.of(), index.findBetween(FIRST_DAY.plusDays(15), FIRST_DAY.plusDays(20)));
+        assertEquals(2, index.findDueBy(FIRST_DAY).size());
+        assertEquals(List.of(), index.findDueBy(FIRST_DAY.minusDays(1)));
+    }
+
+    @Test
+    public void remove_skippedSeriesReplaced_onlyNewVersionFound() throws EclipseException {
+        DateIndex index = new DateIndex();
+        RecurringTask task = new RecurringTask(
+                "yoga", false, FIRST_DAY, FIRST_DAY, new Recurrence(Recurrence.Frequency.DAILY, null)
+        );
+        index.add(task);
+
+        RecurringTask skippedTask = task.withSkipped(FIRST_DAY.plusDays(1));
+        index.remove(task);
+        index.add(skippedTask);
+
+        assertEquals(List.of(), index.findBetween(FIRST_DAY.plusDays(1), FIRST_DAY.plusDays(1)));
+        assertEquals(List.of(skippedTask), index.findBetween(FIRST_DAY, FIRST_DAY.plusDays(1)));
+    }
+
+    /**
+     * Adds and removes random tasks of every type, recurring ones with and without an end and skipped occurrences,
+     * and checks every query against a scan of the tasks still indexed.
+     */
+    @Test
+    public void findBetween_randomTasks_matchesScan() throws EclipseException {
+        Random random = new Random(7);
+        DateIndex index = new DateIndex();
+        List<Task> indexedTasks = new ArrayList<>();
+
+        for (int operationIdx = 0; operationIdx < 2000; operationIdx++) {
+            if (!indexedTasks.isEmpty() && random.nextInt(4) == 0) {
+                Task removedTask = indexedTasks.remove(random.nextInt(indexedTasks.size()));
+                index.remove(removedTask);
+            } else {
+                Task task = createRandomTask(random, operationIdx);
+                index.add(task);
+                indexedTasks.add(task);
+            }
+
+            LocalDate from = FIRST_DAY.plusDays(random.nextInt(400) - 20);
+            LocalDate to = from.plusDays(random.nextInt(20));
+            String message = "between " + from + " and " + to;
+            assertEquals(scanBetween(indexedTasks, from, to), identitySetOf(index.findBetween(from, to)), message);
+            assertEquals(scanDueBy(indexedTasks, to), identitySetOf(index.findDueBy(to)), message);
+
+            Event event = new Event("query", false, from, to);
+            Set<Task> expectedOverlapping = scanBetween(indexedTasks, from, to);
+            expectedOverlapping.removeIf(task -> task instanceof Deadline || isDeadlineSeries(task));
+            assertEquals(expectedOverlapping, identitySetOf(index.findOverlappingEvents(event)), message);
+        }
+    }
+
+    private static Task createRandomTask(Random random, int taskIdx) throws EclipseException {
+        LocalDate start = FIRST_DAY.plusDays(random.nextInt(365));
+        LocalDate end = start.plusDays(random.nextInt(5));
+        switch (random.nextInt(4)) {
+        case 0:
+            return new Todo("todo " + taskIdx);
+        case 1:
+            return new Deadline("deadline " + taskIdx, false, start);
+        case 2:
+            return new Event("event " + taskIdx, false, start, end);
+        default:
+            Recurrence.Frequency frequency = random.nextBoolean()
+                    ? Recurrence.Frequency.DAILY
+                    : Recurrence.Frequency.WEEKLY;
+            // Sometimes ending before it starts, which leaves the series without any occurrence
+            LocalDate until = random.nextBoolean() ? null : start.plusDays(random.nextInt(60) - 5);
+            Recurrence recurrence = new Recurrence(frequency, until);
+            RecurringTask task = random.nextBoolean()
+                    ? new RecurringTask("series " + taskIdx, false, start, recurrence)
+                    : new RecurringTask("series " + taskIdx, false, start, end, recurrence);
+            if (task.countOccurrencesBetween(start, start) > 0 && random.nextBoolean()) {
+                task = task.withSkipped(start);
+            }
+            return task;
+        }
+    }
+
+    private static Set<Task> scanBetween(List<Task> tasks, LocalDate from, LocalDate to) {
+        Set<Task> matches = identitySetOf(List.of());
+        for (Task task : tasks) {
+            boolean isMatch;
+            if (task instanceof RecurringTask) {
+                isMatch = ((RecurringTask) task).countOccurrencesBetween(from, to) > 0;
+            } else if (task instanceof Deadline) {
+                LocalDate by = ((Deadline) task).getBy();
+                isMatch = !by.isBefore(from) && !by.isAfter(to);
+            } else if (task instanceof Event) {
+                Event event = (Event) task;
+                isMatch = !event.getFrom().isAfter(to) && !event.getTo().isBefore(from);
+            } else {
+                isMatch = false;
+            }
+            if (isMatch) {
+                matches.add(task);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Task> scanDueBy(List<Task> tasks, LocalDate date) {
+        Set<Task> matches = identitySetOf(List.of());
+        for (Task task : tasks) {
+            if (task instanceof Deadline && !((Deadline) task).getBy().isAfter(date)) {
+                matches.add(task);
+            } else if (isDeadlineSeries(task)
+                    && ((RecurringTask) task).countOccurrencesBetween(LocalDate.MIN, date) > 0) {
+                matches.add(task);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean isDeadlineSeries(Task task) {
+        return task instanceof RecurringTask && !((RecurringTask) task).isEventSeries();
+    }
+
+    private static Set<Task> identitySetOf(List<Task> tasks) {
+        Set<Task> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(tasks);
+        return set;
+    }
+}
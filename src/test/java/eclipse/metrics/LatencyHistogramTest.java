@@ -0,0 +1,114 @@
+package eclipse.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+    /**
+     * A latency far larger than any under test, recorded alongside one so that the median falls into
+     * the bucket of that one and is reported as the upper bound of the bucket rather than capped at the maximum.
+     */
+    private static final long FAR_LARGER_NANOS = 1L << 39;
+
+    @Test
+    public void getPercentileNanos_nothingRecorded_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getPercentileNanos(0.5));
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void getPercentileNanos_bucketBoundaries_upperBoundOfBucket() {
+        // Below 32, every latency has a bucket of its own
+        assertEquals(0, bucketUpperBoundOf(0));
+        assertEquals(15, bucketUpperBoundOf(15));
+        assertEquals(16, bucketUpperBoundOf(16));
+        assertEquals(31, bucketUpperBoundOf(31));
+        // From there on, each power of two is split into 16 buckets
+        assertEquals(33, bucketUpperBoundOf(32));
+        assertEquals(33, bucketUpperBoundOf(33));
+        assertEquals(35, bucketUpperBoundOf(34));
+        assertEquals(67, bucketUpperBoundOf(64));
+        assertEquals(1_015_807, bucketUpperBoundOf(1_000_000));
+    }
+
+    @Test
+    public void getPercentileNanos_anyLatency_withinSixPercentAbove() {
+        for (long nanos = 1; nanos < FAR_LARGER_NANOS; nanos = nanos * 3 + 1) {
+            long upperBound = bucketUpperBoundOf(nanos);
+            assertTrue(upperBound >= nanos, nanos + " reported as " + upperBound);
+            assertTrue(upperBound - nanos <= nanos / 16, nanos + " reported as " + upperBound);
+        }
+    }
+
+    @Test
+    public void getPercentileNanos_uniformLatencies_percentilesAndExactMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        assertWithinBucket(500_000, histogram.getPercentileNanos(0.5));
+        assertWithinBucket(990_000, histogram.getPercentileNanos(0.99));
+        assertEquals(1_000_000, histogram.getPercentileNanos(1.0));
+        assertWithinBucket(1_000, histogram.getPercentileNanos(0.0));
+    }
+
+    @Test
+    public void record_negativeOrHugeLatency_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getPercentileNanos(1.0));
+
+        long hugeNanos = 1L << 45;
+        histogram.record(hugeNanos);
+        assertEquals(hugeNanos, histogram.getMaxNanos());
+        assertEquals((1L << 40) - 1, histogram.getPercentileNanos(1.0), "beyond the largest tracked latency");
+    }
+
+    @Test
+    public void record_concurrentThreads_everyLatencyCounted() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int threadIdx = 0; threadIdx < 4; threadIdx++) {
+            long offset = threadIdx;
+            threads.add(new Thread(() -> {
+                for (int recordIdx = 0; recordIdx < 10_000; recordIdx++) {
+                    histogram.record(recordIdx * 4 + offset);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(39_999, histogram.getMaxNanos());
+    }
+
+    private static long bucketUpperBoundOf(long nanos) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(nanos);
+        histogram.record(FAR_LARGER_NANOS);
+        return histogram.getPercentileNanos(0.5);
+    }
+
+    private static void assertWithinBucket(long expectedNanos, long actualNanos) {
+        assertTrue(
+                actualNanos >= expectedNanos && actualNanos - expectedNanos <= expectedNanos / 16,
+                "expected about " + expectedNanos + " but was " + actualNanos
+        );
+    }
+}
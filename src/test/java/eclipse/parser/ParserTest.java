@@ -129,4 +129,81 @@ public class ParserTest {
                     "Exception thrown while parsing event params with invalid format");
         }
     }
+
+    @Test
+    public void parse_validBetween_success() throws EclipseException {
+        String betweenInput = "between 2019-10-14   2019-10-20 ";
+        ParsedInput parsedInput = Parser.parse(betweenInput);
+        assertEquals(Command.BETWEEN, parsedInput.getCommand(), "extracted command type to be 'BETWEEN'");
+        assertEquals("2019-10-14", parsedInput.getFrom().toString());
+        assertEquals("2019-10-20", parsedInput.getTo().toString());
+    }
+
+    @Test
+    public void parse_reversedBetweenRange_exceptionThrown() {
+        String reversedBetweenInput = "between 2019-10-20 2019-10-14";
+        try {
+            Parser.parse(reversedBetweenInput);
+            fail();
+        } catch (EclipseException e) {
+            assertEquals(
+                    "The range of command type 'between' ends before it starts: 2019-10-20 2019-10-14",
+                    e.getMessage(),
+                    "Exception thrown while parsing a range ending before it starts");
+        }
+    }
+
+    @Test
+    public void parse_recurringEvent_success() throws EclipseException {
+        String recurringEventInput = "event standup /from 2025-01-06 /to 2025-01-06 /every day  /until 2025-01-31";
+        ParsedInput parsedInput = Parser.parse(recurringEventInput);
+        assertEquals(Command.EVENT, parsedInput.getCommand(), "extracted command type to be 'EVENT'");
+        assertEquals("standup", parsedInput.getParams());
+        assertEquals("2025-01-06", parsedInput.getTo().toString());
+        assertEquals(
+                "every day until 2025-01-31",
+                parsedInput.getOptionalRecurrence().map(recurrence -> recurrence.toStorageString()).orElse("")
+        );
+    }
+
+    @Test
+    public void parseNextCount_noNumber_defaultCount() throws EclipseException {
+        ParsedInput parsedInput = Parser.parse(" next ");
+        assertEquals(Command.NEXT, parsedInput.getCommand(), "extracted command type to be 'NEXT'");
+        assertEquals(5, Parser.parseNextCount(parsedInput.getOptionalParams(), 5));
+    }
+
+    @Test
+    public void parseNextCount_validNumber_success() throws EclipseException {
+        ParsedInput parsedInput = Parser.parse("next 12 ");
+        assertEquals(12, Parser.parseNextCount(parsedInput.getOptionalParams(), 5));
+    }
+
+    @Test
+    public void parseNextCount_notANumber_exceptionThrown() throws EclipseException {
+        ParsedInput parsedInput = Parser.parse("next few");
+        try {
+            Parser.parseNextCount(parsedInput.getOptionalParams(), 5);
+            fail();
+        } catch (EclipseException e) {
+            assertEquals(
+                    "Invalid number of tasks for command type 'next': few",
+                    e.getMessage(),
+                    "Exception thrown while parsing a count that is not a number");
+        }
+    }
+
+    @Test
+    public void parseNextCount_notPositive_exceptionThrown() throws EclipseException {
+        ParsedInput parsedInput = Parser.parse("next 0");
+        try {
+            Parser.parseNextCount(parsedInput.getOptionalParams(), 5);
+            fail();
+        } catch (EclipseException e) {
+            assertEquals(
+                    "The number of tasks for command type 'next' must be positive: 0",
+                    e.getMessage(),
+                    "Exception thrown while parsing a count that is not positive");
+        }
+    }
 }
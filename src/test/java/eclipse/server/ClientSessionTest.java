@@ -0,0 +1,48 @@
+package eclipse.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import eclipse.InputHandler;
+
+public class ClientSessionTest {
+    @Test
+    public void run_consoleOnlyCommands_refusedWithoutReachingHandler() throws IOException, InterruptedException {
+        List<String> handledInputs = Collections.synchronizedList(new ArrayList<>());
+        InputHandler handler = (input, ui) -> {
+            handledInputs.add(input);
+            return !input.equals("bye");
+        };
+
+        String output;
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+                Socket client = new Socket(serverSocket.getInetAddress(), serverSocket.getLocalPort())) {
+            Thread session = new Thread(new ClientSession(serverSocket.accept(), handler));
+            session.start();
+
+            OutputStream out = client.getOutputStream();
+            out.write("run /etc/passwd\nconvert binary\ndue someday\nlist\nbye\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            // The session closes the connection once it has answered bye
+            output = new String(client.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            session.join();
+        }
+
+        // Input that cannot be parsed is left to the handler to report
+        assertEquals(List.of("due someday", "list", "bye"), handledInputs);
+        assertTrue(output.contains("can only be run from the console of the server: run /etc/passwd"), output);
+        assertTrue(output.contains("can only be run from the console of the server: convert binary"), output);
+    }
+}
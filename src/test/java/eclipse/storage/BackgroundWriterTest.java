@@ -0,0 +1,68 @@
+package eclipse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import eclipse.exceptions.EclipseException;
+
+public class BackgroundWriterTest {
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @Test
+    public void flush_failsTwice_retriedWithoutFurtherChanges() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        BackgroundWriter writer = new BackgroundWriter(() -> {
+            if (attempts.incrementAndGet() <= 2) {
+                throw new EclipseException("disk full");
+            }
+            successes.incrementAndGet();
+        }, e -> errors.incrementAndGet(), 1, 10);
+
+        writer.markDirty();
+        awaitCount(successes, 1);
+        writer.close();
+
+        assertEquals(1, successes.get());
+        assertEquals(2, errors.get());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void close_unsavedChanges_flushedOnce() {
+        AtomicInteger flushes = new AtomicInteger();
+        BackgroundWriter writer = new BackgroundWriter(flushes::incrementAndGet, e -> { }, 60_000, 60_000);
+
+        writer.markDirty();
+        writer.markDirty();
+        writer.close();
+
+        assertEquals(1, flushes.get());
+    }
+
+    @Test
+    public void close_flushKeepsFailing_returnsAfterFinalAttempt() {
+        AtomicInteger errors = new AtomicInteger();
+        BackgroundWriter writer = new BackgroundWriter(() -> {
+            throw new EclipseException("disk full");
+        }, e -> errors.incrementAndGet(), 60_000, 60_000);
+
+        writer.markDirty();
+        writer.close();
+
+        assertEquals(1, errors.get());
+    }
+
+    private static void awaitCount(AtomicInteger counter, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (counter.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(counter.get() >= count, "timed out waiting for " + count + ", got " + counter.get());
+    }
+}
@@ -0,0 +1,121 @@
+package eclipse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+public class BinaryTaskCodecTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void read_writtenTasks_roundTrip() throws EclipseException {
+        Recurrence weeklyUntil = new Recurrence(Recurrence.Frequency.WEEKLY, LocalDate.of(2025, 3, 31))
+                .withSkipped(LocalDate.of(2025, 1, 13));
+        List<Task> tasks = List.of(
+                new Todo("borrow book", true),
+                new Deadline("return book", false, LocalDate.of(2025, 1, 6)),
+                new Event("project meeting", true, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2)),
+                new Todo("caf\u00e9 \u2615 " + "x".repeat(200), false),
+                new RecurringTask("pay rent", false, LocalDate.of(2025, 1, 6), weeklyUntil),
+                new RecurringTask("standup", true, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 7),
+                        new Recurrence(Recurrence.Frequency.DAILY, null))
+        );
+        File file = this.tempDir.resolve("tasks.bin").toFile();
+
+        BinaryTaskCodec.write(file, tasks);
+
+        assertTrue(BinaryTaskCodec.isBinary(file));
+        assertEquals(toStorageStrings(tasks), toStorageStrings(BinaryTaskCodec.read(file)));
+    }
+
+    @Test
+    public void read_versionOneFile_success() throws EclipseException, IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.write(new byte[] {'E', 'C', 'L', 'B', 1});
+        output.writeInt(2);
+        output.writeByte('D');
+        output.writeByte(1);
+        output.writeInt((int) LocalDate.of(2025, 1, 6).toEpochDay());
+        writeDescription(output, "return book");
+        output.writeByte('T');
+        output.writeByte(0);
+        writeDescription(output, "borrow book");
+        Path file = this.tempDir.resolve("tasks.bin");
+        Files.write(file, bytes.toByteArray());
+
+        assertEquals(
+                List.of("D | 1 | return book | 2025-01-06", "T | 0 | borrow book"),
+                toStorageStrings(BinaryTaskCodec.read(file.toFile()))
+        );
+    }
+
+    @Test
+    public void read_invalidHeader_exceptionThrown() throws EclipseException, IOException {
+        Path file = this.tempDir.resolve("tasks.bin");
+        Files.write(file, new byte[] {'E', 'C', 'L', 'X', 2, 0, 0, 0, 0});
+
+        assertFalse(BinaryTaskCodec.isBinary(file.toFile()));
+        EclipseException e = assertThrows(EclipseException.class, () -> BinaryTaskCodec.read(file.toFile()));
+        assertTrue(e.getMessage().startsWith("Not a binary task file"), e.getMessage());
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws IOException {
+        Path file = this.tempDir.resolve("tasks.bin");
+        Files.write(file, new byte[] {'E', 'C', 'L', 'B', 3, 0, 0, 0, 0});
+
+        EclipseException e = assertThrows(EclipseException.class, () -> BinaryTaskCodec.read(file.toFile()));
+        assertTrue(e.getMessage().startsWith("Unsupported binary task file version 3"), e.getMessage());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws EclipseException, IOException {
+        File file = this.tempDir.resolve("tasks.bin").toFile();
+        BinaryTaskCodec.write(file, List.of(new Todo("borrow book"), new Todo("return book")));
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 3));
+
+        EclipseException e = assertThrows(EclipseException.class, () -> BinaryTaskCodec.read(file));
+        assertTrue(e.getMessage().contains("unexpected end of file"), e.getMessage());
+    }
+
+    private static void writeDescription(DataOutputStream output, String description) throws IOException {
+        byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+        output.writeByte(bytes.length);
+        output.write(bytes);
+    }
+
+    private static List<String> toStorageStrings(List<Task> tasks) {
+        List<String> storageStrings = new ArrayList<>();
+        for (Task task : tasks) {
+            storageStrings.add(task.toStorageString());
+        }
+        return storageStrings;
+    }
+}
@@ -0,0 +1,179 @@
+package eclipse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.exceptions.StorageCompactionException;
+import eclipse.task.Recurrence;
+import eclipse.task.RecurringTask;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+public class JournaledStorageTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void readTasks_afterSavedMutations_replaysJournal() throws EclipseException {
+        JournaledStorage storage = this.createStorage(100);
+        List<Task> tasks = storage.readTasks();
+
+        tasks.add(new Todo("borrow book"));
+        tasks.add(new Todo("return book"));
+        tasks.get(0).markAsDone();
+        storage.save(tasks, List.of(
+                Mutation.add(new Todo("borrow book")),
+                Mutation.add(new Todo("return book")),
+                Mutation.mark(0)
+        ));
+        tasks.remove(1);
+        storage.save(tasks, List.of(Mutation.delete(1)));
+
+        List<Task> reloadedTasks = this.createStorage(100).readTasks();
+        assertEquals(toStorageStrings(tasks), toStorageStrings(reloadedTasks));
+        assertEquals(List.of("T | 1 | borrow book"), toStorageStrings(reloadedTasks));
+    }
+
+    @Test
+    public void readTasks_replacedRecurringTask_replaysSkip() throws EclipseException {
+        JournaledStorage storage = this.createStorage(100);
+        List<Task> tasks = storage.readTasks();
+        LocalDate monday = LocalDate.of(2025, 1, 6);
+        RecurringTask rent = new RecurringTask(
+                "pay rent", false, monday, new Recurrence(Recurrence.Frequency.WEEKLY, monday.plusDays(21))
+        );
+        tasks.add(new Todo("borrow book"));
+        tasks.add(rent);
+        storage.save(tasks, List.of(Mutation.add(new Todo("borrow book")), Mutation.add(rent)));
+
+        RecurringTask skippedRent = rent.withSkipped(monday.plusDays(7));
+        tasks.set(1, skippedRent);
+        storage.save(tasks, List.of(Mutation.replace(1, skippedRent)));
+
+        List<Task> reloadedTasks = this.createStorage(100).readTasks();
+        assertEquals(toStorageStrings(tasks), toStorageStrings(reloadedTasks));
+        assertEquals(
+                "R | 0 | pay rent | 2025-01-06 | every week until 2025-01-27 skip 2025-01-13",
+                reloadedTasks.get(1).toStorageString()
+        );
+    }
+
+    @Test
+    public void save_pastThreshold_compactsIntoSnapshot() throws EclipseException, IOException {
+        JournaledStorage storage = this.createStorage(2);
+        List<Task> tasks = storage.readTasks();
+
+        List<Mutation> mutations = new ArrayList<>();
+        for (int taskIdx = 0; taskIdx < 3; taskIdx++) {
+            Task task = new Todo("task " + taskIdx);
+            tasks.add(task);
+            mutations.add(Mutation.add(task));
+        }
+        storage.save(tasks, mutations);
+
+        assertEquals(
+                List.of("T | 0 | task 0", "T | 0 | task 1", "T | 0 | task 2"),
+                Files.readAllLines(this.tempDir.resolve("tasks.txt"))
+        );
+        List<String> journalLines = Files.readAllLines(this.tempDir.resolve("tasks.journal"));
+        assertEquals(1, journalLines.size(), "the compacted journal should only hold its header");
+        assertEquals(toStorageStrings(tasks), toStorageStrings(this.createStorage(2).readTasks()));
+    }
+
+    @Test
+    public void save_compactionFailed_appendedMutationsKeptOnce() throws EclipseException, IOException {
+        JournaledStorage storage = this.createStorage(1);
+        List<Task> tasks = storage.readTasks();
+        tasks.add(new Todo("borrow book"));
+        storage.save(tasks, List.of(Mutation.add(new Todo("borrow book"))));
+
+        // A directory in the way of the temporary snapshot fails every compaction, like a full disk
+        Path blockedTempFile = Files.createDirectory(this.tempDir.resolve("tasks.txt.tmp"));
+        tasks.add(new Todo("return book"));
+        assertThrows(StorageCompactionException.class,
+                () -> storage.save(tasks, List.of(Mutation.add(new Todo("return book")))));
+        tasks.add(new Todo("read book"));
+        assertThrows(StorageCompactionException.class,
+                () -> storage.save(tasks, List.of(Mutation.add(new Todo("read book")))));
+        assertEquals(toStorageStrings(tasks), toStorageStrings(this.createStorage(100).readTasks()));
+
+        // The next save retries the compaction
+        Files.delete(blockedTempFile);
+        tasks.get(0).markAsDone();
+        storage.save(tasks, List.of(Mutation.mark(0)));
+        assertEquals(toStorageStrings(tasks), Files.readAllLines(this.tempDir.resolve("tasks.txt")));
+        assertEquals(toStorageStrings(tasks), toStorageStrings(this.createStorage(1).readTasks()));
+    }
+
+    @Test
+    public void readTasks_truncatedLastRecord_dropsTornWrite() throws EclipseException, IOException {
+        JournaledStorage storage = this.createStorage(100);
+        List<Task> tasks = storage.readTasks();
+        tasks.add(new Todo("borrow book"));
+        storage.save(tasks, List.of(Mutation.add(new Todo("borrow book"))));
+
+        // A crash in the middle of an append leaves part of a record without its line separator
+        Files.writeString(this.tempDir.resolve("tasks.journal"), "ADD T | 0 | ret", StandardOpenOption.APPEND);
+
+        JournaledStorage reloadedStorage = this.createStorage(100);
+        List<Task> reloadedTasks = reloadedStorage.readTasks();
+        assertEquals(List.of("T | 0 | borrow book"), toStorageStrings(reloadedTasks));
+
+        // The torn record must not be continued by the next append
+        reloadedTasks.add(new Todo("return book"));
+        reloadedStorage.save(reloadedTasks, List.of(Mutation.add(new Todo("return book"))));
+        assertEquals(
+                List.of("T | 0 | borrow book", "T | 0 | return book"),
+                toStorageStrings(this.createStorage(100).readTasks())
+        );
+    }
+
+    @Test
+    public void readTasks_corruptedRecordBeforeLast_exceptionThrown() throws EclipseException, IOException {
+        JournaledStorage storage = this.createStorage(100);
+        List<Task> tasks = storage.readTasks();
+        tasks.add(new Todo("borrow book"));
+        storage.save(tasks, List.of(Mutation.add(new Todo("borrow book"))));
+
+        Files.writeString(this.tempDir.resolve("tasks.journal"), "MARK x\nMARK 0\n", StandardOpenOption.APPEND);
+
+        assertThrows(EclipseException.class, () -> this.createStorage(100).readTasks());
+    }
+
+    @Test
+    public void readTasks_journalOfReplacedSnapshot_ignored() throws EclipseException, IOException {
+        JournaledStorage storage = this.createStorage(100);
+        List<Task> tasks = storage.readTasks();
+        tasks.add(new Todo("borrow book"));
+        storage.save(tasks, List.of(Mutation.add(new Todo("borrow book"))));
+
+        // The snapshot was replaced, e.g. by a compaction whose journal reset never happened
+        Files.writeString(this.tempDir.resolve("tasks.txt"), "T | 1 | borrow book\n");
+
+        assertEquals(List.of("T | 1 | borrow book"), toStorageStrings(this.createStorage(100).readTasks()));
+    }
+
+    private JournaledStorage createStorage(int compactionThreshold) {
+        return new JournaledStorage(new StorageParser(), this.tempDir.toString(), compactionThreshold);
+    }
+
+    private static List<String> toStorageStrings(List<Task> tasks) {
+        List<String> storageStrings = new ArrayList<>();
+        for (Task task : tasks) {
+            storageStrings.add(task.toStorageString());
+        }
+        return storageStrings;
+    }
+}
@@ -0,0 +1,155 @@
+package eclipse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eclipse.exceptions.EclipseException;
+import eclipse.task.Deadline;
+import eclipse.task.Event;
+import eclipse.task.Task;
+import eclipse.task.Todo;
+
+public class ParallelTaskLoaderTest {
+    private static final int[] CHUNK_SIZES = {1, 2, 3, 7, 16, 64, 1024};
+    private static final String[] SEPARATORS = {"\n", "\r\n", "\r"};
+
+    @TempDir
+    Path tempDir;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutDownPool() {
+        this.pool.shutdownNow();
+    }
+
+    /**
+     * Writes random task files, mixing line separators, blank lines and non-ASCII descriptions,
+     * and checks that loading them in chunks of every size gives the same tasks and line count
+     * as the sequential load of {@link Storage}.
+     */
+    @Test
+    public void load_randomFilesTinyChunks_matchesSequentialLoad() throws EclipseException, IOException {
+        Random random = new Random(3);
+        for (int fileIdx = 0; fileIdx < 30; fileIdx++) {
+            File file = this.writeTaskFile(randomContent(random));
+            Storage storage = this.createStorage();
+            List<Task> expectedTasks = storage.readTasks();
+            long expectedLineCount = storage.getLastLoadStatistics().getLineCount();
+
+            for (int chunkSize : CHUNK_SIZES) {
+                ParallelTaskLoader loader = new ParallelTaskLoader(new StorageParser(), this.pool, chunkSize);
+                List<Task> tasks = loader.load(file);
+                String context = "file " + fileIdx + ", chunk size " + chunkSize;
+                assertEquals(toStorageStrings(expectedTasks), toStorageStrings(tasks), context);
+                assertEquals(expectedLineCount, loader.getLastLoadStatistics().getLineCount(), context);
+                assertEquals(tasks.size(), loader.getLastLoadStatistics().getTaskCount(), context);
+            }
+        }
+    }
+
+    @Test
+    public void load_crlfLines_eachCountedOnce() throws EclipseException, IOException {
+        File file = this.writeTaskFile("T | 0 | borrow book\r\n\r\nT | 1 | return book\r\n");
+        ParallelTaskLoader loader = new ParallelTaskLoader(new StorageParser(), this.pool, 1);
+
+        assertEquals(List.of("T | 0 | borrow book", "T | 1 | return book"), toStorageStrings(loader.load(file)));
+        assertEquals(3, loader.getLastLoadStatistics().getLineCount());
+    }
+
+    @Test
+    public void load_corruptedLinesInSeveralChunks_firstErrorReported() throws IOException {
+        File file = this.writeTaskFile("T | 0 | borrow book\nfirst bad line\nT | 1 | return book\nsecond bad line\n");
+        EclipseException expected = assertThrows(EclipseException.class, () -> this.createStorage().readTasks());
+
+        for (int chunkSize : CHUNK_SIZES) {
+            ParallelTaskLoader loader = new ParallelTaskLoader(new StorageParser(), this.pool, chunkSize);
+            EclipseException actual = assertThrows(EclipseException.class, () -> loader.load(file));
+            assertEquals(expected.getMessage(), actual.getMessage(), "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    public void load_emptyFile_oneEmptyChunk() throws EclipseException, IOException {
+        File file = this.writeTaskFile("");
+        ParallelTaskLoader loader = new ParallelTaskLoader(new StorageParser(), this.pool, 1);
+
+        assertEquals(List.of(), loader.load(file));
+        assertEquals(1, loader.getLastLoadStatistics().getChunkCount());
+        assertEquals(0, loader.getLastLoadStatistics().getLineCount());
+    }
+
+    private static String randomContent(Random random) {
+        StringBuilder content = new StringBuilder();
+        int lineCount = random.nextInt(12);
+        for (int lineIdx = 0; lineIdx < lineCount; lineIdx++) {
+            if (random.nextInt(5) == 0) {
+                content.append(random.nextBoolean() ? "" : "  ");
+            } else {
+                content.append(randomTask(random).toStorageString());
+            }
+            content.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+        }
+        // Scanner stops counting at the last task, so the file always ends with one
+        content.append(randomTask(random).toStorageString());
+        if (random.nextBoolean()) {
+            content.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+        }
+        return content.toString();
+    }
+
+    private static Task randomTask(Random random) {
+        String description = (random.nextBoolean() ? "caf\u00e9 " : "book ") + random.nextInt(100);
+        LocalDate date = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(60));
+        Task task;
+        switch (random.nextInt(3)) {
+        case 0:
+            task = new Todo(description);
+            break;
+        case 1:
+            task = new Deadline(description, date);
+            break;
+        default:
+            task = new Event(description, date, date.plusDays(random.nextInt(3)));
+            break;
+        }
+        if (random.nextBoolean()) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    private File writeTaskFile(String content) throws IOException {
+        Path path = this.tempDir.resolve("tasks.txt");
+        // Encoded like FileWriter writes the task file, with the default charset and no errors on unmappable characters
+        Files.write(path, content.getBytes(Charset.defaultCharset()));
+        return path.toFile();
+    }
+
+    private Storage createStorage() {
+        return new Storage(new StorageParser(), this.tempDir.toString());
+    }
+
+    private static List<String> toStorageStrings(List<Task> tasks) {
+        List<String> storageStrings = new ArrayList<>();
+        for (Task task : tasks) {
+            storageStrings.add(task.toStorageString());
+        }
+        return storageStrings;
+    }
+}
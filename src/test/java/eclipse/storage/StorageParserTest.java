@@ -1,6 +1,7 @@
 package eclipse.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.LocalDate;
@@ -108,4 +109,65 @@ public class StorageParserTest {
             );
         }
     }
+
+    @Test
+    public void parseStoredLine_fastPathAndRegex_sameResult() {
+        String[] storedLines = {
+            "A | 3 | return book\n",
+            "T | 1 | return book\n",
+            "T | 3 | return book\n",
+            " \n D | 0 | return book | 2026-01-24\n",
+            " D | 0  | return book | 2026-01-24",
+            " \n E | 0 | return book | 2026-01-24=>2026-01-25\n",
+            " E | 0 | return book | 2026-01-240=>2026-01-25",
+            "T | 0 | a | b | c",
+            "D | 1 | return book | 2026-02-30",
+            "D | 1 | return | book | 2026-01-24",
+            "D | 0 | | 2026-01-24",
+            "D | 1 | return book\t|\t2026-01-24",
+            "E | 1 | return book | 2026-01-24=>2026-01-25=>2026-01-26",
+        };
+
+        for (String storedLine : storedLines) {
+            assertEquals(
+                    describeResult(() -> storageParser.parseStoredLineWithRegex(storedLine)),
+                    describeResult(() -> storageParser.parseStoredLine(storedLine)),
+                    "fast path and regex parser to agree on: " + storedLine
+            );
+        }
+    }
+
+    @Test
+    public void decodeStoredLine_validLines_decodedWithoutRegex() {
+        assertNotNull(StorageParser.decodeStoredLine("T | 1 | return book"));
+        assertNotNull(StorageParser.decodeStoredLine(" \n D | 0 | return book | 2026-01-24\n"));
+        assertNotNull(StorageParser.decodeStoredLine("E | 0 | return book | 2026-01-24=>2026-01-25"));
+    }
+
+    @Test
+    public void parseStoredLine_recurringTask_roundTrip() throws EclipseException {
+        String storedRecurringLine = "R | 0 | team meeting | 2025-01-06=>2025-01-07 | every week skip 2025-01-13 2025-01-27";
+        Task task = storageParser.parseStoredLine(storedRecurringLine);
+        assertEquals(storedRecurringLine, task.toStorageString());
+        assertEquals(
+                "[R][ ] team meeting (from: Jan 6 2025 to: Jan 7 2025, every week, 2 skipped)",
+                task.toString()
+        );
+    }
+
+    private interface ParseAction {
+        Task parse() throws EclipseException;
+    }
+
+    /**
+     * Describes the outcome of a parse, so that tasks and error messages can be compared in one assertion.
+     */
+    private static String describeResult(ParseAction parseAction) {
+        try {
+            Task task = parseAction.parse();
+            return task.getClass().getSimpleName() + ": " + task + " / " + task.toStorageString();
+        } catch (EclipseException e) {
+            return "EclipseException: " + e.getMessage();
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package eclipse.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import eclipse.exceptions.EclipseException;
+
+public class RecurringTaskTest {
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+
+    @Test
+    public void getOccurrencesBetween_until_lastOccurrenceStartsOnUntil() {
+        RecurringTask task = new RecurringTask(
+                "pay rent", false, MONDAY, new Recurrence(Recurrence.Frequency.WEEKLY, MONDAY.plusDays(22))
+        );
+
+        assertEquals(4, task.countOccurrencesBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(
+                List.of(MONDAY, MONDAY.plusDays(7), MONDAY.plusDays(14), MONDAY.plusDays(21)),
+                startsOf(task.getOccurrencesBetween(LocalDate.MIN, LocalDate.MAX, 10))
+        );
+        assertEquals(0, task.countOccurrencesBetween(MONDAY.plusDays(22), LocalDate.MAX));
+        assertTrue(task.getNextOccurrence(MONDAY.plusDays(22)).isEmpty());
+    }
+
+    @Test
+    public void countOccurrencesBetween_eventStartingOnUntil_foundUntilItEnds() {
+        Recurrence recurrence = new Recurrence(Recurrence.Frequency.WEEKLY, MONDAY.plusDays(7));
+        RecurringTask task = new RecurringTask("camp", false, MONDAY, MONDAY.plusDays(2), recurrence);
+
+        assertEquals(1, task.countOccurrencesBetween(MONDAY.plusDays(9), MONDAY.plusDays(9)));
+        assertEquals(0, task.countOccurrencesBetween(MONDAY.plusDays(10), LocalDate.MAX));
+        assertEquals(
+                List.of(new Event("camp", false, MONDAY.plusDays(7), MONDAY.plusDays(9)).toStorageString()),
+                storageStringsOf(task.getOccurrencesBetween(MONDAY.plusDays(9), LocalDate.MAX, 10))
+        );
+    }
+
+    @Test
+    public void withSkipped_occurrence_skippedInCopyWithSameIdAndState() throws EclipseException {
+        RecurringTask task = new RecurringTask(
+                "stand-up", true, MONDAY, new Recurrence(Recurrence.Frequency.DAILY, null)
+        );
+        task.setId(42);
+
+        RecurringTask skippedTask = task.withSkipped(MONDAY.plusDays(1));
+
+        assertEquals(42, skippedTask.getId());
+        assertTrue(skippedTask.isDone());
+        assertEquals(3, task.countOccurrencesBetween(MONDAY, MONDAY.plusDays(2)));
+        assertEquals(2, skippedTask.countOccurrencesBetween(MONDAY, MONDAY.plusDays(2)));
+        assertEquals(MONDAY.plusDays(2), skippedTask.getNextStart(MONDAY.plusDays(1)).get());
+    }
+
+    @Test
+    public void withSkipped_notAnOccurrence_exceptionThrown() throws EclipseException {
+        RecurringTask task = new RecurringTask(
+                "pay rent", false, MONDAY, new Recurrence(Recurrence.Frequency.WEEKLY, MONDAY.plusDays(14))
+        );
+
+        assertThrows(EclipseException.class, () -> task.withSkipped(MONDAY.plusDays(1)));
+        assertThrows(EclipseException.class, () -> task.withSkipped(MONDAY.minusDays(7)));
+        assertThrows(EclipseException.class, () -> task.withSkipped(MONDAY.plusDays(21)));
+        RecurringTask skippedTask = task.withSkipped(MONDAY.plusDays(14));
+        assertThrows(EclipseException.class, () -> skippedTask.withSkipped(MONDAY.plusDays(14)));
+    }
+
+    /**
+     * Counts and lists occurrences of random series, with and without an end and skipped occurrences,
+     * against the occurrences found by walking every day.
+     */
+    @Test
+    public void countOccurrencesBetween_randomSeries_matchesDayByDayWalk() throws EclipseException {
+        Random random = new Random(23);
+        for (int seriesIdx = 0; seriesIdx < 300; seriesIdx++) {
+            LocalDate start = MONDAY.plusDays(random.nextInt(60));
+            Recurrence.Frequency frequency = random.nextBoolean()
+                    ? Recurrence.Frequency.DAILY
+                    : Recurrence.Frequency.WEEKLY;
+            LocalDate until = random.nextInt(3) == 0 ? null : start.plusDays(random.nextInt(120) - 10);
+            LocalDate end = random.nextBoolean() ? null : start.plusDays(random.nextInt(10));
+            Recurrence recurrence = new Recurrence(frequency, until);
+            RecurringTask task = new RecurringTask("series " + seriesIdx, false, start, end, recurrence);
+
+            List<LocalDate> starts = new ArrayList<>();
+            for (LocalDate day = start; day.isBefore(MONDAY.plusDays(400)); day = day.plusDays(frequency.getDays())) {
+                if (until == null || !day.isAfter(until)) {
+                    starts.add(day);
+                }
+            }
+            for (int skipIdx = 0; skipIdx < 3 && !starts.isEmpty(); skipIdx++) {
+                LocalDate skippedDay = starts.remove(random.nextInt(starts.size()));
+                task = task.withSkipped(skippedDay);
+            }
+
+            long durationDays = end == null ? 0 : end.toEpochDay() - start.toEpochDay();
+            for (int queryIdx = 0; queryIdx < 20; queryIdx++) {
+                LocalDate from = MONDAY.plusDays(random.nextInt(200) - 20);
+                LocalDate to = from.plusDays(random.nextInt(30));
+                List<LocalDate> expectedStarts = new ArrayList<>();
+                for (LocalDate occurrenceStart : starts) {
+                    boolean isOverlapping = !occurrenceStart.isAfter(to)
+                            && !occurrenceStart.plusDays(durationDays).isBefore(from);
+                    if (isOverlapping) {
+                        expectedStarts.add(occurrenceStart);
+                    }
+                }
+
+                String message = task.toStorageString() + " between " + from + " and " + to;
+                assertEquals(expectedStarts.size(), task.countOccurrencesBetween(from, to), message);
+                List<Task> occurrences = task.getOccurrencesBetween(from, to, Integer.MAX_VALUE);
+                assertEquals(expectedStarts, startsOf(occurrences), message);
+            }
+        }
+    }
+
+    private static List<LocalDate> startsOf(List<Task> occurrences) {
+        List<LocalDate> starts = new ArrayList<>();
+        for (Task occurrence : occurrences) {
+            if (occurrence instanceof Deadline) {
+                starts.add(((Deadline) occurrence).getBy());
+            } else {
+                starts.add(((Event) occurrence).getFrom());
+            }
+        }
+        return starts;
+    }
+
+    private static List<String> storageStringsOf(List<Task> tasks) {
+        List<String> storageStrings = new ArrayList<>();
+        for (Task task : tasks) {
+            storageStrings.add(task.toStorageString());
+        }
+        return storageStrings;
+    }
+}
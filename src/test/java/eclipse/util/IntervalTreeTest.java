@@ -0,0 +1,94 @@
+package eclipse.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntervalTreeTest {
+    private static final int OPERATIONS = 5_000;
+    private static final int MAX_DAY = 1_000;
+
+    private static class Interval {
+        private final long start;
+        private final long end;
+
+        private Interval(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Applies the same random additions and removals to the tree and to a plain list,
+     * and checks every query against a scan of the list.
+     */
+    @Test
+    public void randomOperations_matchScan() {
+        Random random = new Random(7);
+        IntervalTree<Interval> tree = new IntervalTree<>();
+        List<Interval> oracle = new ArrayList<>();
+
+        for (int operationIdx = 0; operationIdx < OPERATIONS; operationIdx++) {
+            if (oracle.isEmpty() || random.nextInt(3) > 0) {
+                long start = random.nextInt(MAX_DAY);
+                // Mostly short intervals, with the occasional long one spanning many queries
+                long length = random.nextInt(10) == 0 ? random.nextInt(MAX_DAY) : random.nextInt(5);
+                Interval interval = new Interval(start, start + length);
+                tree.add(interval.start, interval.end, interval);
+                oracle.add(interval);
+            } else {
+                Interval interval = oracle.remove(random.nextInt(oracle.size()));
+                assertTrue(tree.remove(interval.start, interval));
+            }
+            assertEquals(oracle.size(), tree.size());
+
+            long from = random.nextInt(MAX_DAY);
+            long to = from + random.nextInt(20);
+            List<Interval> expected = new ArrayList<>();
+            for (Interval interval : oracle) {
+                if (interval.start <= to && interval.end >= from) {
+                    expected.add(interval);
+                }
+            }
+            List<Interval> actual = tree.findOverlapping(from, to);
+
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+            for (int idx = 1; idx < actual.size(); idx++) {
+                assertTrue(actual.get(idx - 1).start <= actual.get(idx).start, "not ordered by start");
+            }
+        }
+    }
+
+    @Test
+    public void remove_sameIntervalForTwoValues_removesOnlyGivenValue() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        String first = new String("meeting");
+        String second = new String("meeting");
+        tree.add(5, 8, first);
+        tree.add(5, 8, second);
+
+        assertFalse(tree.remove(6, first));
+        assertTrue(tree.remove(5, first));
+        assertFalse(tree.remove(5, first));
+
+        List<String> remaining = tree.findOverlapping(0, 10);
+        assertEquals(1, remaining.size());
+        assertTrue(remaining.get(0) == second);
+    }
+
+    @Test
+    public void add_endBeforeStart_exceptionThrown() {
+        IntervalTree<String> tree = new IntervalTree<>();
+
+        assertThrows(IllegalArgumentException.class, () -> tree.add(5, 4, "backwards"));
+        assertEquals(0, tree.size());
+    }
+}
@@ -0,0 +1,128 @@
+package eclipse.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionalListTest {
+    private static final int OPERATIONS = 20_000;
+
+    /**
+     * Applies the same random inserts, removals and replacements to the list and to an ArrayList,
+     * and checks that both agree on every element and position throughout.
+     */
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(42);
+        PositionalList<Object> list = new PositionalList<>();
+        List<Object> oracle = new ArrayList<>();
+
+        for (int operationIdx = 0; operationIdx < OPERATIONS; operationIdx++) {
+            int choice = random.nextInt(10);
+            if (oracle.isEmpty() || choice < 5) {
+                int index = random.nextInt(oracle.size() + 1);
+                Object element = new Object();
+                list.add(index, element);
+                oracle.add(index, element);
+            } else if (choice < 8) {
+                int index = random.nextInt(oracle.size());
+                assertEquals(oracle.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(oracle.size());
+                Object element = new Object();
+                assertEquals(oracle.set(index, element), list.set(index, element));
+            }
+
+            assertEquals(oracle.size(), list.size());
+            if (!oracle.isEmpty()) {
+                int index = random.nextInt(oracle.size());
+                assertEquals(oracle.get(index), list.get(index));
+                assertEquals(index, list.positionOf(oracle.get(index)));
+            }
+        }
+
+        assertEquals(oracle, new ArrayList<>(list));
+        for (int index = 0; index <= oracle.size(); index += 97) {
+            List<Object> window = new ArrayList<>();
+            Iterator<Object> iterator = list.iteratorFrom(index);
+            while (iterator.hasNext()) {
+                window.add(iterator.next());
+            }
+            assertEquals(oracle.subList(index, oracle.size()), window);
+        }
+    }
+
+    /**
+     * Keeps the list sorted by inserting at the lower bound of each new element, with many duplicates,
+     * and checks every lower bound against a count over a sorted ArrayList.
+     */
+    @Test
+    public void lowerBound_randomSortedInsertsAndRemovals_matchArrayList() {
+        Random random = new Random(7);
+        Comparator<int[]> byValue = Comparator.comparingInt((int[] element) -> element[0]);
+        PositionalList<int[]> list = new PositionalList<>();
+        List<int[]> oracle = new ArrayList<>();
+
+        for (int operationIdx = 0; operationIdx < OPERATIONS; operationIdx++) {
+            int[] probe = {random.nextInt(102) - 1};
+            int expectedBound = 0;
+            while (expectedBound < oracle.size() && oracle.get(expectedBound)[0] < probe[0]) {
+                expectedBound++;
+            }
+            assertEquals(expectedBound, list.lowerBound(probe, byValue));
+
+            if (oracle.isEmpty() || random.nextInt(10) < 6) {
+                list.add(expectedBound, probe);
+                oracle.add(expectedBound, probe);
+            } else {
+                int index = random.nextInt(oracle.size());
+                assertEquals(oracle.remove(index), list.remove(index));
+            }
+        }
+
+        assertEquals(oracle, new ArrayList<>(list));
+        int[] beforeAll = {-1};
+        int[] afterAll = {101};
+        assertEquals(0, list.lowerBound(beforeAll, byValue));
+        assertEquals(list.size(), list.lowerBound(afterAll, byValue));
+    }
+
+    @Test
+    public void positionOf_removedOrEqualButNotSame_notFound() {
+        PositionalList<String> list = new PositionalList<>(List.of(new String("a"), new String("b")));
+        String removed = list.remove(0);
+
+        assertEquals(-1, list.positionOf(removed));
+        assertEquals(-1, list.positionOf(new String("b")));
+        assertEquals(0, list.positionOf(list.get(0)));
+    }
+
+    @Test
+    public void add_sameInstanceTwice_exceptionThrown() {
+        Object element = new Object();
+        PositionalList<Object> list = new PositionalList<>(List.of(element, new Object()));
+
+        assertThrows(IllegalArgumentException.class, () -> list.add(element));
+        assertThrows(IllegalArgumentException.class, () -> list.set(1, element));
+        assertEquals(element, list.set(0, element), "setting an element in its own place has no effect");
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    public void iteratorFrom_listChanged_exceptionThrown() {
+        PositionalList<Object> list = new PositionalList<>(List.of(new Object(), new Object()));
+        Iterator<Object> iterator = list.iteratorFrom(0);
+        list.add(new Object());
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.iteratorFrom(4));
+    }
+}
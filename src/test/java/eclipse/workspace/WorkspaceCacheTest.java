@@ -0,0 +1,161 @@
+package eclipse.workspace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eclipse.Eclipse;
+import eclipse.exceptions.EclipseException;
+import eclipse.storage.Mutation;
+import eclipse.storage.Storage;
+import eclipse.storage.StorageParser;
+import eclipse.task.Task;
+
+public class WorkspaceCacheTest {
+    @TempDir
+    Path tempDir;
+
+    private final CountDownLatch saveStarted = new CountDownLatch(1);
+    private final CountDownLatch saveAllowed = new CountDownLatch(1);
+
+    /**
+     * A storage whose saves wait until the test allows them.
+     */
+    private class BlockingStorage extends Storage {
+        BlockingStorage(Path dirPath) {
+            super(new StorageParser(), dirPath.toString());
+        }
+
+        @Override
+        public void save(List<Task> tasks, List<Mutation> mutations) throws EclipseException {
+            WorkspaceCacheTest.this.saveStarted.countDown();
+            try {
+                WorkspaceCacheTest.this.saveAllowed.await();
+            } catch (InterruptedException e) {
+                throw new EclipseException("Interrupted while saving", e);
+            }
+            super.save(tasks, mutations);
+        }
+    }
+
+    /**
+     * Workspace <code>a</code> is evicted with a change still to be saved, whose save blocks.
+     * Other workspaces stay usable meanwhile, while acquiring <code>a</code> again waits for the save,
+     * so that it is loaded with the change.
+     */
+    @Test
+    public void acquire_evictedWorkspaceSaving_cacheUsableAndReloadWaits() throws Exception {
+        WorkspaceCache cache = new WorkspaceCache(this.tempDir, 1, dirPath -> {
+            Eclipse chatbot = new Eclipse(new BlockingStorage(dirPath));
+            // Long enough that changes are only saved when the workspace is closed
+            chatbot.startBackgroundSaving(60_000, 60_000);
+            return chatbot;
+        });
+        cache.acquire("a").handleInput("todo borrow book");
+        cache.release("a");
+
+        Thread evictingSession = new Thread(() -> runInWorkspace(cache, "b"));
+        Thread reloadingSession;
+        Eclipse[] reloaded = new Eclipse[1];
+        try {
+            evictingSession.start();
+            assertTrue(this.saveStarted.await(10, TimeUnit.SECONDS));
+
+            Thread otherSession = new Thread(() -> runInWorkspace(cache, "c"));
+            otherSession.start();
+            otherSession.join(10_000);
+            assertFalse(otherSession.isAlive(), "the cache should not be held while a workspace is saved");
+
+            reloadingSession = new Thread(() -> {
+                try {
+                    reloaded[0] = cache.acquire("a");
+                } catch (EclipseException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            reloadingSession.start();
+            reloadingSession.join(200);
+            assertTrue(reloadingSession.isAlive(), "a workspace should not be loaded before it has been saved");
+        } finally {
+            // Lets every session finish, even if the cache is held while saving
+            this.saveAllowed.countDown();
+        }
+
+        reloadingSession.join(10_000);
+        evictingSession.join(10_000);
+        assertFalse(reloadingSession.isAlive());
+        assertEquals(1, reloaded[0].getNumberOfTasks());
+        cache.release("a");
+        cache.close();
+    }
+
+    /**
+     * Loading workspace <code>slow</code> blocks. Sessions in other workspaces keep going meanwhile,
+     * while a second session acquiring <code>slow</code> waits for the first load instead of loading it again.
+     */
+    @Test
+    public void acquire_workspaceLoading_otherWorkspacesUsableAndLoadedOnce() throws Exception {
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadAllowed = new CountDownLatch(1);
+        AtomicInteger slowLoadCount = new AtomicInteger();
+        WorkspaceCache cache = new WorkspaceCache(this.tempDir, 4, dirPath -> {
+            if (dirPath.getFileName().toString().equals("slow")) {
+                slowLoadCount.incrementAndGet();
+                loadStarted.countDown();
+                try {
+                    loadAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return new Eclipse(new Storage(new StorageParser(), dirPath.toString()));
+        });
+        cache.acquire("a");
+
+        Thread loadingSession = new Thread(() -> runInWorkspace(cache, "slow"));
+        Thread waitingSession = new Thread(() -> runInWorkspace(cache, "slow"));
+        try {
+            loadingSession.start();
+            assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+
+            Thread otherSession = new Thread(() -> {
+                cache.release("a");
+                runInWorkspace(cache, "b");
+            });
+            otherSession.start();
+            otherSession.join(10_000);
+            assertFalse(otherSession.isAlive(), "the cache should not be held while a workspace is loaded");
+
+            waitingSession.start();
+            waitingSession.join(200);
+            assertTrue(waitingSession.isAlive(), "a workspace should be taken once its first load is done");
+        } finally {
+            loadAllowed.countDown();
+        }
+
+        loadingSession.join(10_000);
+        waitingSession.join(10_000);
+        assertFalse(loadingSession.isAlive());
+        assertFalse(waitingSession.isAlive());
+        assertEquals(1, slowLoadCount.get());
+        cache.close();
+    }
+
+    private static void runInWorkspace(WorkspaceCache cache, String name) {
+        try {
+            cache.acquire(name);
+        } catch (EclipseException e) {
+            throw new IllegalStateException(e);
+        }
+        cache.release(name);
+    }
+}